@@ -0,0 +1,25 @@
+-- Migration: Add server-side chat session store (append-only messages per session)
+-- Run this script on your MySQL database
+
+USE healthy_table;
+
+-- 세션 ID + 순번으로 대화 메시지를 쌓기만 하고 수정하지 않음 (비로그인 대화는 user_id NULL)
+-- 보관 기간이 지난 행은 created_at 기준으로 주기적으로 삭제 (chat.session.retention-days, guest-retention-hours)
+CREATE TABLE chat_messages (
+  id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+  session_id CHAR(36) NOT NULL,
+  user_id    BIGINT NULL,
+  seq        INT NOT NULL,
+  role       VARCHAR(10) NOT NULL,
+  content    TEXT NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_chat_user
+    FOREIGN KEY (user_id) REFERENCES users(id)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_chat_session_seq (session_id, seq),
+  INDEX idx_chat_user (user_id),
+  INDEX idx_chat_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Verify the changes
+DESCRIBE chat_messages;
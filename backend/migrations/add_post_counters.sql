@@ -0,0 +1,18 @@
+-- Migration: Add denormalized like/comment counters to community_posts
+-- Run this script on your MySQL database
+
+USE healthy_table;
+
+-- Add counter columns
+ALTER TABLE community_posts
+ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0 AFTER image_url,
+ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0 AFTER like_count;
+
+-- Backfill from existing likes/comments (keep updated_at unchanged)
+UPDATE community_posts p
+SET p.like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id),
+    p.comment_count = (SELECT COUNT(*) FROM post_comments c WHERE c.post_id = p.id),
+    p.updated_at = p.updated_at;
+
+-- Verify the changes
+DESCRIBE community_posts;
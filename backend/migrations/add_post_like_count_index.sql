@@ -0,0 +1,10 @@
+-- Migration: Add like_count index for the popular post ranking rebuild
+-- Run this script on your MySQL database
+
+USE healthy_table;
+
+-- (like_count, created_at) 복합 인덱스: 인기 순위 재구성 시 좋아요 상위 N개만 역순 스캔
+CREATE INDEX idx_post_like_created ON community_posts(like_count, created_at);
+
+-- Verify the changes
+SHOW INDEX FROM community_posts;
@@ -0,0 +1,11 @@
+-- Migration: Add keyset pagination index for the public recipe share feed
+-- Run this script on your MySQL database
+
+USE healthy_table;
+
+-- (visibility, created_at) 복합 인덱스: /api/community/feed 커서 페이지네이션용
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (visibility, created_at, id) 순서로 스캔됩니다.
+CREATE INDEX idx_share_visibility_created ON recipe_shares(visibility, created_at);
+
+-- Verify the changes
+SHOW INDEX FROM recipe_shares;
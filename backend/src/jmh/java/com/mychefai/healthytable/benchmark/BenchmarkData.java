@@ -0,0 +1,223 @@
+package com.mychefai.healthytable.benchmark;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.Recipe;
+import com.mychefai.healthytable.dto.ChatDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 데이터 생성기 (고정 시드, 실행마다 같은 데이터)
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 20240101L;
+
+    public static final String[] INGREDIENTS = {
+            "김치", "돼지고기", "두부", "대파", "양파", "마늘", "고추장", "된장", "간장", "계란",
+            "감자", "당근", "애호박", "버섯", "소고기", "닭가슴살", "우유", "치즈", "밥", "김",
+            "참기름", "설탕", "소금", "후추", "고춧가루", "콩나물", "시금치", "오이", "토마토", "양배추",
+            "새우", "오징어", "고등어", "연어", "어묵", "떡", "라면", "스팸", "베이컨", "버터",
+            "밀가루", "빵가루", "땅콩", "호두", "사과", "바나나", "딸기", "블루베리", "요거트", "꿀"
+    };
+
+    public static final String[] CATEGORIES = {
+            "채소", "과일", "육류", "해산물", "유제품", "달걀", "두부", "조미료", "곡물", "냉동식품", "기타", null
+    };
+
+    private static final String[] DISHES = {"찌개", "볶음", "조림", "무침", "구이", "전", "덮밥", "샐러드", "국", "파스타"};
+
+    private static final String[] PREPARATIONS = {"다진", "냉동", "국산", "손질한", "삶은"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 게시글 ID id의 커뮤니티 게시글 (ID마다 고정된 내용, 재료 2~6개, 태그 1~3개)
+     */
+    public static CommunityPost post(long id) {
+        Random random = new Random(SEED ^ id);
+        List<String> ingredients = ingredients(random, 2 + random.nextInt(5));
+        String dish = ingredients.get(0) + DISHES[random.nextInt(DISHES.length)];
+        CommunityPost post = new CommunityPost();
+        post.setId(id);
+        post.setUserId(1 + random.nextLong(10_000));
+        post.setTitle(dish + " 만들었어요 " + id);
+        post.setContent("오늘은 " + dish + "를 만들어 봤어요. " + String.join(", ", ingredients)
+                + "을 넣고 " + (10 + random.nextInt(50)) + "분 정도 조리했습니다. 다음에는 "
+                + INGREDIENTS[random.nextInt(INGREDIENTS.length)] + "도 넣어볼게요!");
+        post.setIngredients(ingredients);
+        post.setTags(fridge(random, 1 + random.nextInt(3)));
+        post.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+        return post;
+    }
+
+    /**
+     * 재료 3~12개를 가진 레시피 count개
+     */
+    public static List<Recipe> recipes(int count) {
+        Random random = new Random(SEED);
+        List<Recipe> recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recipes.add(recipe(random, i, ingredients(random, 3 + random.nextInt(10))));
+        }
+        return recipes;
+    }
+
+    /**
+     * 재료 종류가 많은 카탈로그의 레시피 count개 (vocabulary에서 재료 3~8개, 자주 쓰는 재료 위주)
+     * 절반은 수량, 일부는 손질 표시가 붙습니다 (예: "다진 마늘", "마늘 20g").
+     */
+    public static List<Recipe> recipes(int count, String[] vocabulary) {
+        Random random = new Random(SEED);
+        List<Recipe> recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int size = 3 + random.nextInt(6);
+            List<String> ingredients = new ArrayList<>(size);
+            for (int k = 0; k < size; k++) {
+                String name = pick(random, vocabulary);
+                if (random.nextInt(100) < 15) {
+                    name = PREPARATIONS[random.nextInt(PREPARATIONS.length)] + " " + name;
+                }
+                ingredients.add(random.nextBoolean() ? name : name + " " + (1 + random.nextInt(300)) + "g");
+            }
+            recipes.add(recipe(random, i, ingredients));
+        }
+        return recipes;
+    }
+
+    /**
+     * 서로 다른 재료 이름 size개 (앞 50개는 INGREDIENTS, 나머지는 2~3음절 한글 이름)
+     * 앞쪽일수록 자주 쓰는 재료로 취급합니다.
+     */
+    public static String[] vocabulary(int size) {
+        Random random = new Random(SEED + 2);
+        Set<String> names = new LinkedHashSet<>(Arrays.asList(INGREDIENTS));
+        // 받침 없음/ㄴ/ㄹ/ㅁ/ㅇ, 모음 8개로 음절 후보를 줄여 실제 이름처럼 음절이 겹치게 함
+        int[] medials = {0, 4, 8, 13, 18, 20, 2, 6};
+        int[] finals = {0, 4, 8, 16, 21};
+        while (names.size() < size) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(2);
+            for (int i = 0; i < syllables; i++) {
+                int initial = random.nextInt(19);
+                int medial = medials[random.nextInt(medials.length)];
+                int fin = finals[random.nextInt(finals.length)];
+                name.append((char) (0xAC00 + (initial * 21 + medial) * 28 + fin));
+            }
+            names.add(name.toString());
+        }
+        return names.stream().limit(size).toArray(String[]::new);
+    }
+
+    /**
+     * vocabulary에서 고른 냉장고 재료 이름 count개 (수량 없이, 자주 쓰는 재료 위주)
+     */
+    public static List<String> fridge(Random random, String[] vocabulary, int count) {
+        List<String> fridge = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fridge.add(pick(random, vocabulary));
+        }
+        return fridge;
+    }
+
+    // 앞쪽 재료일수록 자주 뽑힘 (순번 ~ vocabulary.length * r^2)
+    private static String pick(Random random, String[] vocabulary) {
+        double r = random.nextDouble();
+        return vocabulary[(int) (vocabulary.length * r * r)];
+    }
+
+    private static Recipe recipe(Random random, int i, List<String> ingredients) {
+        Recipe recipe = new Recipe();
+        recipe.setId((long) i + 1);
+        recipe.setTitle(ingredients.get(0) + DISHES[random.nextInt(DISHES.length)] + " " + i);
+        recipe.setDescription("벤치마크 레시피 " + i);
+        recipe.setIngredients(ingredients);
+        recipe.setSteps(List.of("재료를 손질한다", "볶는다", "간을 맞춘다"));
+        recipe.setCalories(200 + random.nextInt(600));
+        recipe.setDifficulty(1 + random.nextInt(3));
+        recipe.setCookingTime(10 + random.nextInt(50));
+        recipe.setAverageRating(3 + random.nextDouble() * 2);
+        recipe.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return recipe;
+    }
+
+    /**
+     * 수량/단위가 붙은 재료 이름 count개 (예: "돼지고기 200g")
+     */
+    public static List<String> ingredients(Random random, int count) {
+        List<String> ingredients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = INGREDIENTS[random.nextInt(INGREDIENTS.length)];
+            ingredients.add(random.nextBoolean() ? name : name + " " + (1 + random.nextInt(300)) + "g");
+        }
+        return ingredients;
+    }
+
+    /**
+     * 냉장고 재료 이름 count개 (수량 없이)
+     */
+    public static List<String> fridge(Random random, int count) {
+        List<String> fridge = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fridge.add(INGREDIENTS[random.nextInt(INGREDIENTS.length)]);
+        }
+        return fridge;
+    }
+
+    /**
+     * 식단 기록 mealDetails JSON (끼니 -> 메뉴/칼로리)
+     */
+    public static String mealDetailsJson(Random random, String... meals) {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < meals.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(meals[i]).append("\":{\"menu\":\"")
+                    .append(INGREDIENTS[random.nextInt(INGREDIENTS.length)])
+                    .append(DISHES[random.nextInt(DISHES.length)])
+                    .append("\",\"calories\":").append(200 + random.nextInt(800))
+                    .append(",\"items\":[\"밥\",\"국\",\"반찬\"]}");
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * 대화 기록 turns개 (user/model 번갈아)
+     */
+    public static List<ChatDto.Message> chatHistory(Random random, int turns) {
+        List<ChatDto.Message> history = new ArrayList<>(turns);
+        for (int i = 0; i < turns; i++) {
+            ChatDto.Message message = new ChatDto.Message();
+            boolean user = i % 2 == 0;
+            message.setRole(user ? "user" : "model");
+            String ingredient = INGREDIENTS[random.nextInt(INGREDIENTS.length)];
+            message.setContent(user
+                    ? ingredient + "로 만들 수 있는 요리 추천해줘"
+                    : ingredient + DISHES[random.nextInt(DISHES.length)] + "를 추천해요! 1인분 약 "
+                            + (200 + random.nextInt(600)) + "kcal 이에요 🍳 재료를 손질하고 볶은 뒤 간을 맞추면 됩니다.");
+            history.add(message);
+        }
+        return history;
+    }
+
+    /**
+     * 오늘 기준 -30일 ~ +30일 사이 유통기한 count개
+     */
+    public static LocalDate[] expiryDates(Random random, int count) {
+        LocalDate today = LocalDate.now();
+        LocalDate[] dates = new LocalDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = today.plusDays(random.nextInt(61) - 30);
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mychefai.healthytable.domain;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 재료/조리 순서 JSON 컬럼 변환 (엔티티 로딩/저장마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonStringListConverterBenchmark {
+
+    @Param({"5", "30"})
+    int size;
+
+    private JsonStringListConverter converter;
+    private List<String> list;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        converter = new JsonStringListConverter();
+        list = BenchmarkData.ingredients(new Random(BenchmarkData.SEED), size);
+        json = converter.convertToDatabaseColumn(list);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(list);
+    }
+
+    @Benchmark
+    public List<String> toEntityAttribute() {
+        return converter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public List<String> roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(list));
+    }
+}
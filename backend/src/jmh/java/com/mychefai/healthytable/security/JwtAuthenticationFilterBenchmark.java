@@ -0,0 +1,158 @@
+package com.mychefai.healthytable.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 인증 필터 비용 (토큰 검증 + 보안 컨텍스트/MDC 설정 + 샘플링되는 추적 로그)
+ * filter=baseline: 변경 전 필터 (요청마다 System.out 6줄, validateToken + getUserId로 서명 두 번 검증)
+ * filter=uncached: 현재 필터, 매 요청 서명 검증 / filter=cached: 현재 필터 + 검증된 토큰 캐시
+ * baseline의 System.out은 /dev/null로 보내므로 콘솔/로그 수집기 비용은 빠진 하한입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"baseline", "uncached", "cached"})
+    String filter;
+
+    private OncePerRequestFilter authFilter;
+    private String validHeader;
+    private String invalidHeader;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        JwtTokenProvider provider = new JwtTokenProvider("cached".equals(filter) ? 10000 : 0);
+        if ("baseline".equals(filter)) {
+            authFilter = new BaselineJwtAuthenticationFilter(provider);
+            // JDK 기본 System.out과 같은 구성 (128바이트 버퍼, println마다 flush)
+            originalOut = System.out;
+            System.setOut(new PrintStream(new BufferedOutputStream(new FileOutputStream("/dev/null"), 128), true));
+        } else {
+            authFilter = new JwtAuthenticationFilter(provider);
+        }
+        String token = provider.createToken("42");
+        validHeader = "Bearer " + token;
+        // 서명 마지막 글자를 바꿔 서명 불일치
+        invalidHeader = "Bearer " + token.substring(0, token.length() - 1)
+                + (token.endsWith("A") ? "B" : "A");
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (originalOut != null) {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Benchmark
+    public Object validToken() throws Exception {
+        return filter(validHeader);
+    }
+
+    @Benchmark
+    public Object invalidToken() throws Exception {
+        return filter(invalidHeader);
+    }
+
+    @Benchmark
+    public Object anonymous() throws Exception {
+        return filter(null);
+    }
+
+    private Object filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/community/posts");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            authFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * 변경 전 JwtAuthenticationFilter (System.out 추적 출력, 토큰 두 번 파싱)
+     */
+    static class BaselineJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final JwtTokenProvider tokenProvider;
+
+        BaselineJwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            String path = request.getRequestURI();
+            System.out.println("Processing Request: " + request.getMethod() + " " + path);
+
+            try {
+                String jwt = getJwtFromRequest(request);
+                System.out.println("Extracted JWT: "
+                        + (jwt != null ? "Present (" + jwt.substring(0, Math.min(10, jwt.length())) + "...)" : "Null"));
+
+                if (StringUtils.hasText(jwt)) {
+                    boolean isValid = tokenProvider.validateToken(jwt);
+                    System.out.println("Token Validity: " + isValid);
+
+                    if (isValid) {
+                        String userId = tokenProvider.getUserId(jwt);
+                        System.out.println("User ID from Token: " + userId);
+
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userId, null, Collections.emptyList());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        System.out.println("Security Context Set Successfully");
+                    } else {
+                        System.out.println("Token Validation Failed");
+                    }
+                } else {
+                    System.out.println("No Token Found in Request");
+                }
+            } catch (Exception ex) {
+                System.err.println("Authentication Error: " + ex.getMessage());
+                ex.printStackTrace();
+            }
+
+            filterChain.doFilter(request, response);
+        }
+
+        private String getJwtFromRequest(HttpServletRequest request) {
+            String bearerToken = request.getHeader("Authorization");
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+                return bearerToken.substring(7);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mychefai.healthytable.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용 (키와 파서 재사용, 검증된 토큰 캐시 적중/미적중)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(10000);
+        // 캐시 크기 0: 매번 서명 검증
+        uncachedProvider = new JwtTokenProvider(0);
+        token = provider.createToken("42");
+    }
+
+    @Benchmark
+    public String getUserIdCached() {
+        return provider.getUserId(token);
+    }
+
+    @Benchmark
+    public String getUserIdUncached() {
+        return uncachedProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("42");
+    }
+}
@@ -0,0 +1,55 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import com.mychefai.healthytable.dto.ChatDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 프롬프트 구성, 대화 기록 압축, 캐시 키 계산 (대화 기록 길이별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatPromptBenchmark {
+
+    @Param({"0", "10", "50", "200"})
+    int historyTurns;
+
+    private List<ChatDto.Message> history;
+    private String message;
+    private String prompt;
+    private ChatHistoryCompactor compactor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        history = BenchmarkData.chatHistory(random, historyTurns);
+        message = "[사용자 냉장고 재료: 김치, 돼지고기, 두부, 대파]\n[건강 정보: 목표: 다이어트, 알러지: 땅콩]\n"
+                + "오늘 저녁 뭐 먹을까?";
+        prompt = GeminiService.buildChatPrompt(message, null, history);
+        compactor = new ChatHistoryCompactor(true, 1500, 12, 6, 300, 4000, 5000);
+    }
+
+    @Benchmark
+    public String buildChatPrompt() {
+        return GeminiService.buildChatPrompt(message, null, history);
+    }
+
+    @Benchmark
+    public String compactedChatPrompt() {
+        ChatHistoryCompactor.Compaction compaction = compactor.compact(history);
+        return GeminiService.buildChatPrompt(message, compaction.summary(), compaction.recent());
+    }
+
+    @Benchmark
+    public String cacheKey() {
+        return GeminiResponseCache.hash(prompt);
+    }
+}
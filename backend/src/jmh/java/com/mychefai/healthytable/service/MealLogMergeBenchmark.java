@@ -0,0 +1,39 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식단 기록 저장 시 mealDetails JSON 병합 (끼니 하나 추가/수정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MealLogMergeBenchmark {
+
+    private String current;
+    private String incoming;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        current = BenchmarkData.mealDetailsJson(random, "breakfast", "lunch");
+        incoming = BenchmarkData.mealDetailsJson(random, "dinner");
+    }
+
+    @Benchmark
+    public String mergeIntoExisting() {
+        return MealLogService.mergeMealDetails(current, incoming);
+    }
+
+    @Benchmark
+    public String mergeIntoEmpty() {
+        return MealLogService.mergeMealDetails(null, incoming);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.repository.CommunityPostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커뮤니티 게시글 검색 색인 (게시글 수별 검색 지연, 구축 시간, 색인 메모리)
+ * likeScan은 색인이 없을 때의 LIKE 검색 기준선: 제목/내용 부분 문자열 검사를 최신 글부터 20건 찾을 때까지 반복
+ * (DB의 풀 스캔과 같은 방식이지만 디스크/네트워크 비용이 없으므로 실제 LIKE 쿼리의 하한)
+ * 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="PostSearchIndexBenchmark -jvmArgs -Xmx4g"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostSearchIndexBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int posts;
+
+    /**
+     * 흔한 bigram 검색어, 드문 조합, 1글자 단어 포함 검색어
+     */
+    @Param({"김치찌개", "연어 덮밥", "김 치즈"})
+    String keyword;
+
+    private PostSearchIndexService indexService;
+    private String[] titles;
+    private String[] contents;
+
+    @Setup
+    public void setUp() {
+        // LIKE 기준선용 제목/내용 (인덱스 0이 가장 오래된 글)
+        titles = new String[posts];
+        contents = new String[posts];
+        for (int i = 0; i < posts; i++) {
+            CommunityPost post = BenchmarkData.post(i + 1);
+            titles[i] = post.getTitle();
+            contents[i] = post.getContent();
+        }
+        indexService = newIndexService(posts);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        indexService.rebuild();
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%n[search-index] posts=%d stats=%s heap=%d MB%n", posts, indexService.getStats(),
+                (after - before) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public List<Long> searchByRelevance() {
+        return indexService.searchByRelevance(keyword, 0, 20);
+    }
+
+    @Benchmark
+    public List<Long> searchByLatest() {
+        return indexService.searchByLatest(keyword, null, null, 20);
+    }
+
+    /**
+     * WHERE title LIKE %keyword% OR content LIKE %keyword% ORDER BY created_at DESC LIMIT 20
+     */
+    @Benchmark
+    public List<Long> likeScan() {
+        List<Long> ids = new ArrayList<>(20);
+        for (int i = posts - 1; i >= 0 && ids.size() < 20; i--) {
+            if (titles[i].contains(keyword) || contents[i].contains(keyword)) {
+                ids.add(i + 1L);
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PostSearchIndexService rebuildIndex() {
+        indexService.rebuild();
+        return indexService;
+    }
+
+    private static PostSearchIndexService newIndexService(int posts) {
+        PostSearchIndexService service = new PostSearchIndexService(postRepository(posts), null);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "loadBatchSize", 1000);
+        return service;
+    }
+
+    /**
+     * findByIdGreaterThanOrderByIdAsc만 게시글을 만들어 돌려주는 저장소 (DB 없이, 게시글 전체를 메모리에 두지 않고 색인 구성)
+     */
+    private static CommunityPostRepository postRepository(int posts) {
+        return (CommunityPostRepository) Proxy.newProxyInstance(CommunityPostRepository.class.getClassLoader(),
+                new Class<?>[]{CommunityPostRepository.class}, (proxy, method, args) -> {
+                    if ("findByIdGreaterThanOrderByIdAsc".equals(method.getName())) {
+                        long lastId = (Long) args[0];
+                        int size = ((Pageable) args[1]).getPageSize();
+                        List<CommunityPost> batch = new ArrayList<>(size);
+                        for (long id = lastId + 1; id <= posts && batch.size() < size; id++) {
+                            batch.add(BenchmarkData.post(id));
+                        }
+                        return batch;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,142 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import com.mychefai.healthytable.domain.Recipe;
+import com.mychefai.healthytable.repository.RecipeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 냉장고 재료 기반 레시피 추천 점수 계산 (레시피 수/냉장고 재료 수/재료 종류 수별)
+ * vocabulary=50: 재료 이름 50개에서 레시피당 3~12개 (거의 모든 레시피가 냉장고 재료를 공유하는 최악의 경우)
+ * vocabulary=5000: 재료 이름 5000개에서 자주 쓰는 재료 위주로 레시피당 3~8개 (실제 카탈로그에 가까운 경우)
+ * matcher=baseline: 변경 전 RecommendationService.calculateScore (전체 레시피 x 재료 String.contains 중첩 반복)
+ * matcher=indexed: RecipeIngredientIndexService 색인 + 상위 K개
+ * baseline은 레시피마다 Recommendation을 저장하던 DB 비용이 빠진 하한입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeIngredientIndexBenchmark {
+
+    @Param({"1000", "10000", "50000", "100000"})
+    int recipes;
+
+    @Param({"10", "40"})
+    int fridgeSize;
+
+    @Param({"50", "5000"})
+    int vocabulary;
+
+    private List<Recipe> dataset;
+    private RecipeIngredientIndexService indexService;
+    private List<String> fridge;
+    private List<String> allergies;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED + 1);
+        if (vocabulary == BenchmarkData.INGREDIENTS.length) {
+            dataset = BenchmarkData.recipes(recipes);
+            fridge = BenchmarkData.fridge(random, fridgeSize);
+        } else {
+            String[] names = BenchmarkData.vocabulary(vocabulary);
+            dataset = BenchmarkData.recipes(recipes, names);
+            fridge = BenchmarkData.fridge(random, names, fridgeSize);
+        }
+        indexService = new RecipeIngredientIndexService(recipeRepository(dataset));
+        indexService.rebuild();
+
+        allergies = List.of("땅콩", "새우");
+    }
+
+    /**
+     * 점수 계산 방식 (색인 재구성 벤치마크에는 적용되지 않도록 별도 상태로 분리)
+     */
+    @State(Scope.Benchmark)
+    public static class Matcher {
+
+        @Param({"baseline", "indexed"})
+        String matcher;
+    }
+
+    @Benchmark
+    public Map<Recipe, Double> score(Matcher matcher) {
+        if ("baseline".equals(matcher.matcher)) {
+            return baselineScore();
+        }
+        return indexService.score(fridge, allergies, 20);
+    }
+
+    private Map<Recipe, Double> baselineScore() {
+        Map<Recipe, Double> scores = new LinkedHashMap<>();
+        for (Recipe recipe : dataset) {
+            double score = calculateScore(recipe, fridge, allergies);
+            if (score > 0) {
+                scores.put(recipe, score);
+            }
+        }
+        return scores;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RecipeIngredientIndexService rebuildIndex() {
+        indexService.rebuild();
+        return indexService;
+    }
+
+    /**
+     * 변경 전 RecommendationService.calculateScore
+     */
+    private static double calculateScore(Recipe recipe, List<String> userIngredients, List<String> allergies) {
+        double score = 0;
+        List<String> recipeIngredients = recipe.getIngredients();
+
+        if (recipeIngredients == null)
+            return 0;
+
+        // 알러지 필터링
+        for (String allergy : allergies) {
+            for (String ri : recipeIngredients) {
+                if (ri.contains(allergy)) {
+                    return -100; // 알러지 유발 음시는 배제
+                }
+            }
+        }
+
+        // 재료 매칭 점수 (개당 10점)
+        for (String recipeIng : recipeIngredients) {
+            for (String userIng : userIngredients) {
+                if (recipeIng.contains(userIng) || userIng.contains(recipeIng)) {
+                    score += 10;
+                }
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * findAll만 데이터셋을 돌려주는 저장소 (DB 없이 색인 구성)
+     */
+    private static RecipeRepository recipeRepository(List<Recipe> dataset) {
+        return (RecipeRepository) Proxy.newProxyInstance(RecipeRepository.class.getClassLoader(),
+                new Class<?>[]{RecipeRepository.class}, (proxy, method, args) -> {
+                    if ("findAll".equals(method.getName()) && (args == null || args.length == 0)) {
+                        return dataset;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package com.mychefai.healthytable.util;
+
+import com.mychefai.healthytable.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유통기한 계산 (냉장고 목록 조회 시 재료마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpiryDateCalculatorBenchmark {
+
+    // 냉장고 하나의 재료 수
+    private static final int ITEMS = 100;
+
+    private String[] categories;
+    private LocalDate[] expiryDates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        categories = new String[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            categories[i] = BenchmarkData.CATEGORIES[random.nextInt(BenchmarkData.CATEGORIES.length)];
+        }
+        expiryDates = BenchmarkData.expiryDates(random, ITEMS);
+    }
+
+    @Benchmark
+    public void calculateExpiryDate(Blackhole bh) {
+        for (String category : categories) {
+            bh.consume(ExpiryDateCalculator.calculateExpiryDate(category));
+        }
+    }
+
+    @Benchmark
+    public void getDaysUntilExpiry(Blackhole bh) {
+        for (LocalDate date : expiryDates) {
+            bh.consume(ExpiryDateCalculator.getDaysUntilExpiry(date));
+        }
+    }
+}
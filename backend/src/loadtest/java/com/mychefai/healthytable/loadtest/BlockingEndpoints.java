@@ -0,0 +1,43 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.mychefai.healthytable.controller.AuthController;
+import com.mychefai.healthytable.controller.MealLogController;
+import com.mychefai.healthytable.dto.LoginRequestDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 블로킹 비교용 엔드포인트 (부하 테스트 전용, endpoints=blocking)
+ * Mono를 반환하는 실제 컨트롤러를 호출한 뒤 요청 스레드에서 block()으로 기다립니다.
+ * OAuth/Gemini 응답을 기다리는 동안 Tomcat 스레드를 점유하던 변경 전 동작과 같습니다.
+ */
+@RestController
+public class BlockingEndpoints {
+
+    private final AuthController authController;
+    private final MealLogController mealLogController;
+
+    public BlockingEndpoints(AuthController authController, MealLogController mealLogController) {
+        this.authController = authController;
+        this.mealLogController = mealLogController;
+    }
+
+    @PostMapping("/api/auth/blocking/google")
+    public ResponseEntity<?> loginGoogle(@RequestBody LoginRequestDTO request) {
+        return authController.loginGoogle(request).block();
+    }
+
+    @PostMapping("/api/auth/blocking/kakao")
+    public ResponseEntity<?> loginKakao(@RequestBody LoginRequestDTO request) {
+        return authController.loginKakao(request).block();
+    }
+
+    @GetMapping("/api/meallogs/blocking/analysis/monthly")
+    public ResponseEntity<String> getMonthlyAnalysis(@RequestParam int year, @RequestParam int month) {
+        return mealLogController.getMonthlyAnalysis(year, month).block();
+    }
+}
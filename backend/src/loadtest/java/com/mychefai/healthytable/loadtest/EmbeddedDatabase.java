@@ -0,0 +1,306 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.mychefai.healthytable.support.MySqlScripts;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부하 테스트용 내장 DB (H2 MySQL 호환 모드)
+ * schema.sql, add_columns.sql, test_data.sql을 H2 문법으로 바꿔 실행(MySqlScripts)한 뒤 옵션 규모만큼 데이터를 추가합니다.
+ * 앱과 같은 JVM에서 jdbc:h2:mem 으로 공유합니다 (DB_CLOSE_DELAY=-1).
+ */
+final class EmbeddedDatabase {
+
+    // OPTIMIZE_REUSE_RESULTS=FALSE: 동시 트랜잭션 중 이전 쿼리 결과 재사용으로 커밋된 변경을 놓치지 않도록
+    static final String URL =
+            "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] INGREDIENTS = {
+            "김치", "돼지고기", "두부", "대파", "양파", "마늘", "고추장", "된장", "간장", "계란",
+            "감자", "당근", "애호박", "버섯", "소고기", "닭가슴살", "우유", "치즈", "밥", "김",
+            "참기름", "설탕", "소금", "후추", "고춧가루", "콩나물", "시금치", "오이", "토마토", "양배추",
+            "새우", "오징어", "고등어", "연어", "어묵", "떡", "라면", "스팸", "베이컨", "버터"
+    };
+    private static final String[] CATEGORIES = {"채소", "과일", "육류", "해산물", "유제품", "달걀", "기타"};
+    private static final String[] DISHES = {"찌개", "볶음", "조림", "무침", "구이", "전", "덮밥", "샐러드", "국"};
+    private static final String[] ALLERGIES = {"땅콩", "새우", "우유", "계란", "밀가루"};
+    private static final String[] GOALS = {"다이어트", "근력 증가", "혈당 관리", "저염식"};
+
+    private final LoadTestOptions options;
+    private final Random random;
+
+    EmbeddedDatabase(LoadTestOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+
+    /**
+     * 스키마/기본 데이터 생성 후 규모별 데이터 추가
+     */
+    void create() throws IOException, SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            MySqlScripts.run(connection, options.sqlDir.resolve("schema.sql"));
+            MySqlScripts.run(connection, options.sqlDir.resolve("add_columns.sql"));
+            MySqlScripts.run(connection, options.sqlDir.resolve("test_data.sql"));
+
+            connection.setAutoCommit(false);
+            List<Long> userIds = seedUsers(connection);
+            List<Long> recipeIds = seedRecipes(connection);
+            seedShares(connection, userIds, recipeIds);
+            List<Long> postIds = seedPosts(connection, userIds);
+            seedLikes(connection, userIds, postIds);
+            seedFridge(connection, userIds);
+            seedMealLogs(connection, userIds);
+            connection.commit();
+        }
+    }
+
+    /**
+     * 좋아요 대상 게시글 ID
+     */
+    long[] postIds() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             ResultSet rs = connection.createStatement().executeQuery("SELECT id FROM community_posts")) {
+            List<Long> ids = new ArrayList<>();
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    /**
+     * 테이블별 행 수 (리포트용)
+     */
+    Map<String, Long> rowCounts() throws SQLException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            for (String table : List.of("users", "recipes", "recipe_shares", "community_posts", "post_likes",
+                    "fridge_items", "meal_logs")) {
+                try (ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM " + table)) {
+                    rs.next();
+                    counts.put(table, rs.getLong(1));
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * loadtest{n}@example.com 사용자 + 건강 프로필 (OAuth 스텁 응답과 같은 이메일)
+     */
+    private List<Long> seedUsers(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>(options.users);
+        try (PreparedStatement user = connection.prepareStatement(
+                "INSERT INTO users (email, password, name, created_at) VALUES (?, '', ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement profile = connection.prepareStatement(
+                     "INSERT INTO health_profiles (user_id, allergies, chronic_conditions, dietary_restrictions, "
+                             + "medications, goals) VALUES (?, ?, '[]', '[]', '[]', ?)")) {
+            for (int n = 1; n <= options.users; n++) {
+                user.setString(1, "loadtest" + n + "@example.com");
+                user.setString(2, "부하테스트" + n);
+                user.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(365))));
+                user.executeUpdate();
+                try (ResultSet keys = user.getGeneratedKeys()) {
+                    keys.next();
+                    ids.add(keys.getLong(1));
+                }
+            }
+            for (Long id : ids) {
+                profile.setLong(1, id);
+                profile.setString(2, random.nextInt(4) == 0 ? jsonArray(pick(ALLERGIES)) : "[]");
+                profile.setString(3, jsonArray(pick(GOALS)));
+                profile.addBatch();
+            }
+            profile.executeBatch();
+        }
+        return ids;
+    }
+
+    private List<Long> seedRecipes(Connection connection) throws SQLException {
+        try (PreparedStatement recipe = connection.prepareStatement(
+                "INSERT INTO recipes (title, description, ingredients, steps, calories, difficulty, cooking_time, "
+                        + "average_rating, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < options.recipes; i++) {
+                String main = pick(INGREDIENTS);
+                List<String> ingredients = new ArrayList<>();
+                ingredients.add(main + " " + (50 + random.nextInt(250)) + "g");
+                for (int j = random.nextInt(8) + 2; j > 0; j--) {
+                    ingredients.add(pick(INGREDIENTS));
+                }
+                recipe.setString(1, main + pick(DISHES) + " #" + i);
+                recipe.setString(2, "부하 테스트용 레시피 " + i);
+                recipe.setString(3, jsonArray(ingredients.toArray(String[]::new)));
+                recipe.setString(4, jsonArray("재료를 손질한다", "볶는다", "간을 맞춘다"));
+                recipe.setInt(5, 150 + random.nextInt(700));
+                recipe.setInt(6, 1 + random.nextInt(3));
+                recipe.setInt(7, 5 + random.nextInt(60));
+                recipe.setDouble(8, 3 + random.nextInt(20) / 10.0);
+                recipe.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(365))));
+                addBatch(recipe, i);
+            }
+            recipe.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO recipe_stats (recipe_id, view_count, like_count, share_count) "
+                    + "SELECT id, 0, 0, 0 FROM recipes WHERE id NOT IN (SELECT recipe_id FROM recipe_stats)");
+        }
+        return ids(connection, "SELECT id FROM recipes");
+    }
+
+    private void seedShares(Connection connection, List<Long> userIds, List<Long> recipeIds) throws SQLException {
+        try (PreparedStatement share = connection.prepareStatement(
+                "INSERT INTO recipe_shares (user_id, recipe_id, visibility, share_message, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < options.shares; i++) {
+                share.setLong(1, pick(userIds));
+                share.setLong(2, pick(recipeIds));
+                share.setString(3, random.nextInt(10) == 0 ? "PRIVATE" : "PUBLIC");
+                share.setString(4, "이 레시피 추천해요! #" + i);
+                share.setTimestamp(5, recentTimestamp());
+                addBatch(share, i);
+            }
+            share.executeBatch();
+        }
+    }
+
+    private List<Long> seedPosts(Connection connection, List<Long> userIds) throws SQLException {
+        try (PreparedStatement post = connection.prepareStatement(
+                "INSERT INTO community_posts (user_id, title, content, ingredients, steps, tags, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < options.posts; i++) {
+                String main = pick(INGREDIENTS);
+                Timestamp createdAt = recentTimestamp();
+                post.setLong(1, pick(userIds));
+                post.setString(2, main + pick(DISHES) + " 만들었어요 #" + i);
+                post.setString(3, main + "로 만든 " + pick(DISHES) + " 후기입니다. 간단하고 맛있어요!");
+                post.setString(4, jsonArray(main, pick(INGREDIENTS), pick(INGREDIENTS)));
+                post.setString(5, jsonArray("손질한다", "조리한다"));
+                post.setString(6, jsonArray(pick(GOALS)));
+                post.setTimestamp(7, createdAt);
+                post.setTimestamp(8, createdAt);
+                addBatch(post, i);
+            }
+            post.executeBatch();
+        }
+        return ids(connection, "SELECT id FROM community_posts");
+    }
+
+    /**
+     * (게시글, 사용자) 중복 없이 좋아요 생성 후 like_count 반영
+     */
+    private void seedLikes(Connection connection, List<Long> userIds, List<Long> postIds) throws SQLException {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        long maxLikes = Math.min(options.likes, (long) userIds.size() * postIds.size());
+        Set<String> seen = new HashSet<>();
+        try (PreparedStatement like = connection.prepareStatement(
+                "INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)")) {
+            int i = 0;
+            while (seen.size() < maxLikes) {
+                long postId = pick(postIds);
+                long userId = pick(userIds);
+                if (!seen.add(postId + ":" + userId)) {
+                    continue;
+                }
+                like.setLong(1, postId);
+                like.setLong(2, userId);
+                like.setTimestamp(3, recentTimestamp());
+                addBatch(like, i++);
+            }
+            like.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE community_posts SET like_count = "
+                    + "(SELECT COUNT(*) FROM post_likes l WHERE l.post_id = community_posts.id)");
+        }
+    }
+
+    private void seedFridge(Connection connection, List<Long> userIds) throws SQLException {
+        try (PreparedStatement item = connection.prepareStatement(
+                "INSERT INTO fridge_items (user_id, name, quantity, category, expiry_date) VALUES (?, ?, ?, ?, ?)")) {
+            int i = 0;
+            for (Long userId : userIds) {
+                for (int j = 0; j < options.fridgeItems; j++) {
+                    item.setLong(1, userId);
+                    item.setString(2, pick(INGREDIENTS));
+                    item.setString(3, (1 + random.nextInt(5)) + "개");
+                    item.setString(4, pick(CATEGORIES));
+                    item.setDate(5, Date.valueOf(LocalDate.now().plusDays(random.nextInt(30) - 5)));
+                    addBatch(item, i++);
+                }
+            }
+            item.executeBatch();
+        }
+    }
+
+    private void seedMealLogs(Connection connection, List<Long> userIds) throws SQLException {
+        try (PreparedStatement meal = connection.prepareStatement(
+                "INSERT INTO meal_logs (user_id, record_date, breakfast, lunch, dinner, breakfast_calories, "
+                        + "lunch_calories, dinner_calories, meal_details) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int i = 0;
+            for (Long userId : userIds) {
+                for (int day = 1; day <= options.mealDays; day++) {
+                    meal.setLong(1, userId);
+                    meal.setDate(2, Date.valueOf(LocalDate.now().minusDays(day)));
+                    meal.setString(3, pick(INGREDIENTS) + pick(DISHES));
+                    meal.setString(4, pick(INGREDIENTS) + pick(DISHES));
+                    meal.setString(5, pick(INGREDIENTS) + pick(DISHES));
+                    meal.setInt(6, 300 + random.nextInt(300));
+                    meal.setInt(7, 500 + random.nextInt(400));
+                    meal.setInt(8, 500 + random.nextInt(400));
+                    meal.setString(9, "{\"lunch\":{\"calories\":" + (500 + random.nextInt(400)) + "}}");
+                    addBatch(meal, i++);
+                }
+            }
+            meal.executeBatch();
+        }
+    }
+
+    private static void addBatch(PreparedStatement statement, int index) throws SQLException {
+        statement.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private static List<Long> ids(Connection connection, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = connection.createStatement().executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    // 최근 30일 사이 시각
+    private Timestamp recentTimestamp() {
+        return Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(30 * 24 * 60)));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private long pick(List<Long> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String jsonArray(String... values) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (String value : values) {
+            joiner.add("\"" + value.replace("\"", "\\\"") + "\"");
+        }
+        return joiner.toString();
+    }
+}
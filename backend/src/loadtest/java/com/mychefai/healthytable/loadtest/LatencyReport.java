@@ -0,0 +1,92 @@
+package com.mychefai.healthytable.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 히스토그램 (HdrHistogram, 마이크로초 단위)과 평균 요청 본문 크기
+ */
+final class LatencyReport {
+
+    private static final String ROW_FORMAT = "%-44s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n";
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건 기록 (2xx가 아니거나 예외면 오류로 집계)
+     */
+    void record(String endpoint, long elapsedNanos, boolean ok, int requestBytes) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        stats.requestBytes.add(requestBytes);
+        if (!ok) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * 워밍업 구간 기록 폐기
+     */
+    void reset() {
+        endpoints.values().forEach(stats -> {
+            stats.recorder.reset();
+            stats.errors.reset();
+            stats.requestBytes.reset();
+        });
+    }
+
+    /**
+     * 측정 구간 결과 표 (처리량은 elapsedSeconds 기준, 지연은 ms)
+     */
+    String format(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(ROW_FORMAT, "endpoint", "count", "errors", "req/s",
+                "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req(B)"));
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalBytes = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long errors = entry.getValue().errors.sum();
+            long bytes = entry.getValue().requestBytes.sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += errors;
+            totalBytes += bytes;
+            out.append(row(entry.getKey(), histogram, errors, bytes, elapsedSeconds));
+        }
+        out.append(row("TOTAL", total, totalErrors, totalBytes, elapsedSeconds));
+        return out.toString();
+    }
+
+    private static String row(String name, Histogram histogram, long errors, long bytes, double elapsedSeconds) {
+        return String.format(ROW_FORMAT, name,
+                histogram.getTotalCount(),
+                errors,
+                String.format("%.1f", histogram.getTotalCount() / elapsedSeconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()),
+                bytes / histogram.getTotalCount());
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mychefai.healthytable.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (key=value 인자)
+ *
+ * <pre>
+ * 데이터 규모: users=200 recipes=2000 posts=5000 likes=20000 shares=2000 fridgeItems=8 mealDays=14
+ * 부하:       concurrency=32 duration=60 warmup=10 thinkTimeMs=0 seed=42
+ *            chatTurns=20 (대화당 채팅 턴 수) chatMode=session|history (서버 세션 / 매번 전체 history 전송)
+ *            endpoints=mono|blocking (로그인/월간 분석을 Mono 엔드포인트로 / 요청 스레드에서 block()하는 비교용 엔드포인트로)
+ * 스텁 지연:   geminiLatencyMs=800 oauthLatencyMs=100 jitter=0.2 geminiErrorRate=0 (Gemini 503 응답 비율)
+ * 시나리오 비율: mix=feed:35,like:20,chat:15,recommend:10,scan:5,meal:15 (그 외 login, analysis)
+ * 기타:       sqlDir=.. report=target/loadtest-report.txt
+ * </pre>
+ * 그 외 점(.)이 들어간 키(예: gemini.cache.enabled=false)는 앱 설정으로 그대로 전달합니다.
+ */
+final class LoadTestOptions {
+
+    int users = 200;
+    int recipes = 2000;
+    int posts = 5000;
+    int likes = 20000;
+    int shares = 2000;
+    int fridgeItems = 8;
+    int mealDays = 14;
+
+    int concurrency = 32;
+    int durationSeconds = 60;
+    int warmupSeconds = 10;
+    long thinkTimeMs = 0;
+    long seed = 42;
+    int chatTurns = 20;
+    boolean chatHistoryMode = false;
+    boolean blockingEndpoints = false;
+
+    long geminiLatencyMs = 800;
+    long oauthLatencyMs = 100;
+    double jitter = 0.2;
+    double geminiErrorRate = 0;
+
+    Map<Scenario, Integer> mix = parseMix("feed:35,like:20,chat:15,recommend:10,scan:5,meal:15");
+
+    // schema.sql, add_columns.sql, test_data.sql 위치 (backend 디렉토리에서 실행 기준)
+    Path sqlDir = Paths.get("..");
+    Path report = Paths.get("target", "loadtest-report.txt");
+
+    // 앱에 전달할 추가 설정 (기본 부하 테스트 설정보다 우선)
+    final Map<String, String> appProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = trimmed.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            }
+            options.set(trimmed.substring(0, eq), trimmed.substring(eq + 1));
+        }
+        if (options.users < 1 || options.concurrency < 1 || options.durationSeconds < 1) {
+            throw new IllegalArgumentException("users, concurrency, duration은 1 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    private void set(String key, String value) {
+        switch (key) {
+            case "users" -> users = Integer.parseInt(value);
+            case "recipes" -> recipes = Integer.parseInt(value);
+            case "posts" -> posts = Integer.parseInt(value);
+            case "likes" -> likes = Integer.parseInt(value);
+            case "shares" -> shares = Integer.parseInt(value);
+            case "fridgeItems" -> fridgeItems = Integer.parseInt(value);
+            case "mealDays" -> mealDays = Integer.parseInt(value);
+            case "concurrency" -> concurrency = Integer.parseInt(value);
+            case "duration" -> durationSeconds = Integer.parseInt(value);
+            case "warmup" -> warmupSeconds = Integer.parseInt(value);
+            case "thinkTimeMs" -> thinkTimeMs = Long.parseLong(value);
+            case "seed" -> seed = Long.parseLong(value);
+            case "chatTurns" -> chatTurns = Integer.parseInt(value);
+            case "chatMode" -> chatHistoryMode = switch (value) {
+                case "session" -> false;
+                case "history" -> true;
+                default -> throw new IllegalArgumentException("chatMode는 session 또는 history: " + value);
+            };
+            case "endpoints" -> blockingEndpoints = switch (value) {
+                case "mono" -> false;
+                case "blocking" -> true;
+                default -> throw new IllegalArgumentException("endpoints는 mono 또는 blocking: " + value);
+            };
+            case "geminiLatencyMs" -> geminiLatencyMs = Long.parseLong(value);
+            case "oauthLatencyMs" -> oauthLatencyMs = Long.parseLong(value);
+            case "jitter" -> jitter = Double.parseDouble(value);
+            case "geminiErrorRate" -> geminiErrorRate = Double.parseDouble(value);
+            case "mix" -> mix = parseMix(value);
+            case "sqlDir" -> sqlDir = Paths.get(value);
+            case "report" -> report = Paths.get(value);
+            default -> {
+                if (!key.contains(".")) {
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + key);
+                }
+                appProperties.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * "feed:40,like:20" -> 시나리오별 가중치
+     */
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("mix 형식 오류: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.of(kv[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix에 실행할 시나리오가 없습니다.");
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + " recipes=" + recipes + " posts=" + posts + " likes=" + likes
+                + " shares=" + shares + " fridgeItems=" + fridgeItems + " mealDays=" + mealDays
+                + "\nconcurrency=" + concurrency + " duration=" + durationSeconds + "s warmup=" + warmupSeconds
+                + "s thinkTimeMs=" + thinkTimeMs + " seed=" + seed + " chatTurns=" + chatTurns
+                + " chatMode=" + (chatHistoryMode ? "history" : "session")
+                + " endpoints=" + (blockingEndpoints ? "blocking" : "mono")
+                + "\ngeminiLatencyMs=" + geminiLatencyMs + " oauthLatencyMs=" + oauthLatencyMs + " jitter=" + jitter
+                + " geminiErrorRate=" + geminiErrorRate
+                + "\nmix=" + mix + (appProperties.isEmpty() ? "" : "\napp=" + appProperties);
+    }
+}
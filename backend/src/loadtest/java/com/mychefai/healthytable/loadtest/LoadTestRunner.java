@@ -0,0 +1,209 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychefai.healthytable.HealthyTableApplication;
+import com.mychefai.healthytable.config.OutboundPoolMetrics;
+import com.mychefai.healthytable.service.ChatContextCache;
+import com.mychefai.healthytable.service.ChatHistoryCompactor;
+import com.mychefai.healthytable.service.ChatSessionStore;
+import com.mychefai.healthytable.service.GeminiCallGuard;
+import com.mychefai.healthytable.service.GeminiResponseCache;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 실행기
+ * 1. Gemini/OAuth 스텁 서버 시작
+ * 2. 내장 DB 생성 및 데이터 적재
+ * 3. 앱을 임의 포트로 시작 (외부 API URL은 스텁으로 교체)
+ * 4. 가상 사용자(concurrency명)가 로그인 후 시나리오 비율대로 반복 요청 (워밍업 구간은 집계 제외)
+ * 5. 엔드포인트별 처리량/지연 백분위, 외부 호출 지연/실패, 스레드/힙/연결 풀 사용량 출력 및 report 파일 저장
+ *
+ * 실행: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="users=500 concurrency=64 duration=120"
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("[loadtest] options\n" + options);
+
+        StubServer stubs = new StubServer(options.geminiLatencyMs, options.oauthLatencyMs, options.jitter,
+                options.geminiErrorRate);
+        stubs.start();
+
+        long seedStart = System.nanoTime();
+        EmbeddedDatabase database = new EmbeddedDatabase(options);
+        database.create();
+        System.out.printf("[loadtest] 데이터 적재 %d ms %s%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart), database.rowCounts());
+
+        ConfigurableApplicationContext context = SpringApplication.run(HealthyTableApplication.class,
+                appArgs(options, stubs));
+        int exitCode = 0;
+        try {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            String report = run(options, baseUrl, database.postIds(), stubs, context);
+            System.out.println(report);
+            Files.createDirectories(options.report.toAbsolutePath().getParent());
+            Files.writeString(options.report, report, StandardCharsets.UTF_8);
+            System.out.println("[loadtest] 결과 저장: " + options.report.toAbsolutePath());
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+            stubs.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    private static String run(LoadTestOptions options, String baseUrl, long[] postIds, StubServer stubs,
+            ConfigurableApplicationContext context) throws InterruptedException {
+        LatencyReport latency = new LatencyReport();
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        Scenario[] weighted = weightedScenarios(options.mix);
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        AtomicInteger failedLogins = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            int userNumber = i % options.users + 1;
+            VirtualUser user = new VirtualUser(client, baseUrl, latency, mapper, postIds, options.chatTurns,
+                    options.chatHistoryMode, options.blockingEndpoints, options.seed + i);
+            pool.submit(() -> {
+                if (!user.login(userNumber)) {
+                    failedLogins.incrementAndGet();
+                    return;
+                }
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    weighted[user.random.nextInt(weighted.length)].run(user);
+                    if (options.thinkTimeMs > 0) {
+                        try {
+                            Thread.sleep(options.thinkTimeMs);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+
+        // 워밍업 구간 기록 폐기 후 측정 시작
+        sleepUntil(warmupEnd);
+        latency.reset();
+        OutboundCalls outbound = context.getBean(OutboundCalls.class);
+        outbound.reset();
+        RuntimeSampler runtime = new RuntimeSampler(tomcatExecutor(context),
+                context.getBean(OutboundPoolMetrics.class));
+        runtime.start();
+        long measureStart = System.nanoTime();
+        System.out.println("[loadtest] 측정 시작 (" + options.durationSeconds + "s)");
+
+        if (!pool.awaitTermination(options.durationSeconds + 120L, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        runtime.stop();
+
+        GeminiResponseCache geminiCache = context.getBean(GeminiResponseCache.class);
+        ChatSessionStore chatSessions = context.getBean(ChatSessionStore.class);
+        Map<String, Long> sessionStats = chatSessions.getStats();
+        chatSessions.flush();
+        Long storedMessages = context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM chat_messages", Long.class);
+        return "=== MyChefAI load test " + LocalDateTime.now().withNano(0) + " ===\n"
+                + options + "\n\n"
+                + latency.format(elapsedSeconds)
+                + "\nmeasured=" + String.format("%.1f", elapsedSeconds) + "s failedLogins=" + failedLogins.get()
+                + "\n" + runtime.format()
+                + "\n\noutbound (풀 대기 포함, 응답 헤더까지)\n" + outbound.format(elapsedSeconds)
+                + "\nstub calls=" + stubs.callCounts()
+                + "\nstub request bytes (avg/max)=" + stubs.requestBytes()
+                + "\ngemini cache=" + geminiCache.getStats()
+                + "\ngemini guard=" + context.getBean(GeminiCallGuard.class).getStats()
+                + "\nchat history=" + context.getBean(ChatHistoryCompactor.class).getStats()
+                + "\nchat context cache=" + context.getBean(ChatContextCache.class).getStats()
+                + "\nchat sessions=" + sessionStats
+                + " (flush 후 chat_messages " + storedMessages + "행)\n";
+    }
+
+    /**
+     * Tomcat 요청 처리 실행기 (가상 스레드 모드면 ThreadPoolExecutor가 아님)
+     */
+    private static Executor tomcatExecutor(ConfigurableApplicationContext context) {
+        if (context instanceof ServletWebServerApplicationContext servlet
+                && servlet.getWebServer() instanceof TomcatWebServer tomcat) {
+            return tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        }
+        return null;
+    }
+
+    /**
+     * 부하 테스트용 앱 설정 (내장 DB, 스텁 URL, 임의 포트) + 사용자 지정 설정
+     */
+    private static String[] appArgs(LoadTestOptions options, StubServer stubs) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.datasource.url", EmbeddedDatabase.URL);
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", "20");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        // 로컬 application.properties의 MySQL8Dialect 지정을 덮어씀
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("gemini.api.key", "loadtest");
+        properties.put("gemini.api.model-url", stubs.baseUrl() + StubServer.GEMINI_PATH);
+        properties.put("oauth.google.userinfo-url", stubs.baseUrl() + StubServer.GOOGLE_PATH);
+        properties.put("oauth.kakao.userinfo-url", stubs.baseUrl() + StubServer.KAKAO_PATH);
+        properties.put("logging.level.com.mychefai.healthytable", "WARN");
+        properties.putAll(options.appProperties);
+
+        return properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 가중치만큼 반복한 시나리오 배열 (균등 추첨으로 비율 반영)
+     */
+    private static Scenario[] weightedScenarios(Map<Scenario, Integer> mix) {
+        List<Scenario> weighted = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        });
+        return weighted.toArray(Scenario[]::new);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mychefai.healthytable.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 호출 지연/실패 집계 (부하 테스트 전용)
+ * 호스트별 WebClient 빈(geminiWebClient, googleWebClient, kakaoWebClient)에 필터를 붙여
+ * 연결 풀 대기를 포함한 응답 헤더까지의 지연과 실패 원인(풀 대기 타임아웃/대기 한도 초과 등)을 기록합니다.
+ * Gemini 실패는 앱에서 대체 문구(200)로 바뀌므로 엔드포인트 오류 수만으로는 보이지 않습니다.
+ */
+@Component
+public class OutboundCalls implements BeanPostProcessor {
+
+    private static final String SUFFIX = "WebClient";
+
+    private final LatencyReport latency = new LatencyReport();
+    // "풀 이름 원인 예외" -> 실패 수
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof WebClient webClient && beanName.endsWith(SUFFIX) && beanName.length() > SUFFIX.length()) {
+            String pool = beanName.substring(0, beanName.length() - SUFFIX.length());
+            return webClient.mutate()
+                    .filter((request, next) -> Mono.defer(() -> {
+                        long start = System.nanoTime();
+                        return next.exchange(request)
+                                .doOnSuccess(response -> latency.record(pool, System.nanoTime() - start,
+                                        response != null && !response.statusCode().isError(), 0))
+                                .doOnError(e -> {
+                                    latency.record(pool, System.nanoTime() - start, false, 0);
+                                    failures.computeIfAbsent(pool + " " + rootCause(e), key -> new LongAdder())
+                                            .increment();
+                                });
+                    }))
+                    .build();
+        }
+        return bean;
+    }
+
+    /**
+     * 워밍업 구간 기록 폐기
+     */
+    void reset() {
+        latency.reset();
+        failures.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 측정 구간 풀별 지연 표와 실패 원인별 건수
+     */
+    String format(double elapsedSeconds) {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((key, count) -> {
+            if (count.sum() > 0) {
+                counts.put(key, count.sum());
+            }
+        });
+        return latency.format(elapsedSeconds) + "outbound failures=" + counts + "\n";
+    }
+
+    private static String rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
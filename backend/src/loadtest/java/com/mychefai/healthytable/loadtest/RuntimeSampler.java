@@ -0,0 +1,179 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.mychefai.healthytable.config.OutboundPoolMetrics;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 측정 구간의 JVM 스레드/힙 사용량 (주기적으로 샘플링)
+ * Tomcat 요청 스레드는 풀에 만들어진 수와 요청을 처리 중인(busy) 수를 따로 봅니다 (풀은 한 번 늘면 유휴 시간 동안 유지).
+ * 부하 발생기와 앱이 같은 JVM에서 돌기 때문에 스레드는 이름으로 나눠 집계합니다.
+ * (tomcat: http-nio-*-exec-*, reactor: reactor-http-*, boundedElastic: boundedElastic-*, 나머지는 other)
+ * 가상 스레드는 스레드 그룹에 나타나지 않으므로 virtual 모드에서는 tomcat 스레드가 0으로 보입니다.
+ * 외부 HTTP 연결 풀(OutboundPoolMetrics)은 풀별 사용 중(acquired)/대기(pending) 연결 수의 평균과 최대를 봅니다.
+ */
+final class RuntimeSampler {
+
+    private static final long INTERVAL_MS = 100;
+    private static final String[] GROUPS = {"tomcat", "reactor", "boundedElastic", "other"};
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final Map<String, Integer> maxThreads = new LinkedHashMap<>();
+    private final Thread sampler = new Thread(this::sampleLoop, "loadtest-runtime-sampler");
+    // Tomcat 요청 처리 풀 (가상 스레드 실행기면 null)
+    private final ThreadPoolExecutor tomcatPool;
+    private final OutboundPoolMetrics poolMetrics;
+    // "풀 이름 원격 주소" -> {acquired 합, acquired 최대, pending 합, pending 최대}
+    private final Map<String, long[]> pools = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private long samples;
+    private long heapUsedSum;
+    private long heapUsedMax;
+    private long busySum;
+    private int busyMax;
+    private long gcCountStart;
+    private long gcTimeStart;
+    private long gcCount;
+    private long gcTimeMs;
+
+    RuntimeSampler(Executor tomcatExecutor, OutboundPoolMetrics poolMetrics) {
+        this.tomcatPool = tomcatExecutor instanceof ThreadPoolExecutor pool ? pool : null;
+        this.poolMetrics = poolMetrics;
+        for (String group : GROUPS) {
+            maxThreads.put(group, 0);
+        }
+        sampler.setDaemon(true);
+    }
+
+    void start() {
+        threads.resetPeakThreadCount();
+        gcCountStart = gcCount();
+        gcTimeStart = gcTimeMs();
+        running = true;
+        sampler.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        sampler.join();
+        gcCount = gcCount() - gcCountStart;
+        gcTimeMs = gcTimeMs() - gcTimeStart;
+    }
+
+    /**
+     * 측정 구간 요약 (스레드 최대 개수, 힙 사용량 평균/최대, GC 횟수/시간)
+     */
+    String format() {
+        String busy = tomcatPool == null ? "n/a (virtual)"
+                : "avg=" + String.format("%.1f", samples == 0 ? 0.0 : (double) busySum / samples) + " max=" + busyMax;
+        return "tomcat busy " + busy
+                + "\nthreads max=" + maxThreads + " peak(all)=" + threads.getPeakThreadCount()
+                + "\nheap used avg=" + mb(samples == 0 ? 0 : heapUsedSum / samples) + "MB max=" + mb(heapUsedMax)
+                + "MB committed=" + mb(memory.getHeapMemoryUsage().getCommitted()) + "MB gc count=" + gcCount
+                + " time=" + gcTimeMs + "ms"
+                + "\noutbound pools (acquired avg/max, pending avg/max)=" + formatPools();
+    }
+
+    private String formatPools() {
+        Map<String, String> formatted = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> formatted.put(name,
+                average(pool[0]) + "/" + pool[1] + ", " + average(pool[2]) + "/" + pool[3]));
+        return formatted.toString();
+    }
+
+    private String average(long sum) {
+        return String.format("%.1f", samples == 0 ? 0.0 : (double) sum / samples);
+    }
+
+    private void sampleLoop() {
+        while (running) {
+            sample();
+            try {
+                Thread.sleep(INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void sample() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Thread thread : liveThreads()) {
+            counts.merge(group(thread.getName()), 1, Integer::sum);
+        }
+        counts.forEach((group, count) -> maxThreads.merge(group, count, Math::max));
+
+        if (tomcatPool != null) {
+            int busy = tomcatPool.getActiveCount();
+            busySum += busy;
+            busyMax = Math.max(busyMax, busy);
+        }
+
+        poolMetrics.getStats().forEach((name, stats) -> {
+            long[] pool = pools.computeIfAbsent(name, key -> new long[4]);
+            pool[0] += stats.get("acquired");
+            pool[1] = Math.max(pool[1], stats.get("acquired"));
+            pool[2] += stats.get("pending");
+            pool[3] = Math.max(pool[3], stats.get("pending"));
+        });
+
+        long heapUsed = memory.getHeapMemoryUsage().getUsed();
+        heapUsedSum += heapUsed;
+        heapUsedMax = Math.max(heapUsedMax, heapUsed);
+        samples++;
+    }
+
+    private static Thread[] liveThreads() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] all = new Thread[root.activeCount() * 2];
+        int count = root.enumerate(all, true);
+        Thread[] live = new Thread[count];
+        System.arraycopy(all, 0, live, 0, count);
+        return live;
+    }
+
+    private static String group(String name) {
+        if (name.startsWith("http-nio-") && name.contains("-exec-")) {
+            return "tomcat";
+        }
+        if (name.startsWith("reactor-http-")) {
+            return "reactor";
+        }
+        if (name.startsWith("boundedElastic-")) {
+            return "boundedElastic";
+        }
+        return "other";
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static long mb(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
@@ -0,0 +1,202 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오 (프론트엔드 화면 한 번 사용에 해당하는 요청 묶음)
+ */
+enum Scenario {
+
+    /**
+     * 커뮤니티 피드/게시글 목록/인기글/상세/댓글 조회
+     */
+    FEED("feed") {
+        @Override
+        void run(VirtualUser user) {
+            long userId = user.userId();
+            user.get("GET /api/community/feed", "/api/community/feed?size=20");
+            user.get("GET /api/community/posts", "/api/community/posts?size=20&currentUserId=" + userId);
+            user.get("GET /api/community/posts/popular",
+                    "/api/community/posts/popular?limit=10&currentUserId=" + userId);
+            if (user.postIds.length > 0) {
+                long postId = user.randomPostId();
+                user.get("GET /api/community/posts/{id}",
+                        "/api/community/posts/" + postId + "?currentUserId=" + userId);
+                user.get("GET /api/community/posts/{id}/comments", "/api/community/posts/" + postId + "/comments");
+            }
+        }
+    },
+
+    /**
+     * 게시글 좋아요 토글 후 상세 재조회
+     */
+    LIKE("like") {
+        @Override
+        void run(VirtualUser user) {
+            if (user.postIds.length == 0) {
+                return;
+            }
+            long postId = user.randomPostId();
+            user.post("POST /api/community/posts/{id}/like", "/api/community/posts/" + postId + "/like",
+                    "{\"userId\":" + user.userId() + "}");
+            user.get("GET /api/community/posts/{id}",
+                    "/api/community/posts/" + postId + "?currentUserId=" + user.userId());
+        }
+    },
+
+    /**
+     * AI 채팅 (일반/스트리밍 반반, chatTurns마다 새 대화 시작)
+     * 기본은 서버 대화 세션 ID와 새 메시지만 보내고, chatMode=history면 이전 대화 전체를 history로 보냅니다.
+     */
+    CHAT("chat") {
+        @Override
+        void run(VirtualUser user) {
+            if (user.conversation.size() >= user.chatTurns * 2) {
+                user.conversation.clear();
+                user.chatSessionId = null;
+            }
+            String message = CHAT_MESSAGES.get(user.random.nextInt(CHAT_MESSAGES.size()));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("message", message);
+            if (user.chatHistoryMode) {
+                body.put("history", user.conversation);
+            } else if (user.chatSessionId != null) {
+                body.put("sessionId", user.chatSessionId);
+            }
+            body.put("useFridge", user.random.nextBoolean());
+            String reply;
+            if (user.random.nextBoolean()) {
+                JsonNode response = user.post("POST /api/chat/message", "/api/chat/message", user.json(body));
+                // 실패 응답(error=true)은 서버가 대화에 저장하지 않으므로 여기서도 제외
+                reply = response == null || response.path("error").asBoolean(false) ? null
+                        : response.path("reply").asText(null);
+                if (response != null && response.hasNonNull("sessionId")) {
+                    user.chatSessionId = response.get("sessionId").asText();
+                }
+            } else {
+                reply = user.postStream("POST /api/chat/message/stream", "/api/chat/message/stream",
+                        user.json(body));
+            }
+            if (reply != null) {
+                user.conversation.add(Map.of("role", "user", "content", message));
+                user.conversation.add(Map.of("role", "model", "content", reply));
+            }
+        }
+    },
+
+    /**
+     * 재료 기반 AI 레시피 추천 (인기 재료 조합 몇 개에 요청이 몰리는 상황, single-flight 확인용)
+     */
+    RECOMMEND("recommend") {
+        @Override
+        void run(VirtualUser user) {
+            List<String> ingredients =
+                    POPULAR_INGREDIENT_SETS.get(user.random.nextInt(POPULAR_INGREDIENT_SETS.size()));
+            user.post("POST /api/recipes/recommend", "/api/recipes/recommend",
+                    user.json(Map.of("ingredients", ingredients, "healthContext", "다이어트")));
+        }
+    },
+
+    /**
+     * 영수증 스캔 -> 첫 재료 냉장고 추가 -> 목록 조회 -> 추가한 재료 삭제 (냉장고 크기 유지)
+     */
+    SCAN("scan") {
+        @Override
+        void run(VirtualUser user) {
+            byte[] image = new byte[16 * 1024];
+            user.random.nextBytes(image);
+            user.post("POST /api/fridge/scan", "/api/fridge/scan",
+                    "{\"image\":\"" + Base64.getEncoder().encodeToString(image) + "\"}");
+            JsonNode added = user.post("POST /api/fridge", "/api/fridge",
+                    "{\"name\":\"두부\",\"quantity\":\"1모\",\"category\":\"기타\"}");
+            user.get("GET /api/fridge", "/api/fridge");
+            if (added != null && added.hasNonNull("id")) {
+                user.delete("DELETE /api/fridge/{id}", "/api/fridge/" + added.get("id").asLong());
+            }
+        }
+    },
+
+    /**
+     * 식단 기록 조회/저장 (10%는 월간 AI 분석까지)
+     */
+    MEAL("meal") {
+        @Override
+        void run(VirtualUser user) {
+            user.get("GET /api/meallogs", "/api/meallogs");
+            LocalDate date = LocalDate.now().minusDays(user.random.nextInt(7));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("recordDate", date.toString());
+            body.put("lunch", "김치찌개");
+            body.put("lunchCalories", 350 + user.random.nextInt(300));
+            body.put("isAiLunch", user.random.nextBoolean());
+            body.put("mealDetails", "{\"lunch\":{\"menu\":\"김치찌개\",\"calories\":" + (350 + user.random.nextInt(300))
+                    + "}}");
+            user.post("POST /api/meallogs", "/api/meallogs", user.json(body));
+            if (user.random.nextInt(10) == 0) {
+                user.get("GET /api/meallogs/analysis/monthly", user.apiPath("/api/meallogs/",
+                        "analysis/monthly?year=" + date.getYear() + "&month=" + date.getMonthValue()));
+            }
+        }
+    },
+
+    /**
+     * 소셜 로그인 반복 (OAuth 사용자 정보 조회 지연 = oauthLatencyMs, endpoints로 Mono/블로킹 선택)
+     */
+    LOGIN("login") {
+        @Override
+        void run(VirtualUser user) {
+            user.relogin();
+        }
+    },
+
+    /**
+     * 월간 식단 AI 분석 (Gemini 지연 = geminiLatencyMs, endpoints로 Mono/블로킹 선택)
+     */
+    MONTHLY_ANALYSIS("analysis") {
+        @Override
+        void run(VirtualUser user) {
+            LocalDate date = LocalDate.now();
+            user.get("GET /api/meallogs/analysis/monthly",
+                    user.apiPath("/api/meallogs/", "analysis/monthly?year=" + date.getYear() + "&month="
+                            + date.getMonthValue()));
+        }
+    };
+
+    private static final List<String> CHAT_MESSAGES = List.of(
+            "오늘 저녁 뭐 먹을까?", "냉장고 재료로 만들 수 있는 요리 추천해줘", "다이어트 식단 알려줘",
+            "김치찌개 레시피 알려줘", "두부로 만들 수 있는 반찬 있어?", "아침으로 간단한 메뉴 추천해줘",
+            "단백질 많은 요리 추천해줘", "저염식 메뉴 알려줘", "10분 안에 만들 수 있는 요리는?",
+            "혈당 관리에 좋은 음식 알려줘");
+
+    private static final List<List<String>> POPULAR_INGREDIENT_SETS = List.of(
+            List.of("김치", "돼지고기", "두부"), List.of("계란", "밥", "간장"), List.of("닭가슴살", "양배추"),
+            List.of("감자", "양파", "당근"), List.of("라면", "계란", "대파"));
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    abstract void run(VirtualUser user);
+
+    static Scenario of(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오: " + key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,226 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemini / Google / Kakao API 스텁 서버 (설정한 지연 후 고정 형식 응답, Gemini는 errorRate 비율로 503 응답)
+ * OAuth 액세스 토큰은 "lt-{n}" 형식이며 loadtest{n}@example.com 사용자로 응답합니다.
+ */
+final class StubServer {
+
+    static final String GEMINI_PATH = "/v1beta/models/gemini-stub";
+    static final String GOOGLE_PATH = "/oauth/google/userinfo";
+    static final String KAKAO_PATH = "/oauth/kakao/user/me";
+
+    // 스트리밍 응답 조각 수
+    private static final int STREAM_CHUNKS = 4;
+
+    private static final String CHAT_REPLY = "김치와 두부가 있다면 김치찌개를 추천해요! 🍲 1인분 약 350kcal 이에요. "
+            + "김치를 먼저 볶은 뒤 물을 붓고 두부와 대파를 넣어 10분간 끓이면 완성입니다. ";
+
+    private static final String RECEIPT_REPLY = "```json\n[{\"name\": \"두부\", \"quantity\": \"1모\", \"category\": \"기타\"},"
+            + " {\"name\": \"대파\", \"quantity\": \"1단\", \"category\": \"채소\"},"
+            + " {\"name\": \"우유\", \"quantity\": \"1L\", \"category\": \"유제품\"}]\n```";
+
+    private final long geminiLatencyMs;
+    private final long oauthLatencyMs;
+    private final double jitter;
+    private final double geminiErrorRate;
+
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestBytes = new ConcurrentHashMap<>();
+    private final Map<String, LongAccumulator> maxRequestBytes = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    StubServer(long geminiLatencyMs, long oauthLatencyMs, double jitter, double geminiErrorRate) {
+        this.geminiLatencyMs = geminiLatencyMs;
+        this.oauthLatencyMs = oauthLatencyMs;
+        this.jitter = jitter;
+        this.geminiErrorRate = geminiErrorRate;
+    }
+
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        // 지연 동안 스레드를 잡고 있으므로 요청마다 스레드 (동시 호출 수 제한 없음)
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(GEMINI_PATH, this::gemini);
+        server.createContext(GOOGLE_PATH, this::google);
+        server.createContext(KAKAO_PATH, this::kakao);
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 스텁 종류별 호출 수
+     */
+    Map<String, Long> callCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        calls.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> counts.put(e.getKey(), e.getValue().sum()));
+        return counts;
+    }
+
+    /**
+     * Gemini 호출 종류별 요청 본문 크기 (평균/최대 bytes)
+     */
+    Map<String, String> requestBytes() {
+        Map<String, String> sizes = new LinkedHashMap<>();
+        requestBytes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> sizes.put(e.getKey(), e.getValue().sum() / Math.max(1, calls.get(e.getKey()).sum())
+                        + "/" + maxRequestBytes.get(e.getKey()).get()));
+        return sizes;
+    }
+
+    private void gemini(HttpExchange exchange) throws IOException {
+        String body = readBody(exchange);
+        String path = exchange.getRequestURI().getPath();
+        boolean receipt = body.contains("inline_data");
+        String kind = path.endsWith(":streamGenerateContent") ? "gemini.stream"
+                : receipt ? "gemini.receipt" : "gemini.generate";
+
+        if (ThreadLocalRandom.current().nextDouble() < geminiErrorRate) {
+            count("gemini.error");
+            sleep(geminiLatencyMs);
+            respond(exchange, 503, "application/json", "{\"error\":{\"code\":503,\"status\":\"UNAVAILABLE\"}}");
+            return;
+        }
+        count(kind);
+        int bytes = body.getBytes(StandardCharsets.UTF_8).length;
+        requestBytes.computeIfAbsent(kind, key -> new LongAdder()).add(bytes);
+        maxRequestBytes.computeIfAbsent(kind, key -> new LongAccumulator(Math::max, 0)).accumulate(bytes);
+        if (kind.equals("gemini.stream")) {
+            streamGemini(exchange);
+            return;
+        }
+        sleep(geminiLatencyMs);
+        String text = receipt ? RECEIPT_REPLY : CHAT_REPLY;
+        respond(exchange, 200, "application/json", geminiResponse(text, body.length() / 4, text.length() / 2));
+    }
+
+    /**
+     * SSE 응답 (지연 시간을 조각 수로 나눠 조각 사이마다 대기)
+     */
+    private void streamGemini(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            int chunkLength = CHAT_REPLY.length() / STREAM_CHUNKS;
+            for (int i = 0; i < STREAM_CHUNKS; i++) {
+                sleep(geminiLatencyMs / STREAM_CHUNKS);
+                int end = i == STREAM_CHUNKS - 1 ? CHAT_REPLY.length() : (i + 1) * chunkLength;
+                String text = CHAT_REPLY.substring(i * chunkLength, end);
+                String json = i == STREAM_CHUNKS - 1
+                        ? geminiResponse(text, 200, CHAT_REPLY.length() / 2)
+                        : geminiResponse(text, 0, 0);
+                out.write(("data: " + json + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+    }
+
+    private void google(HttpExchange exchange) throws IOException {
+        count("oauth.google");
+        readBody(exchange);
+        sleep(oauthLatencyMs);
+        String user = userNumber(exchange);
+        if (user == null) {
+            respond(exchange, 401, "application/json", "{\"error\":\"invalid_token\"}");
+            return;
+        }
+        respond(exchange, 200, "application/json", "{\"sub\":\"" + user + "\",\"email\":\"loadtest" + user
+                + "@example.com\",\"name\":\"부하테스트" + user + "\"}");
+    }
+
+    private void kakao(HttpExchange exchange) throws IOException {
+        count("oauth.kakao");
+        readBody(exchange);
+        sleep(oauthLatencyMs);
+        String user = userNumber(exchange);
+        if (user == null) {
+            respond(exchange, 401, "application/json", "{\"msg\":\"this access token does not exist\"}");
+            return;
+        }
+        respond(exchange, 200, "application/json", "{\"id\":" + user + ",\"kakao_account\":{\"email\":\"loadtest"
+                + user + "@example.com\",\"profile\":{\"nickname\":\"부하테스트" + user + "\"}}}");
+    }
+
+    private static String geminiResponse(String text, int promptTokens, int candidateTokens) {
+        String escaped = text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        String usage = promptTokens == 0 ? "" : ",\"usageMetadata\":{\"promptTokenCount\":" + promptTokens
+                + ",\"candidatesTokenCount\":" + candidateTokens
+                + ",\"totalTokenCount\":" + (promptTokens + candidateTokens) + "}";
+        return "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + escaped + "\"}],\"role\":\"model\"}}]"
+                + usage + "}";
+    }
+
+    /**
+     * "Bearer lt-{n}" -> n (형식이 다르면 null)
+     */
+    private static String userNumber(HttpExchange exchange) {
+        String auth = exchange.getRequestHeaders().getFirst("Authorization");
+        if (auth == null || !auth.startsWith("Bearer lt-")) {
+            return null;
+        }
+        String number = auth.substring("Bearer lt-".length());
+        return number.chars().allMatch(Character::isDigit) && !number.isEmpty() ? number : null;
+    }
+
+    private void count(String name) {
+        calls.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    private void sleep(long baseMs) {
+        if (baseMs <= 0) {
+            return;
+        }
+        double factor = 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        try {
+            Thread.sleep(Math.max(0, Math.round(baseMs * factor)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
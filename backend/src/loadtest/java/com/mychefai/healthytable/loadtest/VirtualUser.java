@@ -0,0 +1,202 @@
+package com.mychefai.healthytable.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 가상 사용자 (로그인한 토큰으로 시나리오 요청을 보내고 지연을 기록)
+ */
+final class VirtualUser {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    final Random random;
+    final long[] postIds;
+    final int chatTurns;
+    final boolean chatHistoryMode;
+    // 로그인/월간 분석을 비교용 블로킹 엔드포인트로 보낼지 여부
+    final boolean blockingEndpoints;
+    // 진행 중인 채팅 대화 (role, content)
+    final List<Map<String, String>> conversation = new ArrayList<>();
+    // 서버 대화 세션 ID (응답으로 받음, 새 대화를 시작하면 null)
+    String chatSessionId;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LatencyReport report;
+    private final ObjectMapper mapper;
+
+    private String token;
+    private long userId;
+    private int userNumber;
+
+    VirtualUser(HttpClient client, String baseUrl, LatencyReport report, ObjectMapper mapper, long[] postIds,
+            int chatTurns, boolean chatHistoryMode, boolean blockingEndpoints, long seed) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.report = report;
+        this.mapper = mapper;
+        this.postIds = postIds;
+        this.chatTurns = chatTurns;
+        this.chatHistoryMode = chatHistoryMode;
+        this.blockingEndpoints = blockingEndpoints;
+        this.random = new Random(seed);
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    /**
+     * OAuth 스텁 토큰으로 로그인 (짝수 번호는 Google, 홀수 번호는 Kakao)
+     */
+    boolean login(int userNumber) {
+        this.userNumber = userNumber;
+        String provider = userNumber % 2 == 0 ? "google" : "kakao";
+        JsonNode body = post("POST /api/auth/" + provider, apiPath("/api/auth/", provider),
+                "{\"accessToken\":\"lt-" + userNumber + "\",\"provider\":\"" + provider + "\"}");
+        if (body == null || !body.hasNonNull("token")) {
+            return false;
+        }
+        token = body.get("token").asText();
+        userId = body.path("user").path("id").asLong();
+        return true;
+    }
+
+    /**
+     * 같은 사용자로 다시 로그인 (OAuth 사용자 정보 조회 + 토큰 발급)
+     */
+    boolean relogin() {
+        return login(userNumber);
+    }
+
+    /**
+     * endpoints=blocking이면 prefix 뒤에 blocking/을 붙인 비교용 경로
+     */
+    String apiPath(String prefix, String rest) {
+        return prefix + (blockingEndpoints ? "blocking/" : "") + rest;
+    }
+
+    long randomPostId() {
+        return postIds[random.nextInt(postIds.length)];
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return send(endpoint, request(path).GET().build(), 0);
+    }
+
+    JsonNode post(String endpoint, String path, String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(), body.length);
+    }
+
+    /**
+     * SSE 응답을 끝까지 읽어 전체 지연을 기록하고 "message" 이벤트의 reply를 이어 붙여 반환 (실패 시 null)
+     * "done" 이벤트의 sessionId는 chatSessionId에 저장합니다.
+     */
+    String postStream(String endpoint, String path, String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = isSuccess(response.statusCode()) && response.body().contains("event:done");
+            report.record(endpoint, System.nanoTime() - start, ok, body.length);
+            return ok ? streamReply(response.body()) : null;
+        } catch (Exception e) {
+            report.record(endpoint, System.nanoTime() - start, false, body.length);
+            interruptIfNeeded(e);
+            return null;
+        }
+    }
+
+    private String streamReply(String body) {
+        StringBuilder reply = new StringBuilder();
+        for (String line : body.split("\n")) {
+            if (line.startsWith("data:")) {
+                try {
+                    JsonNode data = mapper.readTree(line.substring("data:".length()));
+                    reply.append(data.path("reply").asText(""));
+                    if (data.hasNonNull("sessionId")) {
+                        chatSessionId = data.get("sessionId").asText();
+                    }
+                } catch (Exception e) {
+                    // 완료 이벤트 등 JSON이 아닌 데이터는 건너뜀
+                }
+            }
+        }
+        return reply.toString();
+    }
+
+    void delete(String endpoint, String path) {
+        send(endpoint, request(path).DELETE().build(), 0);
+    }
+
+    String json(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * 요청 전송 후 JSON 응답 반환 (실패/비JSON 응답이면 null)
+     */
+    private JsonNode send(String endpoint, HttpRequest request, int requestBytes) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = isSuccess(response.statusCode());
+            report.record(endpoint, System.nanoTime() - start, ok, requestBytes);
+            if (!ok || response.body().isEmpty()) {
+                return null;
+            }
+            try {
+                return mapper.readTree(response.body());
+            } catch (Exception e) {
+                return null;
+            }
+        } catch (Exception e) {
+            report.record(endpoint, System.nanoTime() - start, false, requestBytes);
+            interruptIfNeeded(e);
+            return null;
+        }
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static void interruptIfNeeded(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
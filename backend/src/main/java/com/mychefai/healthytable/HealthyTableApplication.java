@@ -7,6 +7,5 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class HealthyTableApplication {
     public static void main(String[] args) {
         SpringApplication.run(HealthyTableApplication.class, args);
-        System.out.println("실행 성공!!!");
     }
 }
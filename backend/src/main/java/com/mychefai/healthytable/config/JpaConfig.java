@@ -0,0 +1,27 @@
+package com.mychefai.healthytable.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JPA 기본 설정
+ * 기본값은 jpa.properties (application.properties에서 재정의 가능)
+ */
+@Configuration
+@PropertySource("classpath:jpa.properties")
+public class JpaConfig {
+
+    /**
+     * Mono 체인 안에서 블로킹 JPA 호출을 실행할 스케줄러 (플랫폼 스레드)
+     * 공용 Schedulers.boundedElastic()은 가상 스레드 모드에서 Spring Boot가 가상 스레드 구현으로 바꾸는데,
+     * reactor-core 3.6.1의 이 구현은 부하 중 작업을 수십 초씩 실행하지 않아 로그인이 비동기 타임아웃(30초)에 걸렸습니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler() {
+        return Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "jpa");
+    }
+}
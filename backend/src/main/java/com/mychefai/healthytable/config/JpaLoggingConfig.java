@@ -0,0 +1,27 @@
+package com.mychefai.healthytable.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate SQL 출력 설정
+ * spring.jpa.show-sql은 System.out으로 직접 출력해 요청 스레드를 막으므로 기본으로 끄고,
+ * SQL은 logging.level.org.hibernate.SQL=DEBUG 로 비동기 로그를 통해 확인합니다.
+ * 콘솔 출력이 꼭 필요하면 logging.jpa.console-sql=true 로 켭니다.
+ */
+@Configuration
+public class JpaLoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer consoleSqlCustomizer(
+            @Value("${logging.jpa.console-sql:false}") boolean consoleSql) {
+        return properties -> {
+            if (!consoleSql) {
+                properties.put("hibernate.show_sql", "false");
+                properties.put("hibernate.format_sql", "false");
+            }
+        };
+    }
+}
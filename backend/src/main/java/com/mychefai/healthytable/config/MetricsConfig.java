@@ -0,0 +1,47 @@
+package com.mychefai.healthytable.config;
+
+import com.mychefai.healthytable.metrics.HandlerObservationConvention;
+import com.mychefai.healthytable.metrics.QueryCountInspector;
+import com.mychefai.healthytable.metrics.QueryCountInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 지표 수집 설정 (/actuator/prometheus)
+ * 기본 노출 설정은 metrics.properties (application.properties에서 재정의 가능)
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry registry;
+    private final int queryWarnThreshold;
+
+    public MetricsConfig(MeterRegistry registry,
+            @Value("${metrics.jpa.query-warn-threshold:30}") int queryWarnThreshold) {
+        this.registry = registry;
+        this.queryWarnThreshold = queryWarnThreshold;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new QueryCountInterceptor(registry, queryWarnThreshold));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector",
+                new QueryCountInspector());
+    }
+
+    @Bean
+    public HandlerObservationConvention handlerObservationConvention() {
+        return new HandlerObservationConvention();
+    }
+}
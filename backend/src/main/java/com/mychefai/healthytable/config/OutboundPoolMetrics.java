@@ -0,0 +1,102 @@
+package com.mychefai.healthytable.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 외부 HTTP 연결 풀 지표 수집 (풀 이름/원격 주소별)
+ * Reactor Netty가 원격 주소마다 만드는 풀의 사용/유휴/대기 연결 수를 보관하고
+ * outbound.pool.connections{pool, remote, state} 게이지로 노출합니다.
+ */
+@Component
+public class OutboundPoolMetrics implements ConnectionProvider.MeterRegistrar, MeterBinder {
+
+    // "풀 이름 remoteAddress" -> 풀 지표
+    private final Map<String, PoolEntry> pools = new ConcurrentHashMap<>();
+    private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+            ConnectionPoolMetrics metrics) {
+        String key = key(poolName, remoteAddress);
+        PoolEntry entry = new PoolEntry(poolName, String.valueOf(remoteAddress), metrics);
+        pools.put(key, entry);
+        MeterRegistry current = registry;
+        if (current != null) {
+            registerGauges(current, key, entry);
+        }
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        String key = key(poolName, remoteAddress);
+        pools.remove(key);
+        List<Meter> removed = meters.remove(key);
+        MeterRegistry current = registry;
+        if (removed != null && current != null) {
+            removed.forEach(current::remove);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        pools.forEach((key, entry) -> registerGauges(registry, key, entry));
+    }
+
+    /**
+     * 풀별 현재 지표 (acquired, idle, allocated, pending, maxAllocated, maxPending)
+     */
+    public Map<String, Map<String, Integer>> getStats() {
+        Map<String, Map<String, Integer>> stats = new LinkedHashMap<>();
+        pools.forEach((name, entry) -> {
+            ConnectionPoolMetrics metrics = entry.metrics();
+            Map<String, Integer> pool = new LinkedHashMap<>();
+            pool.put("acquired", metrics.acquiredSize());
+            pool.put("idle", metrics.idleSize());
+            pool.put("allocated", metrics.allocatedSize());
+            pool.put("pending", metrics.pendingAcquireSize());
+            pool.put("maxAllocated", metrics.maxAllocatedSize());
+            pool.put("maxPending", metrics.maxPendingAcquireSize());
+            stats.put(name, pool);
+        });
+        return stats;
+    }
+
+    private void registerGauges(MeterRegistry registry, String key, PoolEntry entry) {
+        List<Meter> registered = new ArrayList<>();
+        registered.add(gauge(registry, entry, "acquired", ConnectionPoolMetrics::acquiredSize));
+        registered.add(gauge(registry, entry, "idle", ConnectionPoolMetrics::idleSize));
+        registered.add(gauge(registry, entry, "pending", ConnectionPoolMetrics::pendingAcquireSize));
+        registered.add(gauge(registry, entry, "max", ConnectionPoolMetrics::maxAllocatedSize));
+        meters.put(key, registered);
+    }
+
+    private Meter gauge(MeterRegistry registry, PoolEntry entry, String state,
+            ToDoubleFunction<ConnectionPoolMetrics> value) {
+        return Gauge.builder("outbound.pool.connections", entry.metrics(), value)
+                .tags("pool", entry.poolName(), "remote", entry.remote(), "state", state)
+                .register(registry);
+    }
+
+    private String key(String poolName, SocketAddress remoteAddress) {
+        return poolName + " " + remoteAddress;
+    }
+
+    private record PoolEntry(String poolName, String remote, ConnectionPoolMetrics metrics) {
+    }
+}
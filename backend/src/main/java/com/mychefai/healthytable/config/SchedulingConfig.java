@@ -0,0 +1,15 @@
+package com.mychefai.healthytable.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 기본값은 scheduling.properties (application.properties에서 재정의 가능)
+ */
+@Configuration
+@EnableScheduling
+@PropertySource("classpath:scheduling.properties")
+public class SchedulingConfig {
+}
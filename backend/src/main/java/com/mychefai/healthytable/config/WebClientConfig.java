@@ -1,19 +1,101 @@
 package com.mychefai.healthytable.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 클라이언트 설정
+ * 호스트(Gemini, Google, Kakao)마다 별도 연결 풀을 두어 한쪽이 느려져도 다른 호출의 연결을 잡아먹지 않게 합니다.
+ * 풀 크기/대기 한도/타임아웃은 outbound.{gemini|google|kakao}.* 속성으로 조정합니다.
+ */
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
+    public WebClient.Builder webClientBuilder() {
+        return WebClient.builder();
     }
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider(Environment env, OutboundPoolMetrics poolMetrics) {
+        return connectionProvider("gemini", env, poolMetrics, 100);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider googleConnectionProvider(Environment env, OutboundPoolMetrics poolMetrics) {
+        return connectionProvider("google", env, poolMetrics, 50);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(Environment env, OutboundPoolMetrics poolMetrics) {
+        return connectionProvider("kakao", env, poolMetrics, 50);
+    }
+
+    /**
+     * Gemini 호출용 (생성 응답이 길어 응답 타임아웃을 넉넉히)
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient geminiWebClient(WebClient.Builder builder, Environment env,
+            @Qualifier("geminiConnectionProvider") ConnectionProvider provider) {
+        return webClient(builder, env, "gemini", provider, 60000);
+    }
+
+    @Bean
+    public WebClient googleWebClient(WebClient.Builder builder, Environment env,
+            @Qualifier("googleConnectionProvider") ConnectionProvider provider) {
+        return webClient(builder, env, "google", provider, 5000);
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder builder, Environment env,
+            @Qualifier("kakaoConnectionProvider") ConnectionProvider provider) {
+        return webClient(builder, env, "kakao", provider, 5000);
+    }
+
+    private ConnectionProvider connectionProvider(String name, Environment env, OutboundPoolMetrics poolMetrics,
+            int defaultMaxConnections) {
+        String prefix = "outbound." + name + ".";
+        return ConnectionProvider.builder(name)
+                .maxConnections(env.getProperty(prefix + "max-connections", Integer.class, defaultMaxConnections))
+                // 풀이 가득 찼을 때 대기할 수 있는 요청 수/시간 (초과 시 즉시 실패)
+                .pendingAcquireMaxCount(env.getProperty(prefix + "pending-acquire-max-count", Integer.class,
+                        defaultMaxConnections * 4))
+                .pendingAcquireTimeout(Duration.ofMillis(
+                        env.getProperty(prefix + "pending-acquire-timeout-ms", Long.class, 5000L)))
+                // 상대 서버/로드밸런서가 먼저 끊은 유휴 연결을 재사용하지 않도록
+                .maxIdleTime(Duration.ofMillis(env.getProperty(prefix + "max-idle-time-ms", Long.class, 30000L)))
+                .maxLifeTime(Duration.ofMillis(env.getProperty(prefix + "max-life-time-ms", Long.class, 300000L)))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true, () -> poolMetrics)
+                .build();
+    }
+
+    private WebClient webClient(WebClient.Builder builder, Environment env, String name,
+            ConnectionProvider provider, long defaultResponseTimeoutMs) {
+        String prefix = "outbound." + name + ".";
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        env.getProperty(prefix + "connect-timeout-ms", Integer.class, 3000))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                // 응답 헤더/본문 읽기 사이 최대 대기 시간 (스트리밍 응답에서는 청크 간격 기준)
+                .responseTimeout(Duration.ofMillis(
+                        env.getProperty(prefix + "response-timeout-ms", Long.class, defaultResponseTimeoutMs)));
+        if (env.getProperty(prefix + "http2", Boolean.class, false)) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
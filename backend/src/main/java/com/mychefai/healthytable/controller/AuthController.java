@@ -4,11 +4,15 @@ import com.mychefai.healthytable.domain.User;
 import com.mychefai.healthytable.repository.UserRepository;
 import com.mychefai.healthytable.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -18,84 +22,85 @@ public class AuthController {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final com.mychefai.healthytable.service.OAuthService oAuthService;
+    private final Scheduler jpaScheduler;
 
     @PostMapping("/google")
-    public ResponseEntity<?> loginGoogle(@RequestBody com.mychefai.healthytable.dto.LoginRequestDTO request) {
-        try {
-            // 1. Verify Token with Google
-            Map<String, Object> googleUser = oAuthService.verifyGoogleToken(request.getAccessToken());
-
-            // 2. Extract User Info
-            String email = (String) googleUser.get("email");
-            String name = (String) googleUser.get("name");
-
-            // 3. Find or Create User
-            User user = userRepository.findByEmail(email).orElseGet(() -> {
-                User newUser = new User();
-                newUser.setEmail(email);
-                newUser.setName(name);
-                newUser.setCreatedAt(java.time.LocalDateTime.now());
-                newUser.setPassword(""); // Social login users have no password
-                return userRepository.save(newUser);
-            });
-
-            // 4. Generate JWT
-            String token = jwtTokenProvider.createToken(String.valueOf(user.getId()));
-
-            return ResponseEntity.ok(Map.of(
-                    "token", token,
-                    "user", user));
-        } catch (Exception e) {
-            return ResponseEntity.status(401).body("Invalid Token");
-        }
+    public Mono<ResponseEntity<?>> loginGoogle(@RequestBody com.mychefai.healthytable.dto.LoginRequestDTO request) {
+        // 1. Verify Token with Google (응답을 기다리는 동안 요청 스레드를 점유하지 않음)
+        return oAuthService.verifyGoogleToken(request.getAccessToken())
+                // 사용자 조회/저장은 블로킹 JPA 호출이므로 Netty 이벤트 루프가 아닌 별도 스레드에서 실행 (JpaConfig#jpaScheduler)
+                .publishOn(jpaScheduler)
+                .<ResponseEntity<?>>map(googleUser -> {
+                    // 2. Extract User Info
+                    String email = (String) googleUser.get("email");
+                    String name = (String) googleUser.get("name");
+
+                    // 3. Find or Create User
+                    User user = userRepository.findByEmail(email).orElseGet(() -> {
+                        User newUser = new User();
+                        newUser.setEmail(email);
+                        newUser.setName(name);
+                        newUser.setCreatedAt(java.time.LocalDateTime.now());
+                        newUser.setPassword(""); // Social login users have no password
+                        return userRepository.save(newUser);
+                    });
+
+                    // 4. Generate JWT
+                    String token = jwtTokenProvider.createToken(String.valueOf(user.getId()));
+
+                    return ResponseEntity.ok(Map.of(
+                            "token", token,
+                            "user", user));
+                })
+                .defaultIfEmpty(ResponseEntity.status(401).body("Invalid Token"))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(401).body("Invalid Token")));
     }
 
     @PostMapping("/kakao")
     @SuppressWarnings("unchecked")
-    public ResponseEntity<?> loginKakao(@RequestBody com.mychefai.healthytable.dto.LoginRequestDTO request) {
-        try {
-            System.out.println("Starting Kakao Login verification...");
-            // 1. Verify Token with Kakao
-            Map<String, Object> kakaoUser = oAuthService.verifyKakaoToken(request.getAccessToken());
-            System.out.println("Kakao User Info: " + kakaoUser);
-
-            // 2. Extract User Info (Kakao structure is nested)
-            Map<String, Object> kakaoAccount = (Map<String, Object>) kakaoUser.get("kakao_account");
-            if (kakaoAccount == null) {
-                throw new RuntimeException("kakao_account is null");
-            }
-
-            Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
-
-            String email = kakaoAccount.containsKey("email") ? (String) kakaoAccount.get("email")
-                    : "kakao_" + kakaoUser.get("id");
-
-            String name = "Kakao User";
-            if (profile != null && profile.containsKey("nickname")) {
-                name = (String) profile.get("nickname");
-            }
-
-            // 3. Find or Create User
-            String finalName = name;
-            User user = userRepository.findByEmail(email).orElseGet(() -> {
-                User newUser = new User();
-                newUser.setEmail(email);
-                newUser.setName(finalName);
-                newUser.setCreatedAt(java.time.LocalDateTime.now());
-                newUser.setPassword("");
-                return userRepository.save(newUser);
-            });
-
-            // 4. Generate JWT
-            String token = jwtTokenProvider.createToken(String.valueOf(user.getId()));
-
-            return ResponseEntity.ok(Map.of(
-                    "token", token,
-                    "user", user));
-        } catch (Exception e) {
-            System.err.println("Kakao Login Error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(401).body("Invalid Kakao Token: " + e.getMessage());
-        }
+    public Mono<ResponseEntity<?>> loginKakao(@RequestBody com.mychefai.healthytable.dto.LoginRequestDTO request) {
+        // 1. Verify Token with Kakao (응답을 기다리는 동안 요청 스레드를 점유하지 않음)
+        return oAuthService.verifyKakaoToken(request.getAccessToken())
+                .publishOn(jpaScheduler)
+                .<ResponseEntity<?>>map(kakaoUser -> {
+                    // 2. Extract User Info (Kakao structure is nested)
+                    Map<String, Object> kakaoAccount = (Map<String, Object>) kakaoUser.get("kakao_account");
+                    if (kakaoAccount == null) {
+                        throw new RuntimeException("kakao_account is null");
+                    }
+
+                    Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
+
+                    String email = kakaoAccount.containsKey("email") ? (String) kakaoAccount.get("email")
+                            : "kakao_" + kakaoUser.get("id");
+
+                    String name = "Kakao User";
+                    if (profile != null && profile.containsKey("nickname")) {
+                        name = (String) profile.get("nickname");
+                    }
+
+                    // 3. Find or Create User
+                    String finalName = name;
+                    User user = userRepository.findByEmail(email).orElseGet(() -> {
+                        User newUser = new User();
+                        newUser.setEmail(email);
+                        newUser.setName(finalName);
+                        newUser.setCreatedAt(java.time.LocalDateTime.now());
+                        newUser.setPassword("");
+                        return userRepository.save(newUser);
+                    });
+
+                    // 4. Generate JWT
+                    String token = jwtTokenProvider.createToken(String.valueOf(user.getId()));
+
+                    return ResponseEntity.ok(Map.of(
+                            "token", token,
+                            "user", user));
+                })
+                .defaultIfEmpty(ResponseEntity.status(401).body("Invalid Kakao Token: empty response"))
+                .onErrorResume(e -> {
+                    log.warn("Kakao Login Error: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(401).body("Invalid Kakao Token: " + e.getMessage()));
+                });
     }
 }
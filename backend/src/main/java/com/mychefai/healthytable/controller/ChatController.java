@@ -1,128 +1,111 @@
 package com.mychefai.healthytable.controller;
 
-import com.mychefai.healthytable.domain.FridgeItem;
-import com.mychefai.healthytable.domain.HealthProfile;
 import com.mychefai.healthytable.dto.ChatDto;
-import com.mychefai.healthytable.repository.FridgeItemRepository;
-import com.mychefai.healthytable.repository.HealthProfileRepository;
-import com.mychefai.healthytable.security.JwtTokenProvider;
+import com.mychefai.healthytable.security.JwtAuthenticationToken;
+import com.mychefai.healthytable.service.ChatContextCache;
+import com.mychefai.healthytable.service.ChatSessionStore;
 import com.mychefai.healthytable.service.GeminiService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/chat")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class ChatController {
 
+    private static final Logger TRACE = LoggerFactory.getLogger("com.mychefai.healthytable.trace.chat");
+
     private final GeminiService geminiService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final FridgeItemRepository fridgeItemRepository;
-    private final HealthProfileRepository healthProfileRepository;
+    private final ChatContextCache chatContextCache;
+    private final ChatSessionStore chatSessionStore;
 
+    /**
+     * 채팅
+     * AI 호출이 실패하거나 빈 응답이면 error=true와 안내 문구로 응답하고, 그 턴은 대화에 저장하지 않습니다.
+     */
     @PostMapping("/message")
     public Mono<ChatDto.Response> chat(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestBody ChatDto.Request request) {
+        Long userId = JwtAuthenticationToken.currentUserId();
+        ChatSessionStore.Session session = chatSessionStore.open(request.getSessionId(), userId,
+                request.getHistory());
+        String enhancedMessage = buildEnhancedMessage(request, userId);
+        return geminiService.getChatResponse(enhancedMessage, session.history())
+                .map(reply -> {
+                    chatSessionStore.append(session, request.getMessage(), reply);
+                    return new ChatDto.Response(reply, session.getId());
+                })
+                .switchIfEmpty(Mono.fromSupplier(
+                        () -> ChatDto.Response.failed(GeminiService.EMPTY_REPLY, session.getId())))
+                .onErrorResume(e -> Mono.just(
+                        ChatDto.Response.failed(geminiService.chatFailureReply(e), session.getId())));
+    }
 
-        String enhancedMessage = request.getMessage();
-        StringBuilder systemContext = new StringBuilder();
-
-        // Get user context if authenticated
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            try {
-                String token = authHeader.substring(7);
-                if (jwtTokenProvider.validateToken(token)) {
-                    String userId = jwtTokenProvider.getUserId(token);
-                    Long userIdLong = Long.parseLong(userId);
-
-                    // 1. ALWAYS include health profile for safety
-                    healthProfileRepository.findByUserId(userIdLong).ifPresent(profile -> {
-                        systemContext.append("\n\n=== 🏥 중요: 사용자 건강 정보 (반드시 준수) ===\n");
-
-                        if (profile.getAllergies() != null && !profile.getAllergies().isEmpty()) {
-                            systemContext.append("⚠️ 알레르기: ").append(String.join(", ", profile.getAllergies()))
-                                    .append("\n");
-                            systemContext.append("→ 이 재료들은 절대 사용하지 마세요!\n");
-                        }
-
-                        if (profile.getChronicConditions() != null && !profile.getChronicConditions().isEmpty()) {
-                            systemContext.append("🩺 만성질환: ").append(String.join(", ", profile.getChronicConditions()))
-                                    .append("\n");
-                        }
-
-                        if (profile.getDietaryRestrictions() != null && !profile.getDietaryRestrictions().isEmpty()) {
-                            systemContext.append("🥗 식단 제한: ")
-                                    .append(String.join(", ", profile.getDietaryRestrictions())).append("\n");
-                        }
-
-                        if (profile.getMedications() != null && !profile.getMedications().isEmpty()) {
-                            systemContext.append("💊 복용 약물: ").append(String.join(", ", profile.getMedications()))
-                                    .append("\n");
-                            systemContext.append("→ 약물과 상호작용할 수 있는 음식을 피해주세요.\n");
-                        }
-
-                        if (profile.getGoals() != null && !profile.getGoals().isEmpty()) {
-                            systemContext.append("🎯 건강 목표: ").append(String.join(", ", profile.getGoals()))
-                                    .append("\n");
-                        }
+    /**
+     * 스트리밍 채팅 (SSE)
+     * 생성되는 부분 텍스트를 "message" 이벤트로 바로 전달하고, 끝나면 세션 ID를 담은 "done" 이벤트를 보냅니다.
+     * 실패하거나 빈 응답이면 "done" 대신 안내 문구(error=true)를 담은 "error" 이벤트를 보내고,
+     * 이미 보낸 부분 응답이 있어도 그 턴은 대화에 저장하지 않습니다.
+     */
+    @PostMapping(value = "/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatDto.Response>> chatStream(
+            @RequestBody ChatDto.Request request) {
+        Long userId = JwtAuthenticationToken.currentUserId();
+        ChatSessionStore.Session session = chatSessionStore.open(request.getSessionId(), userId,
+                request.getHistory());
+        String enhancedMessage = buildEnhancedMessage(request, userId);
+        StringBuilder reply = new StringBuilder();
+        return geminiService.streamChatResponse(enhancedMessage, session.history())
+                .doOnNext(reply::append)
+                .map(chunk -> ServerSentEvent.builder(new ChatDto.Response(chunk)).event("message").build())
+                .concatWith(Mono.fromSupplier(() -> {
+                    if (reply.isEmpty()) {
+                        return errorEvent(GeminiService.EMPTY_REPLY, session);
+                    }
+                    // 응답이 끝까지 전달된 경우에만 대화에 추가 (중간에 끊기거나 실패하면 concatWith까지 오지 않음)
+                    chatSessionStore.append(session, request.getMessage(), reply.toString());
+                    return ServerSentEvent.builder(new ChatDto.Response(null, session.getId())).event("done").build();
+                }))
+                .onErrorResume(e -> Mono.just(errorEvent(geminiService.chatFailureReply(e), session)));
+    }
 
-                        systemContext.append("=====================================\n");
-                    });
+    private static ServerSentEvent<ChatDto.Response> errorEvent(String reply, ChatSessionStore.Session session) {
+        return ServerSentEvent.builder(ChatDto.Response.failed(reply, session.getId())).event("error").build();
+    }
 
-                    // 2. Fridge context (with strict enforcement)
-                    List<FridgeItem> fridgeItems = fridgeItemRepository.findByUserIdOrderByExpiryDate(userIdLong);
+    /**
+     * 로그인 사용자면 건강 정보/냉장고 컨텍스트를 붙인 메시지 (컨텍스트는 사용자별 캐시에서 렌더링된 문자열로 가져옴)
+     */
+    private String buildEnhancedMessage(ChatDto.Request request, Long userId) {
+        String systemContext = "";
 
-                    if (request.isUseFridge()) {
-                        // FRIDGE ON: Use fridge ingredients
-                        systemContext.append("\n=== ❄️ 냉장고 모드 ON ===\n");
-                        if (!fridgeItems.isEmpty()) {
-                            systemContext.append("현재 냉장고에 있는 재료:\n");
-                            String fridgeInfo = fridgeItems.stream()
-                                    .map(item -> String.format("- %s (%s, 유통기한: %s)",
-                                            item.getName(), item.getQuantity(), item.getExpiryDate()))
-                                    .collect(Collectors.joining("\n"));
-                            systemContext.append(fridgeInfo).append("\n");
-                            systemContext.append("\n⚡ 지시사항: 위 재료들을 최대한 활용하여 레시피를 추천해주세요.");
-                            systemContext.append(" 유통기한이 임박한 재료를 우선적으로 사용하세요.\n");
-                        } else {
-                            systemContext.append("냉장고에 등록된 재료가 없습니다.\n");
-                            systemContext.append("→ 일반적인 레시피를 추천해주세요.\n");
-                        }
-                        systemContext.append("========================\n");
-                    } else {
-                        // FRIDGE OFF: Do NOT use fridge ingredients
-                        systemContext.append("\n=== 🚫 냉장고 모드 OFF ===\n");
-                        systemContext.append("⚡ 중요 지시사항: 사용자가 냉장고 재료를 사용하지 않기로 선택했습니다.\n");
-                        systemContext.append("→ 냉장고에 있는 재료를 언급하거나 사용하지 마세요.\n");
-                        systemContext.append("→ 다양한 재료로 자유롭게 레시피를 추천해주세요.\n");
-                        systemContext.append("======================\n");
-                    }
-                }
+        // userId: JwtAuthenticationFilter에서 검증한 사용자 ID (토큰 재파싱 없음)
+        if (userId != null) {
+            try {
+                systemContext = chatContextCache.getContext(userId, request.isUseFridge());
             } catch (Exception e) {
-                System.err.println("컨텍스트 추가 중 오류 (무시하고 계속): " + e.getMessage());
+                log.warn("컨텍스트 추가 중 오류 (무시하고 계속): {}", e.getMessage());
             }
         }
 
-        // Combine user message with system context
-        if (systemContext.length() > 0) {
-            enhancedMessage = request.getMessage() + systemContext.toString();
-            System.out.println(">>> AI에게 전달되는 컨텍스트 포함 메시지:");
-            System.out.println(enhancedMessage);
-        } else {
-            System.out.println(">>> AI에게 전달되는 메시지 (비로그인):");
-            System.out.println(enhancedMessage);
-        }
+        String enhancedMessage = systemContext.isEmpty() ? request.getMessage()
+                : request.getMessage().concat(systemContext);
+        // 프롬프트 전문은 건강 정보를 포함하므로 길이만 기록 (trace 카테고리, 샘플링 적용)
+        TRACE.debug("chat prompt length={} context={}", enhancedMessage.length(), !systemContext.isEmpty());
 
-        return geminiService.getChatResponse(enhancedMessage, request.getHistory())
-                .map(ChatDto.Response::new);
+        return enhancedMessage;
     }
 
     @PostMapping("/stt") // STT Endpoint
@@ -6,10 +6,13 @@ import com.mychefai.healthytable.service.CommunityPostService;
 import com.mychefai.healthytable.service.PostCommentService;
 import com.mychefai.healthytable.service.RecommendationService;
 import com.mychefai.healthytable.dto.RecommendationDTO;
+import com.mychefai.healthytable.util.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -25,9 +28,15 @@ public class CommunityController {
     private final RecommendationService recommendationService;
 
     // ========== 기존 레시피 공유 기능 ==========
+    /**
+     * 공개 피드 조회 (커서 페이지네이션: 마지막 항목의 createdAt, id를 다음 요청의 커서로 전달)
+     */
     @GetMapping("/feed")
-    public List<CommunityFeedItemDTO> getPublicFeed() {
-        return communityService.getPublicFeed();
+    public List<CommunityFeedItemDTO> getPublicFeed(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        return communityService.getPublicFeed(cursorCreatedAt, cursorId, size);
     }
 
     @PostMapping("/share")
@@ -50,12 +59,16 @@ public class CommunityController {
     // ========== 사용자 게시글 기능 ==========
 
     /**
-     * 전체 게시글 조회
+     * 전체 게시글 조회 (커서 페이지네이션: 마지막 게시글의 createdAt, id를 다음 요청의 커서로 전달)
      */
     @GetMapping("/posts")
     public ResponseEntity<List<CommunityPostDTO>> getAllPosts(
-            @RequestParam(required = false) Long currentUserId) {
-        List<CommunityPostDTO> posts = communityPostService.getAllPosts(currentUserId);
+            @RequestParam(required = false) Long currentUserId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        List<CommunityPostDTO> posts = communityPostService.getAllPosts(currentUserId, cursorCreatedAt, cursorId,
+                size);
         return ResponseEntity.ok(posts);
     }
 
@@ -83,13 +96,19 @@ public class CommunityController {
     }
 
     /**
-     * 게시글 검색
+     * 게시글 검색 (sort=relevance: 관련도 순 page 단위, sort=latest: 최신순 커서 페이지네이션)
      */
     @GetMapping("/posts/search")
     public ResponseEntity<List<CommunityPostDTO>> searchPosts(
             @RequestParam String keyword,
-            @RequestParam(required = false) Long currentUserId) {
-        List<CommunityPostDTO> posts = communityPostService.searchPosts(keyword, currentUserId);
+            @RequestParam(required = false) Long currentUserId,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        List<CommunityPostDTO> posts = communityPostService.searchPosts(keyword, currentUserId, sort, page,
+                cursorCreatedAt, cursorId, size);
         return ResponseEntity.ok(posts);
     }
 
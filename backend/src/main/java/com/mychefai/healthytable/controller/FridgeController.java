@@ -1,10 +1,12 @@
 package com.mychefai.healthytable.controller;
 
 import com.mychefai.healthytable.domain.FridgeItem;
+import com.mychefai.healthytable.event.FridgeChangedEvent;
 import com.mychefai.healthytable.repository.FridgeRepository;
-import com.mychefai.healthytable.security.JwtTokenProvider;
+import com.mychefai.healthytable.security.JwtAuthenticationToken;
 import com.mychefai.healthytable.service.GeminiService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
@@ -18,31 +20,39 @@ public class FridgeController {
 
     private final FridgeRepository fridgeRepository;
     private final GeminiService geminiService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
-    public List<FridgeItem> getFridgeItems(@RequestHeader("Authorization") String token) {
-        Long userId = Long.valueOf(jwtTokenProvider.getUserId(token.replace("Bearer ", "")));
+    public List<FridgeItem> getFridgeItems() {
+        Long userId = currentUserId();
         return fridgeRepository.findByUserIdOrderByExpiryDateAsc(userId);
     }
 
     @PostMapping
-    public FridgeItem addFridgeItem(@RequestHeader("Authorization") String token, @RequestBody FridgeItem item) {
-        Long userId = Long.valueOf(jwtTokenProvider.getUserId(token.replace("Bearer ", "")));
+    public FridgeItem addFridgeItem(@RequestBody FridgeItem item) {
+        Long userId = currentUserId();
         item.setUserId(userId);
-        return fridgeRepository.save(item);
+        FridgeItem saved = fridgeRepository.save(item);
+        eventPublisher.publishEvent(new FridgeChangedEvent(userId, true));
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void deleteFridgeItem(@PathVariable Long id) {
-        fridgeRepository.deleteById(id);
+        Long userId = currentUserId();
+
+        fridgeRepository.findById(id)
+                .filter(existingItem -> existingItem.getUserId().equals(userId))
+                .ifPresent(item -> {
+                    fridgeRepository.delete(item);
+                    eventPublisher.publishEvent(new FridgeChangedEvent(userId, true));
+                });
     }
 
     @PutMapping("/{id}")
     public FridgeItem updateFridgeItem(@PathVariable Long id,
-            @RequestHeader("Authorization") String token,
             @RequestBody FridgeItem item) {
-        Long userId = Long.valueOf(jwtTokenProvider.getUserId(token.replace("Bearer ", "")));
+        Long userId = currentUserId();
 
         return fridgeRepository.findById(id)
                 .filter(existingItem -> existingItem.getUserId().equals(userId))
@@ -51,23 +61,26 @@ public class FridgeController {
                     existingItem.setQuantity(item.getQuantity());
                     existingItem.setCategory(item.getCategory());
                     existingItem.setExpiryDate(item.getExpiryDate());
-                    return fridgeRepository.save(existingItem);
+                    FridgeItem saved = fridgeRepository.save(existingItem);
+                    eventPublisher.publishEvent(new FridgeChangedEvent(userId, true));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Item not found or unauthorized"));
     }
 
     @PatchMapping("/{id}/quantity")
     public FridgeItem adjustQuantity(@PathVariable Long id,
-            @RequestHeader("Authorization") String token,
             @RequestBody Map<String, String> body) {
-        Long userId = Long.valueOf(jwtTokenProvider.getUserId(token.replace("Bearer ", "")));
+        Long userId = currentUserId();
         String quantityStr = body.get("quantity");
 
         return fridgeRepository.findById(id)
                 .filter(item -> item.getUserId().equals(userId))
                 .map(item -> {
                     item.setQuantity(quantityStr);
-                    return fridgeRepository.save(item);
+                    FridgeItem saved = fridgeRepository.save(item);
+                    eventPublisher.publishEvent(new FridgeChangedEvent(userId, false));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Item not found or unauthorized"));
     }
@@ -83,4 +96,13 @@ public class FridgeController {
         // Return Mono directly - Spring WebFlux will handle async properly
         return geminiService.analyzeReceipt(base64Image);
     }
+
+    // JwtAuthenticationFilter에서 검증한 사용자 ID (토큰 재파싱 없음)
+    private Long currentUserId() {
+        Long userId = JwtAuthenticationToken.currentUserId();
+        if (userId == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        return userId;
+    }
 }
@@ -42,6 +42,13 @@ public class CommunityPost {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    // 비정규화 카운터: 엔티티 저장 시에는 건드리지 않고 CommunityPostRepository의 원자적 UPDATE로만 갱신
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Long commentCount = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -1,5 +1,6 @@
 package com.mychefai.healthytable.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,14 +22,34 @@ public class ChatDto {
     @AllArgsConstructor
     public static class Request {
         private String message;
-        private List<Message> history;
+        private List<Message> history; // sessionId가 있으면 무시 (서버에 저장된 대화 사용)
         private boolean useFridge = true; // Default to true
+        private String sessionId; // 이전 응답에서 받은 대화 세션 ID (없으면 새 세션)
     }
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Response {
         private String reply;
+        private String sessionId; // 다음 요청에 보낼 대화 세션 ID
+        private Boolean error; // AI 호출 실패/빈 응답이면 true (reply는 안내 문구, 대화에 저장되지 않음)
+
+        public Response(String reply) {
+            this.reply = reply;
+        }
+
+        public Response(String reply, String sessionId) {
+            this.reply = reply;
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * 실패 응답 (안내 문구 + error=true)
+         */
+        public static Response failed(String reply, String sessionId) {
+            return new Response(reply, sessionId, true);
+        }
     }
 }
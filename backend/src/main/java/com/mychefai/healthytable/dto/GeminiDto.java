@@ -55,6 +55,15 @@ public class GeminiDto {
     @NoArgsConstructor
     public static class Response {
         private List<Candidate> candidates;
+        private UsageMetadata usageMetadata;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class UsageMetadata {
+        private Integer promptTokenCount;
+        private Integer candidatesTokenCount;
+        private Integer totalTokenCount;
     }
 
     @Data
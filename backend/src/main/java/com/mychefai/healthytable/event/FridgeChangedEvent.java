@@ -0,0 +1,10 @@
+package com.mychefai.healthytable.event;
+
+/**
+ * 사용자 냉장고 재료 추가/수정/삭제 이벤트
+ *
+ * @param userId             냉장고 주인
+ * @param ingredientsChanged 재료 구성(이름)이 바뀌었는지 여부 (수량만 바뀐 경우 false)
+ */
+public record FridgeChangedEvent(Long userId, boolean ingredientsChanged) {
+}
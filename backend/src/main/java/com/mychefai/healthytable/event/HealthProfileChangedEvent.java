@@ -0,0 +1,9 @@
+package com.mychefai.healthytable.event;
+
+/**
+ * 사용자 건강 정보(알러지, 질환 등) 변경 이벤트
+ *
+ * @param userId 건강 정보 주인
+ */
+public record HealthProfileChangedEvent(Long userId) {
+}
@@ -0,0 +1,12 @@
+package com.mychefai.healthytable.event;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+
+/**
+ * 커뮤니티 게시글 작성/수정/삭제 이벤트 (인기 순위, 검색 색인 갱신용)
+ *
+ * @param post    변경된 게시글 (삭제 시 삭제 전 상태)
+ * @param deleted 삭제 여부
+ */
+public record PostChangedEvent(CommunityPost post, boolean deleted) {
+}
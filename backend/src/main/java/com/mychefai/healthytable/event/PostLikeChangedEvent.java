@@ -0,0 +1,10 @@
+package com.mychefai.healthytable.event;
+
+/**
+ * 게시글 좋아요 수 변경 이벤트 (인기 순위 갱신용)
+ *
+ * @param postId    게시글
+ * @param likeCount 변경 후 좋아요 수 (Write-Behind 모드에서는 버퍼 기준 예상 값)
+ */
+public record PostLikeChangedEvent(Long postId, long likeCount) {
+}
@@ -0,0 +1,7 @@
+package com.mychefai.healthytable.event;
+
+/**
+ * 레시피 추가/수정/삭제 이벤트 (재료 색인 재구축용)
+ */
+public record RecipesChangedEvent() {
+}
@@ -0,0 +1,9 @@
+package com.mychefai.healthytable.event;
+
+/**
+ * 사용자 정보(이름/이메일 등) 변경 이벤트 (사용자 캐시 무효화용)
+ *
+ * @param userId 변경된 사용자
+ */
+public record UserChangedEvent(Long userId) {
+}
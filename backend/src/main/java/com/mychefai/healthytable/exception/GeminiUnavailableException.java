@@ -0,0 +1,22 @@
+package com.mychefai.healthytable.exception;
+
+/**
+ * Gemini 호출 보호 장치가 원격 호출 없이 즉시 거절한 경우 (회로 열림 / 동시 호출 한도 초과 / 백그라운드 호출 보류)
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    public static final String CIRCUIT_OPEN = "circuit-open";
+    public static final String CONCURRENCY_LIMIT = "concurrency-limit";
+    public static final String BACKGROUND_LIMIT = "background-limit";
+
+    private final String reason;
+
+    public GeminiUnavailableException(String reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mychefai.healthytable.exception;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -8,14 +9,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleAllExceptions(Exception ex) {
-        System.err.println(">>> Global Exception Caught: " + ex.getClass().getName());
-        System.err.println(">>> Message: " + ex.getMessage());
-        ex.printStackTrace();
+        log.error("Global Exception Caught: {}", ex.getClass().getName(), ex);
 
         Map<String, String> response = new HashMap<>();
         response.put("error", ex.getClass().getName());
@@ -0,0 +1,63 @@
+package com.mychefai.healthytable.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 추적 로그 샘플링 필터 (logback-spring.xml에서 등록)
+ * loggerPrefix로 시작하는 로거의 INFO 이하 로그를 초당 maxPerSecond건까지만 통과시키고 나머지는 버립니다.
+ * WARN/ERROR는 항상 통과합니다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.mychefai.healthytable.trace";
+    private int maxPerSecond = 20;
+
+    // 현재 1초 구간 시작 시각(초)과 구간 내 통과 건수
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicLong windowCount = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 어차피 출력되지 않는 레벨은 샘플링 한도를 소모하지 않음
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        long current = windowSecond.get();
+        if (second != current && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() <= maxPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * 샘플링으로 버려진 로그 수 (누적)
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
@@ -0,0 +1,96 @@
+package com.mychefai.healthytable.metrics;
+
+import com.mychefai.healthytable.dto.GeminiDto;
+import com.mychefai.healthytable.exception.GeminiUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gemini API 호출 지표
+ * gemini.requests: 호출 지연 시간 (operation, outcome=success|empty|error|rejected)
+ * gemini.tokens: 호출당 토큰 수 (operation, type=prompt|candidates)
+ */
+@Component
+@RequiredArgsConstructor
+public class GeminiMetrics {
+
+    private final MeterRegistry registry;
+
+    /**
+     * 단건 호출 시간 측정 (구독 시점부터 완료/에러까지, 취소는 기록하지 않음)
+     */
+    public <T> Mono<T> timeRequest(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call
+                    .doOnSuccess(value -> sample.stop(timer(operation, value == null ? "empty" : "success")))
+                    .doOnError(e -> sample.stop(timer(operation, errorOutcome(e))));
+        });
+    }
+
+    /**
+     * 스트리밍 호출 시간 측정 (마지막 조각의 토큰 사용량을 완료 시 기록)
+     */
+    public Flux<GeminiDto.Response> timeStream(String operation, Flux<GeminiDto.Response> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            AtomicReference<GeminiDto.UsageMetadata> lastUsage = new AtomicReference<>();
+            return call
+                    .doOnNext(response -> {
+                        if (response.getUsageMetadata() != null) {
+                            lastUsage.set(response.getUsageMetadata());
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        sample.stop(timer(operation, "success"));
+                        recordUsage(operation, lastUsage.get());
+                    })
+                    .doOnError(e -> sample.stop(timer(operation, errorOutcome(e))));
+        });
+    }
+
+    /**
+     * 토큰 사용량 기록
+     */
+    public void recordUsage(String operation, GeminiDto.UsageMetadata usage) {
+        if (usage == null) {
+            return;
+        }
+        if (usage.getPromptTokenCount() != null) {
+            tokens(operation, "prompt").record(usage.getPromptTokenCount());
+        }
+        if (usage.getCandidatesTokenCount() != null) {
+            tokens(operation, "candidates").record(usage.getCandidatesTokenCount());
+        }
+    }
+
+    // 보호 장치가 원격 호출 없이 거절한 경우는 실패와 구분
+    private static String errorOutcome(Throwable e) {
+        return e instanceof GeminiUnavailableException ? "rejected" : "error";
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder("gemini.requests")
+                .description("Gemini API 호출 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private DistributionSummary tokens(String operation, String type) {
+        return DistributionSummary.builder("gemini.tokens")
+                .description("Gemini API 호출당 토큰 수")
+                .tag("operation", operation)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mychefai.healthytable.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * http.server.requests 지표에 컨트롤러 메서드(handler) 태그 추가
+ */
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and("handler", QueryCountInterceptor.handlerName(handler));
+    }
+}
@@ -0,0 +1,36 @@
+package com.mychefai.healthytable.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드별 실행 SQL 수 집계 (Hibernate StatementInspector)
+ * QueryCountInterceptor가 요청 시작 시 start(), 종료 시 finish()를 호출합니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 집계 종료
+     *
+     * @return 집계된 SQL 수 (start 하지 않았으면 -1)
+     */
+    public static int finish() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? -1 : counter[0];
+    }
+}
@@ -0,0 +1,79 @@
+package com.mychefai.healthytable.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드별 요청당 SQL 수 기록 (http.server.requests.queries)
+ * 임계값 이상이면 N+1 의심 경고 로그를 남깁니다.
+ * Mono/Flux 핸들러는 비동기 처리 시작 시점에 한 번만 기록하고, 결과를 쓰는 ASYNC 재디스패치는 세지 않습니다.
+ */
+@Slf4j
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public QueryCountInterceptor(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true; // 최초 디스패치에서 이미 기록됨
+        }
+        QueryCountInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // Mono/Flux 반환: 요청 스레드에서 실행된 쿼리까지만 기록
+        record(handler);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return;
+        }
+        record(handler);
+    }
+
+    private void record(Object handler) {
+        int queries = QueryCountInspector.finish();
+        if (queries < 0) {
+            return;
+        }
+        String handlerName = handlerName(handler);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 실행된 SQL 수")
+                .tag("handler", handlerName)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(queries);
+        if (queries >= warnThreshold) {
+            log.warn("요청당 SQL 수 과다 (N+1 의심) handler={} queries={}", handlerName, queries);
+        }
+    }
+
+    /**
+     * 지표 태그용 핸들러 이름 (컨트롤러 클래스.메서드)
+     */
+    public static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
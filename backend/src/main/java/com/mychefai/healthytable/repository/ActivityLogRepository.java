@@ -1,7 +1,6 @@
 package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.ActivityLog;
-import com.mychefai.healthytable.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -9,7 +8,8 @@ import java.util.List;
 import java.util.Optional;
 
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
-    List<ActivityLog> findByUser(User user);
+    // 사용자 ID(외래키)로 조회 (User 엔티티 조회 없이 사용)
+    List<ActivityLog> findByUserId(Long userId);
 
-    Optional<ActivityLog> findByUserAndActivityDate(User user, LocalDate activityDate);
+    Optional<ActivityLog> findByUserIdAndActivityDate(Long userId, LocalDate activityDate);
 }
@@ -1,9 +1,15 @@
 package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.CommunityPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,4 +29,79 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
 
     // 검색 (제목 또는 내용)
     List<CommunityPost> findByTitleContainingOrContentContainingOrderByCreatedAtDesc(String title, String content);
+
+    // ===== 커서(keyset) 페이지네이션: (created_at, id) 내림차순, idx_post_created 사용 =====
+
+    // 첫 페이지
+    List<CommunityPost> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 커서 이후 페이지
+    @Query("SELECT p FROM CommunityPost p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<CommunityPost> findPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    // 검색 첫 페이지
+    @Query("SELECT p FROM CommunityPost p " +
+            "WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<CommunityPost> searchPage(@Param("keyword") String keyword, Pageable pageable);
+
+    // 검색 커서 이후 페이지
+    @Query("SELECT p FROM CommunityPost p " +
+            "WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<CommunityPost> searchPageBefore(@Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // ===== 좋아요/댓글 카운터 (비정규화) =====
+    // updated_at = updated_at: MySQL ON UPDATE CURRENT_TIMESTAMP로 수정 시간이 바뀌지 않도록 유지
+
+    // 좋아요 수 원자적 증감
+    @Modifying
+    @Query("UPDATE CommunityPost p SET p.likeCount = p.likeCount + :delta, p.updatedAt = p.updatedAt " +
+            "WHERE p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 수 원자적 증감
+    @Modifying
+    @Query("UPDATE CommunityPost p SET p.commentCount = p.commentCount + :delta, p.updatedAt = p.updatedAt " +
+            "WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 현재 좋아요 수 조회
+    @Query("SELECT p.likeCount FROM CommunityPost p WHERE p.id = :postId")
+    Long findLikeCountById(@Param("postId") Long postId);
+
+    // 검색 색인 구축용 ID 순 배치 조회
+    List<CommunityPost> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 인기 랭킹 구성용 (id, createdAt, likeCount): 기간 내 게시글 (idx_post_created)
+    @Query("SELECT p.id, p.createdAt, p.likeCount FROM CommunityPost p WHERE p.createdAt >= :since")
+    List<Object[]> findRankingRowsSince(@Param("since") LocalDateTime since);
+
+    // 인기 랭킹 구성용 (id, createdAt, likeCount): 전체 기간 좋아요 상위 (idx_post_like_created)
+    @Query("SELECT p.id, p.createdAt, p.likeCount FROM CommunityPost p " +
+            "ORDER BY p.likeCount DESC, p.createdAt DESC, p.id DESC")
+    List<Object[]> findTopRankingRows(Pageable pageable);
+
+    // 카운터 보정 배치의 ID 범위 계산용
+    @Query("SELECT MAX(p.id) FROM CommunityPost p")
+    Long findMaxId();
+
+    // ID 범위 내 게시글의 카운터를 실제 좋아요/댓글 수로 보정
+    // 값이 다른 행만 변경 (Connector/J는 기본적으로 일치한 행 수를 반환하므로 WHERE에서 걸러야 보정 건수가 정확함)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE community_posts p " +
+            "SET p.like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id), " +
+            "p.comment_count = (SELECT COUNT(*) FROM post_comments c WHERE c.post_id = p.id), " +
+            "p.updated_at = p.updated_at " +
+            "WHERE p.id BETWEEN :fromId AND :toId " +
+            "AND (p.like_count <> (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id) " +
+            "OR p.comment_count <> (SELECT COUNT(*) FROM post_comments c WHERE c.post_id = p.id))",
+            nativeQuery = true)
+    int reconcileCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
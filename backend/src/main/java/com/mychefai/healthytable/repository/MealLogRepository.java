@@ -1,7 +1,6 @@
 package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.MealLog;
-import com.mychefai.healthytable.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,9 +10,10 @@ import java.util.Optional;
 
 @Repository
 public interface MealLogRepository extends JpaRepository<MealLog, Long> {
-    List<MealLog> findByUser(User user);
+    // 사용자 ID(외래키)로 조회 (User 엔티티 조회 없이 사용)
+    List<MealLog> findByUserId(Long userId);
 
-    Optional<MealLog> findByUserAndRecordDate(User user, LocalDate recordDate);
+    Optional<MealLog> findByUserIdAndRecordDate(Long userId, LocalDate recordDate);
 
-    List<MealLog> findByUserAndRecordDateBetween(User user, LocalDate startDate, LocalDate endDate);
+    List<MealLog> findByUserIdAndRecordDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
 }
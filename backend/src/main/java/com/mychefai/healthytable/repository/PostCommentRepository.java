@@ -2,6 +2,8 @@ package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.PostComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +17,15 @@ public interface PostCommentRepository extends JpaRepository<PostComment, Long>
     // 특정 게시글의 댓글 개수
     long countByPostId(Long postId);
 
+    // 댓글과 모든 하위 댓글 개수 (삭제 시 ON DELETE CASCADE로 함께 지워지는 행 수)
+    @Query(value = "WITH RECURSIVE thread (id) AS (" +
+            "SELECT id FROM post_comments WHERE id = :commentId " +
+            "UNION ALL " +
+            "SELECT c.id FROM post_comments c JOIN thread t ON c.parent_id = t.id) " +
+            "SELECT COUNT(*) FROM thread",
+            nativeQuery = true)
+    long countThread(@Param("commentId") Long commentId);
+
     // 특정 사용자가 작성한 댓글 조회
     List<PostComment> findByUserIdOrderByCreatedAtDesc(Long userId);
 }
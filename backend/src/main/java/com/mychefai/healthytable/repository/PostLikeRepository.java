@@ -2,8 +2,11 @@ package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +15,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 특정 게시글의 좋아요 개수
     long countByPostId(Long postId);
 
+    // 여러 게시글 중 특정 사용자가 좋아요를 누른 게시글 ID 일괄 조회
+    @Query("SELECT l.postId FROM PostLike l WHERE l.userId = :userId AND l.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") List<Long> postIds);
+
     // 특정 사용자가 특정 게시글에 좋아요를 눌렀는지 확인
     boolean existsByPostIdAndUserId(Long postId, Long userId);
 
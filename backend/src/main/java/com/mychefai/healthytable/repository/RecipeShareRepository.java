@@ -1,9 +1,13 @@
 package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.RecipeShare;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,6 +19,16 @@ public interface RecipeShareRepository extends JpaRepository<RecipeShare, Long>
     // Public으로 공유된 레시피만 조회
     List<RecipeShare> findByVisibilityOrderByCreatedAtDesc(String visibility);
 
+    // Public 피드 커서(keyset) 페이지네이션: 첫 페이지
+    List<RecipeShare> findByVisibilityOrderByCreatedAtDescIdDesc(String visibility, Pageable pageable);
+
+    // Public 피드 커서(keyset) 페이지네이션: 커서 이후 페이지
+    @Query("SELECT s FROM RecipeShare s WHERE s.visibility = :visibility " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<RecipeShare> findPageBefore(@Param("visibility") String visibility,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     // 특정 사용자가 공유한 레시피 조회
     List<RecipeShare> findByUserIdOrderByCreatedAtDesc(Long userId);
 }
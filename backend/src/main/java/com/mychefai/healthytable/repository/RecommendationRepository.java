@@ -2,6 +2,9 @@ package com.mychefai.healthytable.repository;
 
 import com.mychefai.healthytable.domain.Recommendation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +13,8 @@ import java.util.List;
 public interface RecommendationRepository extends JpaRepository<Recommendation, Long> {
     List<Recommendation> findByUserIdOrderByScoreDesc(Long userId);
 
-    void deleteByUserId(Long userId);
+    // 엔티티 로딩 없이 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("DELETE FROM Recommendation r WHERE r.userId = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
 }
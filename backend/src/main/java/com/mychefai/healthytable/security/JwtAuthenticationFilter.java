@@ -1,11 +1,15 @@
 package com.mychefai.healthytable.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,55 +17,55 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger TRACE = LoggerFactory.getLogger("com.mychefai.healthytable.trace.request");
+
     private final JwtTokenProvider tokenProvider;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-        System.out.println("Processing Request: " + request.getMethod() + " " + path);
-
+        MDC.put("requestId", Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        String authResult = "none";
         try {
             String jwt = getJwtFromRequest(request);
-            System.out.println("Extracted JWT: "
-                    + (jwt != null ? "Present (" + jwt.substring(0, Math.min(10, jwt.length())) + "...)" : "Null"));
 
             if (StringUtils.hasText(jwt)) {
-                boolean isValid = tokenProvider.validateToken(jwt);
-                System.out.println("Token Validity: " + isValid);
-
-                if (isValid) {
-                    String userId = tokenProvider.getUserId(jwt);
-                    System.out.println("User ID from Token: " + userId);
-
-                    // For simplicity, we create a simple authentication token with the user ID
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userId, null, Collections.emptyList());
+                // 요청당 한 번만 검증하고 claims를 보안 컨텍스트에 보관 (컨트롤러에서 재파싱하지 않음)
+                Claims claims = tokenProvider.parseClaims(jwt);
 
+                if (claims != null) {
+                    JwtAuthenticationToken authentication = new JwtAuthenticationToken(claims);
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    System.out.println("Security Context Set Successfully");
+                    MDC.put("userId", claims.getSubject());
+                    authResult = "valid";
                 } else {
-                    System.out.println("Token Validation Failed");
+                    authResult = "invalid";
                 }
-            } else {
-                System.out.println("No Token Found in Request");
             }
         } catch (Exception ex) {
-            System.err.println("Authentication Error: " + ex.getMessage());
-            ex.printStackTrace();
-            logger.error("Could not set user authentication in security context", ex);
+            authResult = "error";
+            log.warn("Could not set user authentication in security context", ex);
         }
 
-        filterChain.doFilter(request, response);
+        // 요청 단위 추적 로그 (trace 카테고리, 샘플링 적용)
+        TRACE.debug("request method={} path={} auth={}", request.getMethod(), request.getRequestURI(), authResult);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove("requestId");
+            MDC.remove("userId");
+        }
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -0,0 +1,54 @@
+package com.mychefai.healthytable.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+/**
+ * JWT 인증 정보 (필터에서 한 번 검증한 claims를 보안 컨텍스트에 보관)
+ * principal은 기존과 같이 사용자 ID 문자열입니다.
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final String userId;
+    private final Claims claims;
+
+    public JwtAuthenticationToken(Claims claims) {
+        super(Collections.emptyList());
+        this.userId = claims.getSubject();
+        this.claims = claims;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public Long getUserId() {
+        return Long.valueOf(userId);
+    }
+
+    /**
+     * 현재 요청의 인증된 사용자 ID
+     *
+     * @return 사용자 ID (JWT 인증이 없으면 null)
+     */
+    public static Long currentUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken jwt) {
+            return jwt.getUserId();
+        }
+        return null;
+    }
+}
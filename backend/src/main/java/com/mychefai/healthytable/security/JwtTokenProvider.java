@@ -2,10 +2,13 @@ package com.mychefai.healthytable.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
@@ -13,8 +16,19 @@ public class JwtTokenProvider {
     private final String SECRET_KEY = "mychefaisecretkeymychefaisecretkeymychefaisecretkey"; // 32byte 이상
     private final long VALIDITY_IN_MS = 3600000; // 1h
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    // 키와 파서는 불변/스레드 안전하므로 한 번만 생성
+    private final Key signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+    // 서명을 검증한 토큰 -> claims (같은 토큰의 HMAC 재검증 생략, 토큰 만료 시각까지만 사용)
+    // 요청마다 조회하므로 전역 잠금 없는 ConcurrentHashMap, 가득 차면 만료된 항목을 정리하고 그래도 가득이면 저장하지 않음
+    private static final long SWEEP_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+    private final int validatedCacheSize;
+    private final ConcurrentHashMap<String, Claims> validatedTokens = new ConcurrentHashMap<>();
+    private volatile long nextSweepAt;
+
+    public JwtTokenProvider(@Value("${jwt.validated-cache.max-entries:10000}") int validatedCacheSize) {
+        this.validatedCacheSize = validatedCacheSize;
     }
 
     public String createToken(String userId) {
@@ -25,22 +39,46 @@ public class JwtTokenProvider {
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 검증 후 claims 반환 (최근 검증한 토큰은 만료 전까지 캐시에서 반환)
+     *
+     * @param token JWT 문자열
+     * @return claims (서명 불일치/만료/형식 오류면 null)
+     */
+    public Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        Claims cached = validatedTokens.get(token);
+        if (cached != null) {
+            if (!isExpired(cached, System.currentTimeMillis())) {
+                return cached;
+            }
+            validatedTokens.remove(token, cached);
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            putValidated(token, claims);
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
     public String getUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return claims.getSubject();
     }
 
     public String resolveToken(jakarta.servlet.http.HttpServletRequest request) {
@@ -50,4 +88,25 @@ public class JwtTokenProvider {
         }
         return null;
     }
+
+    private void putValidated(String token, Claims claims) {
+        if (validatedTokens.size() >= validatedCacheSize) {
+            long now = System.currentTimeMillis();
+            // 가득 찬 동안 매 요청 전체를 훑지 않도록 정리는 주기당 한 번
+            if (now < nextSweepAt) {
+                return;
+            }
+            nextSweepAt = now + SWEEP_INTERVAL_MS;
+            validatedTokens.values().removeIf(value -> isExpired(value, now));
+            if (validatedTokens.size() >= validatedCacheSize) {
+                return;
+            }
+        }
+        validatedTokens.put(token, claims);
+    }
+
+    private static boolean isExpired(Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= now;
+    }
 }
@@ -1,8 +1,8 @@
 package com.mychefai.healthytable.service;
 
 import com.mychefai.healthytable.domain.ActivityLog;
-import com.mychefai.healthytable.domain.User;
 import com.mychefai.healthytable.repository.ActivityLogRepository;
+import com.mychefai.healthytable.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +16,16 @@ import java.util.Optional;
 public class ActivityLogService {
 
     private final ActivityLogRepository activityLogRepository;
+    private final UserRepository userRepository;
 
-    public List<ActivityLog> getActivityLogs(User user) {
-        return activityLogRepository.findByUser(user);
+    public List<ActivityLog> getActivityLogs(Long userId) {
+        return activityLogRepository.findByUserId(userId);
     }
 
     @Transactional
-    public ActivityLog logActivity(User user, boolean isAiInteraction) {
+    public ActivityLog logActivity(Long userId, boolean isAiInteraction) {
         LocalDate today = LocalDate.now();
-        Optional<ActivityLog> existing = activityLogRepository.findByUserAndActivityDate(user, today);
+        Optional<ActivityLog> existing = activityLogRepository.findByUserIdAndActivityDate(userId, today);
 
         ActivityLog log;
         if (existing.isPresent()) {
@@ -34,7 +35,8 @@ public class ActivityLogService {
             }
         } else {
             log = new ActivityLog();
-            log.setUser(user);
+            // 외래키만 필요하므로 SELECT 없이 프록시 참조 사용
+            log.setUser(userRepository.getReferenceById(userId));
             log.setActivityDate(today);
             log.setHasAiInteraction(isAiInteraction);
         }
@@ -0,0 +1,209 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.FridgeItem;
+import com.mychefai.healthytable.domain.HealthProfile;
+import com.mychefai.healthytable.event.FridgeChangedEvent;
+import com.mychefai.healthytable.event.HealthProfileChangedEvent;
+import com.mychefai.healthytable.repository.FridgeItemRepository;
+import com.mychefai.healthytable.repository.HealthProfileRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 프롬프트용 사용자 컨텍스트 캐시 (크기/TTL 제한 LRU)
+ * 건강 정보/냉장고 섹션을 렌더링한 문자열로 보관해 채팅 메시지마다 DB 조회와 문자열 조립을 하지 않도록 합니다.
+ * 냉장고 모드 ON/OFF 두 가지 완성본을 미리 만들어 두며, FridgeChangedEvent / HealthProfileChangedEvent 발생 시 해당 사용자를 제거합니다.
+ * TTL은 API를 거치지 않은 변경(DB 직접 수정 등)이 반영되는 최대 시간입니다.
+ */
+@Service
+public class ChatContextCache implements MeterBinder {
+
+    private static final String FRIDGE_OFF_SECTION = "\n=== 🚫 냉장고 모드 OFF ===\n"
+            + "⚡ 중요 지시사항: 사용자가 냉장고 재료를 사용하지 않기로 선택했습니다.\n"
+            + "→ 냉장고에 있는 재료를 언급하거나 사용하지 마세요.\n"
+            + "→ 다양한 재료로 자유롭게 레시피를 추천해주세요.\n"
+            + "======================\n";
+
+    private final HealthProfileRepository healthProfileRepository;
+    private final FridgeItemRepository fridgeItemRepository;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // 접근 순서 LinkedHashMap (가장 오래 사용되지 않은 항목부터 제거)
+    private final LinkedHashMap<Long, CachedContext> entries = new LinkedHashMap<>(256, 0.75f, true);
+    // 제거가 일어날 때마다 증가 (조회 중 제거된 경우 오래된 결과를 저장하지 않도록)
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ChatContextCache(HealthProfileRepository healthProfileRepository,
+            FridgeItemRepository fridgeItemRepository,
+            @Value("${chat.context-cache.max-entries:10000}") int maxEntries,
+            @Value("${chat.context-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.healthProfileRepository = healthProfileRepository;
+        this.fridgeItemRepository = fridgeItemRepository;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 사용자 컨텍스트 (건강 정보 섹션 + 냉장고 모드 섹션)
+     *
+     * @param userId    로그인 사용자
+     * @param useFridge 냉장고 모드 ON 여부
+     */
+    public String getContext(Long userId, boolean useFridge) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedContext cached = entries.get(userId);
+            if (cached != null && cached.expiresAt() >= now) {
+                hits.incrementAndGet();
+                return useFridge ? cached.withFridge() : cached.withoutFridge();
+            }
+        }
+        misses.incrementAndGet();
+
+        long version = evictions.get();
+        String healthSection = healthProfileRepository.findByUserId(userId)
+                .map(ChatContextCache::renderHealthSection)
+                .orElse("");
+        String fridgeSection = renderFridgeSection(fridgeItemRepository.findByUserIdOrderByExpiryDate(userId));
+        CachedContext loaded = new CachedContext(healthSection + fridgeSection, healthSection + FRIDGE_OFF_SECTION,
+                now + ttlMillis);
+
+        synchronized (entries) {
+            if (evictions.get() == version) {
+                entries.put(userId, loaded);
+                Iterator<CachedContext> it = entries.values().iterator();
+                while (entries.size() > maxEntries && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+        return useFridge ? loaded.withFridge() : loaded.withoutFridge();
+    }
+
+    /**
+     * 사용자 컨텍스트 제거 (냉장고/건강 정보 변경 시 호출)
+     */
+    public void evict(Long userId) {
+        synchronized (entries) {
+            evictions.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * 캐시 통계 (hits, misses, size)
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        synchronized (entries) {
+            stats.put("size", (long) entries.size());
+        }
+        return stats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFridgeChanged(FridgeChangedEvent event) {
+        // 수량/유통기한도 컨텍스트에 들어가므로 재료 구성 변경 여부와 무관하게 제거
+        evict(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHealthProfileChanged(HealthProfileChangedEvent event) {
+        evict(event.userId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tags("cache", "chat-context", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tags("cache", "chat-context", "result", "miss").register(registry);
+        Gauge.builder("cache.size", entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).tags("cache", "chat-context").register(registry);
+    }
+
+    /**
+     * 건강 정보 섹션 (알레르기/복용 약물은 반드시 지키도록 지시문 포함)
+     */
+    static String renderHealthSection(HealthProfile profile) {
+        StringBuilder section = new StringBuilder(256);
+        section.append("\n\n=== 🏥 중요: 사용자 건강 정보 (반드시 준수) ===\n");
+
+        if (profile.getAllergies() != null && !profile.getAllergies().isEmpty()) {
+            section.append("⚠️ 알레르기: ").append(String.join(", ", profile.getAllergies())).append("\n");
+            section.append("→ 이 재료들은 절대 사용하지 마세요!\n");
+        }
+
+        if (profile.getChronicConditions() != null && !profile.getChronicConditions().isEmpty()) {
+            section.append("🩺 만성질환: ").append(String.join(", ", profile.getChronicConditions())).append("\n");
+        }
+
+        if (profile.getDietaryRestrictions() != null && !profile.getDietaryRestrictions().isEmpty()) {
+            section.append("🥗 식단 제한: ").append(String.join(", ", profile.getDietaryRestrictions())).append("\n");
+        }
+
+        if (profile.getMedications() != null && !profile.getMedications().isEmpty()) {
+            section.append("💊 복용 약물: ").append(String.join(", ", profile.getMedications())).append("\n");
+            section.append("→ 약물과 상호작용할 수 있는 음식을 피해주세요.\n");
+        }
+
+        if (profile.getGoals() != null && !profile.getGoals().isEmpty()) {
+            section.append("🎯 건강 목표: ").append(String.join(", ", profile.getGoals())).append("\n");
+        }
+
+        section.append("=====================================\n");
+        return section.toString();
+    }
+
+    /**
+     * 냉장고 모드 ON 섹션 (유통기한 순 재료 목록과 활용 지시문)
+     */
+    static String renderFridgeSection(List<FridgeItem> fridgeItems) {
+        StringBuilder section = new StringBuilder(128 + fridgeItems.size() * 48);
+        section.append("\n=== ❄️ 냉장고 모드 ON ===\n");
+        if (!fridgeItems.isEmpty()) {
+            section.append("현재 냉장고에 있는 재료:\n");
+            for (int i = 0; i < fridgeItems.size(); i++) {
+                FridgeItem item = fridgeItems.get(i);
+                if (i > 0) {
+                    section.append('\n');
+                }
+                section.append("- ").append(item.getName())
+                        .append(" (").append(item.getQuantity())
+                        .append(", 유통기한: ").append(item.getExpiryDate()).append(')');
+            }
+            section.append("\n");
+            section.append("\n⚡ 지시사항: 위 재료들을 최대한 활용하여 레시피를 추천해주세요.");
+            section.append(" 유통기한이 임박한 재료를 우선적으로 사용하세요.\n");
+        } else {
+            section.append("냉장고에 등록된 재료가 없습니다.\n");
+            section.append("→ 일반적인 레시피를 추천해주세요.\n");
+        }
+        section.append("========================\n");
+        return section.toString();
+    }
+
+    private record CachedContext(String withFridge, String withoutFridge, long expiresAt) {
+    }
+}
@@ -0,0 +1,361 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.dto.ChatDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 대화 기록 압축 (토큰 예산 안의 최근 메시지 + 이전 대화 요약)
+ *
+ * 최근 메시지는 window-tokens 예산과 recent-messages 개수 안에서 원문 그대로 두고, 그보다 오래된 메시지는 요약으로 대체합니다.
+ * 요약 경계는 chunk-messages 단위로 내려 맞춰 요약 갱신이 매 턴이 아니라 chunk 메시지마다 한 번 일어나게 합니다.
+ * 내림이므로 최근 메시지 예산 안에 든 메시지는 요약으로 넘어가지 않고, 대신 최대 chunk-1개 메시지가 원문으로 더 남습니다.
+ * 요약은 대화 앞부분(prefix) 해시를 키로 저장하고, 다음 경계에서는 가장 긴 요약된 prefix에 이어서 요약합니다 (rolling).
+ * 아직 요약이 없는 구간은 메시지별 발췌문으로 대신하고 요약 작업을 돌려주며, 호출자가 비동기로 실행해 결과를 저장합니다.
+ * 따라서 대화가 길어져도 프롬프트의 대화 기록 부분은 window-tokens + (chunk-1개 메시지) + 2 * summary-tokens 안으로 유지됩니다.
+ *
+ * 토큰 수는 문자 종류로 추정합니다 (ASCII 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰).
+ */
+@Service
+public class ChatHistoryCompactor implements MeterBinder {
+
+    // 메시지마다 붙는 역할 표기("User: ", 줄바꿈) 몫
+    private static final int MESSAGE_OVERHEAD_TOKENS = 2;
+    // 발췌문/요약 입력에서 메시지 하나에 허용하는 토큰 수
+    private static final int EXCERPT_MESSAGE_TOKENS = 60;
+    private static final int SUMMARY_INPUT_MESSAGE_TOKENS = 500;
+
+    private final boolean enabled;
+    private final int windowTokens;
+    private final int recentMessages;
+    private final int chunkMessages;
+    private final int summaryTokens;
+    private final int summaryInputTokens;
+    private final int maxSummaries;
+
+    // prefix 해시 -> 요약 (접근 순서 LRU)
+    private final LinkedHashMap<String, String> summaries = new LinkedHashMap<>(256, 0.75f, true);
+    // 요약 작업이 진행 중인 prefix 해시 (같은 구간을 중복 요약하지 않도록)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong compacted = new AtomicLong();
+    private final AtomicLong summaryHits = new AtomicLong();
+    private final AtomicLong summaryMisses = new AtomicLong();
+    private final AtomicLong summaryJobs = new AtomicLong();
+
+    public ChatHistoryCompactor(
+            @Value("${gemini.history.enabled:true}") boolean enabled,
+            @Value("${gemini.history.window-tokens:1500}") int windowTokens,
+            @Value("${gemini.history.recent-messages:12}") int recentMessages,
+            @Value("${gemini.history.chunk-messages:6}") int chunkMessages,
+            @Value("${gemini.history.summary-tokens:300}") int summaryTokens,
+            @Value("${gemini.history.summary-input-tokens:4000}") int summaryInputTokens,
+            @Value("${gemini.history.summary-cache-size:5000}") int maxSummaries) {
+        this.enabled = enabled;
+        this.windowTokens = windowTokens;
+        this.recentMessages = Math.max(1, recentMessages);
+        this.chunkMessages = Math.max(1, chunkMessages);
+        this.summaryTokens = summaryTokens;
+        this.summaryInputTokens = summaryInputTokens;
+        this.maxSummaries = maxSummaries;
+    }
+
+    /**
+     * 압축 결과
+     *
+     * @param summary 이전 대화 요약 또는 발췌문 (오래된 메시지가 없으면 null)
+     * @param recent  원문 그대로 보낼 최근 메시지
+     * @param job     새로 실행할 요약 작업 (없으면 null)
+     */
+    public record Compaction(String summary, List<ChatDto.Message> recent, SummaryJob job) {
+    }
+
+    /**
+     * 요약 작업 (prompt 호출 결과를 {@link #storeSummary}로 저장하고, 끝나면 {@link #finishJob} 호출)
+     */
+    public record SummaryJob(String key, String prompt) {
+    }
+
+    public Compaction compact(List<ChatDto.Message> history) {
+        if (history == null || history.isEmpty()) {
+            return new Compaction(null, List.of(), null);
+        }
+        if (!enabled) {
+            return new Compaction(null, history, null);
+        }
+        int size = history.size();
+
+        // 1. 뒤에서부터 예산/개수 안의 최근 메시지 (가장 최근 메시지는 예산을 넘어도 잘라서 포함)
+        int cut = size;
+        int used = 0;
+        while (cut > 0 && size - cut < recentMessages) {
+            int tokens = estimateTokens(history.get(cut - 1));
+            if (cut < size && used + tokens > windowTokens) {
+                break;
+            }
+            used += tokens;
+            cut--;
+        }
+        if (cut == 0) {
+            return new Compaction(null, recent(history, 0), null);
+        }
+        compacted.incrementAndGet();
+
+        // 2. 요약 경계를 chunk 단위로 내림 (최근 메시지는 요약하지 않음, 첫 chunk도 채우지 못하면 원래 경계 사용)
+        int boundary = cut / chunkMessages * chunkMessages;
+        if (boundary == 0) {
+            boundary = cut;
+        }
+        String[] prefixKeys = prefixKeys(history, boundary);
+
+        // 3. 가장 긴 요약된 prefix
+        String summary = null;
+        int covered = 0;
+        for (int i = boundary; i > 0; i--) {
+            if (prefixKeys[i] != null) {
+                summary = getSummary(prefixKeys[i]);
+                if (summary != null) {
+                    covered = i;
+                    break;
+                }
+            }
+        }
+        if (covered == boundary) {
+            summaryHits.incrementAndGet();
+            return new Compaction(summary, recent(history, boundary), null);
+        }
+        summaryMisses.incrementAndGet();
+
+        // 4. 요약되지 않은 구간은 발췌문으로 대신하고, 그 구간을 이어서 요약하는 작업 생성
+        String text = (summary == null ? "" : summary + "\n") + excerpt(history, covered, boundary);
+        return new Compaction(text, recent(history, boundary), summaryJob(history, summary, covered, boundary,
+                prefixKeys));
+    }
+
+    /**
+     * 요약 저장 (summary-tokens를 넘는 부분은 자름)
+     */
+    public void storeSummary(String key, String summary) {
+        if (summary == null || summary.isBlank()) {
+            return;
+        }
+        String trimmed = truncateToTokens(summary.trim(), summaryTokens);
+        synchronized (summaries) {
+            summaries.put(key, trimmed);
+            Iterator<String> it = summaries.values().iterator();
+            while (summaries.size() > maxSummaries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 요약 작업 종료 (성공/실패와 무관하게 호출, 실패한 구간은 다음 요청에서 다시 요약)
+     */
+    public void finishJob(String key) {
+        pending.remove(key);
+    }
+
+    /**
+     * 압축 통계 (compacted, summaryHits, summaryMisses, summaryJobs, summaries)
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("compacted", compacted.get());
+        stats.put("summaryHits", summaryHits.get());
+        stats.put("summaryMisses", summaryMisses.get());
+        stats.put("summaryJobs", summaryJobs.get());
+        synchronized (summaries) {
+            stats.put("summaries", (long) summaries.size());
+        }
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gemini.history.compacted", compacted, AtomicLong::get)
+                .description("오래된 메시지를 요약으로 대체한 채팅 요청 수").register(registry);
+        FunctionCounter.builder("cache.gets", summaryHits, AtomicLong::get)
+                .tags("cache", "chat-summaries", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", summaryMisses, AtomicLong::get)
+                .tags("cache", "chat-summaries", "result", "miss").register(registry);
+        Gauge.builder("cache.size", summaries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).tags("cache", "chat-summaries").register(registry);
+        FunctionCounter.builder("gemini.history.summary.jobs", summaryJobs, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * 추정 토큰 수 (ASCII 4자당 1토큰, 그 외 문자 1자당 1토큰)
+     */
+    public static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                ascii++;
+            } else if (!Character.isLowSurrogate(c)) {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    static int estimateTokens(ChatDto.Message message) {
+        return estimateTokens(message.getContent()) + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens를 넘지 않도록 앞부분만 남김 (잘린 경우 "…" 추가)
+     */
+    static String truncateToTokens(String text, int maxTokens) {
+        if (text == null) {
+            return "";
+        }
+        // ASCII 1자 = 1/4 토큰이므로 1/4 토큰 단위로 계산
+        long budget = maxTokens * 4L;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            budget -= c < 0x80 ? 1 : Character.isLowSurrogate(c) ? 0 : 4;
+            if (budget < 0) {
+                int end = i > 0 && Character.isLowSurrogate(c) ? i - 1 : i;
+                return text.substring(0, end) + "…";
+            }
+        }
+        return text;
+    }
+
+    private List<ChatDto.Message> recent(List<ChatDto.Message> history, int from) {
+        List<ChatDto.Message> recent = new ArrayList<>(history.size() - from);
+        for (int i = from; i < history.size(); i++) {
+            ChatDto.Message message = history.get(i);
+            if (estimateTokens(message) > windowTokens) {
+                message = new ChatDto.Message(message.getRole(), truncateToTokens(message.getContent(), windowTokens));
+            }
+            recent.add(message);
+        }
+        return recent;
+    }
+
+    /**
+     * 요약이 없는 구간 [from, to)의 발췌문 (최근 메시지부터 summary-tokens 안에서)
+     */
+    private String excerpt(List<ChatDto.Message> history, int from, int to) {
+        Deque<String> lines = new ArrayDeque<>();
+        int used = 0;
+        for (int i = to - 1; i >= from; i--) {
+            String line = roleLabel(history.get(i)) + ": "
+                    + truncateToTokens(history.get(i).getContent(), EXCERPT_MESSAGE_TOKENS);
+            int tokens = estimateTokens(line);
+            if (used + tokens > summaryTokens) {
+                break;
+            }
+            used += tokens;
+            lines.addFirst(line);
+        }
+        return "(이전 대화 일부)\n" + String.join("\n", lines);
+    }
+
+    /**
+     * 기존 요약 + [covered, target) 구간을 요약하는 작업 (입력이 summary-input-tokens를 넘지 않는 범위에서 target을 늘림)
+     * 같은 구간의 작업이 이미 진행 중이면 null
+     */
+    private SummaryJob summaryJob(List<ChatDto.Message> history, String summary, int covered, int boundary,
+            String[] prefixKeys) {
+        StringBuilder conversation = new StringBuilder();
+        int used = estimateTokens(summary);
+        int target = covered;
+        while (target < boundary) {
+            int next = Math.min(boundary, (target / chunkMessages + 1) * chunkMessages);
+            StringBuilder chunk = new StringBuilder();
+            for (int i = target; i < next; i++) {
+                chunk.append(roleLabel(history.get(i))).append(": ")
+                        .append(truncateToTokens(history.get(i).getContent(), SUMMARY_INPUT_MESSAGE_TOKENS))
+                        .append('\n');
+            }
+            int tokens = estimateTokens(chunk.toString());
+            if (target > covered && used + tokens > summaryInputTokens) {
+                break;
+            }
+            conversation.append(chunk);
+            used += tokens;
+            target = next;
+        }
+        String key = prefixKeys[target];
+        if (!pending.add(key)) {
+            return null;
+        }
+        summaryJobs.incrementAndGet();
+
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("다음은 요리 도우미 'MyChef AI'와 사용자의 이전 대화입니다. ");
+        prompt.append("이어지는 대화에 필요한 내용(사용자의 취향, 알레르기/건강 관련 언급, 이미 추천한 요리, 진행 중인 요청)만 남겨 ");
+        prompt.append(summaryTokens).append("자 이내의 한국어로 요약해주세요. 요약문만 답하세요.\n\n");
+        if (summary != null) {
+            prompt.append("[기존 요약]\n").append(summary).append("\n\n");
+        }
+        prompt.append("[대화]\n").append(conversation);
+        return new SummaryJob(key, prompt.toString());
+    }
+
+    /**
+     * prefix 해시 (인덱스 i = 앞 i개 메시지, chunk 배수와 boundary 위치만 계산하고 나머지는 null)
+     */
+    private String[] prefixKeys(List<ChatDto.Message> history, int boundary) {
+        String[] keys = new String[boundary + 1];
+        MessageDigest digest = sha256();
+        HexFormat hex = HexFormat.of();
+        for (int i = 0; i < boundary; i++) {
+            ChatDto.Message message = history.get(i);
+            digest.update(roleLabel(message).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(message.getContent()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            int length = i + 1;
+            if (length % chunkMessages == 0 || length == boundary) {
+                try {
+                    keys[length] = hex.formatHex(((MessageDigest) digest.clone()).digest());
+                } catch (CloneNotSupportedException e) {
+                    throw new IllegalStateException("SHA-256 digest not cloneable", e);
+                }
+            }
+        }
+        return keys;
+    }
+
+    private String getSummary(String key) {
+        synchronized (summaries) {
+            return summaries.get(key);
+        }
+    }
+
+    private static String roleLabel(ChatDto.Message message) {
+        return "user".equals(message.getRole()) ? "User" : "Model";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
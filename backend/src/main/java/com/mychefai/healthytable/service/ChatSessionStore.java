@@ -0,0 +1,489 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.dto.ChatDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버 측 채팅 대화 세션 저장소 (메모리 LRU + chat_messages 테이블)
+ * 클라이언트는 첫 응답에서 받은 sessionId와 새 메시지만 보내고, 이전 대화는 서버가 세션에서 꺼내 씁니다.
+ * 메시지는 세션별 순번(seq)으로 chat_messages에 추가만 하며(append-only), 주기적으로 일괄 INSERT 합니다.
+ * 메모리의 세션당 메시지가 max-messages를 넘으면 오래된 절반을 한 번에 내려 대화 요약 키(prefix)가 자주 바뀌지 않게 합니다.
+ *
+ * 클라이언트에 주는 sessionId는 "세션 UUID.서명"이며, 서명은 (UUID, 사용자)의 HMAC입니다.
+ * 서명이 맞지 않는 ID(위조/다른 사용자)는 DB 조회 없이 거절하고 새 세션을 시작합니다.
+ * 서명이 맞지만 메모리에서 밀려난 세션만 DB에서 최근 max-messages/2개를 다시 읽습니다 (아직 쓰지 않은 메시지 포함).
+ *
+ * 보관 기간: 메모리 세션은 idle-ttl-minutes 동안 쓰지 않으면 내리고,
+ * chat_messages 행은 retention-days(비로그인 대화는 guest-retention-hours)가 지나면 주기적으로 삭제합니다.
+ */
+@Slf4j
+@Service
+public class ChatSessionStore implements MeterBinder {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_messages (session_id, user_id, seq, role, content, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, NOW())";
+    private static final String SELECT_RECENT_SQL =
+            "SELECT seq, role, content FROM chat_messages WHERE session_id = ? ORDER BY seq DESC LIMIT ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM chat_messages WHERE created_at < TIMESTAMPADD(HOUR, ?, NOW()) LIMIT ?";
+    private static final String PURGE_GUEST_SQL =
+            "DELETE FROM chat_messages WHERE user_id IS NULL AND created_at < TIMESTAMPADD(HOUR, ?, NOW()) LIMIT ?";
+    // 한 번의 DELETE로 지우는 최대 행 수 (긴 잠금 방지)
+    private static final int PURGE_BATCH = 1000;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final int UUID_LENGTH = 36;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxSessions;
+    private final int maxMessages;
+    private final int maxPendingWrites;
+    private final long idleTtlMillis;
+    private final int retentionHours;
+    private final int guestRetentionHours;
+    private final SecretKeySpec signingKey;
+
+    // 접근 순서 LinkedHashMap (세션 UUID -> 세션, 가장 오래 사용되지 않은 세션부터 제거)
+    private final LinkedHashMap<String, Session> sessions = new LinkedHashMap<>(256, 0.75f, true);
+    // DB에 아직 쓰지 않은 메시지 (size()가 O(n)이라 개수는 따로 관리)
+    private final Queue<PendingMessage> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // flush와 세션 복원(대기 메시지 + DB 조회)이 서로 끼어들지 않도록 보장
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong writeConflicts = new AtomicLong();
+    private final AtomicLong droppedWrites = new AtomicLong();
+    private final AtomicLong purgedMessages = new AtomicLong();
+
+    public ChatSessionStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            @Value("${chat.session.enabled:true}") boolean enabled,
+            @Value("${chat.session.max-sessions:10000}") int maxSessions,
+            @Value("${chat.session.max-messages:200}") int maxMessages,
+            @Value("${chat.session.max-pending-writes:100000}") int maxPendingWrites,
+            @Value("${chat.session.idle-ttl-minutes:60}") long idleTtlMinutes,
+            @Value("${chat.session.retention-days:30}") int retentionDays,
+            @Value("${chat.session.guest-retention-hours:24}") int guestRetentionHours,
+            @Value("${chat.session.secret:}") String secret) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxSessions = maxSessions;
+        this.maxMessages = Math.max(2, maxMessages);
+        this.maxPendingWrites = maxPendingWrites;
+        this.idleTtlMillis = TimeUnit.MINUTES.toMillis(idleTtlMinutes);
+        this.retentionHours = retentionDays * 24;
+        this.guestRetentionHours = guestRetentionHours;
+        this.signingKey = new SecretKeySpec(signingKeyBytes(secret), "HmacSHA256");
+    }
+
+    /**
+     * 대화 세션 (메시지 목록과 순번은 세션 객체로 동기화)
+     */
+    public static final class Session {
+        private final String id;
+        private final String token;
+        private final Long userId;
+        private final boolean persistent;
+        private final List<ChatDto.Message> messages = new ArrayList<>();
+        private int nextSeq;
+        // 마지막 사용 시각 (sessions 잠금 안에서만 접근)
+        private long lastAccessAt;
+
+        private Session(String id, String token, Long userId, boolean persistent) {
+            this.id = id;
+            this.token = token;
+            this.userId = userId;
+            this.persistent = persistent;
+        }
+
+        /**
+         * 클라이언트에 주는 세션 ID (저장하지 않는 세션이면 null)
+         */
+        public String getId() {
+            return persistent ? token : null;
+        }
+
+        /**
+         * 현재까지의 대화 (복사본)
+         */
+        public synchronized List<ChatDto.Message> history() {
+            return List.copyOf(messages);
+        }
+    }
+
+    /**
+     * 요청의 대화 세션
+     * sessionId가 없거나, 서명이 맞지 않거나(다른 사용자의 세션 포함), 없는 세션이면 새 세션을 만들고 요청의 history로 시작합니다.
+     * (기존 클라이언트 호환: history만 보내면 그 history로 새 세션 시작)
+     *
+     * @param sessionId   클라이언트가 받은 세션 ID (없으면 null)
+     * @param userId      로그인 사용자 (비로그인 null)
+     * @param seedHistory 새 세션일 때 사용할 이전 대화
+     */
+    public Session open(String sessionId, Long userId, List<ChatDto.Message> seedHistory) {
+        if (!enabled) {
+            Session transientSession = new Session(null, null, userId, false);
+            if (seedHistory != null) {
+                transientSession.messages.addAll(seedHistory);
+            }
+            return transientSession;
+        }
+        if (sessionId != null && !sessionId.isBlank()) {
+            Session session = find(sessionId, userId);
+            if (session != null) {
+                return session;
+            }
+            log.debug("대화 세션을 찾을 수 없어 새 세션 시작: {}", sessionId);
+        }
+
+        String id = UUID.randomUUID().toString();
+        Session session = new Session(id, id + "." + sign(id, userId), userId, true);
+        created.incrementAndGet();
+        if (seedHistory != null) {
+            synchronized (session) {
+                for (ChatDto.Message message : seedHistory) {
+                    if (message != null && message.getContent() != null) {
+                        appendMessage(session, "user".equals(message.getRole()) ? "user" : "model",
+                                message.getContent());
+                    }
+                }
+            }
+        }
+        cache(session);
+        return session;
+    }
+
+    /**
+     * 한 턴(사용자 메시지 + 응답) 추가 (두 순번을 한 번에 예약, DB 쓰기는 다음 flush에서)
+     */
+    public void append(Session session, String userMessage, String reply) {
+        synchronized (session) {
+            appendMessage(session, "user", userMessage == null ? "" : userMessage);
+            appendMessage(session, "model", reply == null ? "" : reply);
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 chat_messages에 일괄 INSERT (실패 시 다음 주기에 재시도, 대기열 한도를 넘으면 버림)
+     */
+    @Scheduled(fixedDelayString = "${chat.session.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled || pendingCount.get() == 0) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<PendingMessage> batch = new ArrayList<>();
+            PendingMessage message;
+            while ((message = pendingWrites.poll()) != null) {
+                pendingCount.decrementAndGet();
+                batch.add(message);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                write(batch);
+            } catch (Exception e) {
+                log.error("대화 메시지 저장 실패, 다음 주기에 재시도합니다. ({}건)", batch.size(), e);
+                requeue(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 보관 기간이 지난 세션/메시지 정리
+     * 메모리: idle-ttl 동안 쓰지 않은 세션 제거, DB: 비로그인 대화는 guest-retention-hours, 나머지는 retention-days 지난 행 삭제
+     */
+    @Scheduled(fixedDelayString = "${chat.session.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        synchronized (sessions) {
+            // 접근 순서이므로 아직 만료되지 않은 세션을 만나면 중단
+            Iterator<Session> it = sessions.values().iterator();
+            while (it.hasNext() && now - it.next().lastAccessAt >= idleTtlMillis) {
+                it.remove();
+                evicted++;
+            }
+        }
+
+        long deleted = 0;
+        try {
+            deleted += deleteExpired(PURGE_GUEST_SQL, guestRetentionHours);
+            deleted += deleteExpired(PURGE_SQL, retentionHours);
+        } catch (Exception e) {
+            log.error("보관 기간이 지난 대화 메시지 삭제 실패, 다음 주기에 재시도합니다.", e);
+        }
+        purgedMessages.addAndGet(deleted);
+        if (evicted > 0 || deleted > 0) {
+            log.info("대화 세션 정리: 메모리 세션 {}개, 메시지 {}행 삭제", evicted, deleted);
+        }
+    }
+
+    /**
+     * 세션 통계 (hits, misses, created, rejected, sessions, pendingWrites, writeConflicts, droppedWrites, purgedMessages)
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("created", created.get());
+        stats.put("rejected", rejected.get());
+        synchronized (sessions) {
+            stats.put("sessions", (long) sessions.size());
+        }
+        stats.put("pendingWrites", (long) pendingCount.get());
+        stats.put("writeConflicts", writeConflicts.get());
+        stats.put("droppedWrites", droppedWrites.get());
+        stats.put("purgedMessages", purgedMessages.get());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tags("cache", "chat-sessions", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tags("cache", "chat-sessions", "result", "miss").register(registry);
+        Gauge.builder("cache.size", sessions, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).tags("cache", "chat-sessions").register(registry);
+        FunctionCounter.builder("chat.sessions.created", created, AtomicLong::get).register(registry);
+        FunctionCounter.builder("chat.sessions.rejected", rejected, AtomicLong::get)
+                .description("서명이 맞지 않아 거절한 세션 ID 수").register(registry);
+        Gauge.builder("chat.sessions.pending.writes", pendingCount, AtomicInteger::get)
+                .description("DB에 아직 저장하지 않은 대화 메시지 수").register(registry);
+        FunctionCounter.builder("chat.sessions.write.conflicts", writeConflicts, AtomicLong::get)
+                .description("순번이 겹쳐 저장하지 않은 대화 메시지 수").register(registry);
+        FunctionCounter.builder("chat.sessions.writes.dropped", droppedWrites, AtomicLong::get)
+                .description("저장 대기열 한도를 넘어 버린 대화 메시지 수").register(registry);
+        FunctionCounter.builder("chat.sessions.purged", purgedMessages, AtomicLong::get)
+                .description("보관 기간이 지나 삭제한 대화 메시지 수").register(registry);
+    }
+
+    /**
+     * 서명을 확인한 뒤 메모리에서 찾고, 없으면 DB에서 복원 (서명이 맞지 않거나 DB에도 없으면 null)
+     */
+    private Session find(String token, Long userId) {
+        int dot = token.indexOf('.');
+        String id = dot == UUID_LENGTH ? token.substring(0, dot) : null;
+        if (id == null || !MessageDigest.isEqual(sign(id, userId).getBytes(StandardCharsets.US_ASCII),
+                token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII))) {
+            rejected.incrementAndGet();
+            return null;
+        }
+
+        synchronized (sessions) {
+            Session session = sessions.get(id);
+            if (session != null && Objects.equals(session.userId, userId)) {
+                hits.incrementAndGet();
+                session.lastAccessAt = System.currentTimeMillis();
+                return session;
+            }
+        }
+        misses.incrementAndGet();
+        return restore(id, token, userId);
+    }
+
+    /**
+     * 메모리에서 밀려난 세션을 DB 행 + 아직 쓰지 않은 메시지로 복원
+     * flush를 직접 실행하지 않고, 진행 중인 flush가 끝날 때까지만 기다린 뒤 대기열과 DB를 함께 읽습니다.
+     */
+    private Session restore(String id, String token, Long userId) {
+        TreeMap<Integer, ChatDto.Message> bySeq = new TreeMap<>();
+        flushLock.lock();
+        try {
+            for (PendingMessage pending : pendingWrites) {
+                if (pending.sessionId().equals(id)) {
+                    bySeq.put(pending.seq(), new ChatDto.Message(pending.role(), pending.content()));
+                }
+            }
+            jdbcTemplate.query(SELECT_RECENT_SQL,
+                    rs -> {
+                        bySeq.putIfAbsent(rs.getInt("seq"),
+                                new ChatDto.Message(rs.getString("role"), rs.getString("content")));
+                    },
+                    id, maxMessages / 2);
+        } finally {
+            flushLock.unlock();
+        }
+        if (bySeq.isEmpty()) {
+            return null;
+        }
+
+        Session session = new Session(id, token, userId, true);
+        List<ChatDto.Message> recent = new ArrayList<>(bySeq.values());
+        session.messages.addAll(recent.subList(Math.max(0, recent.size() - maxMessages / 2), recent.size()));
+        session.nextSeq = bySeq.lastKey() + 1;
+        synchronized (sessions) {
+            // 동시에 복원한 세션이 있으면 그 세션을 사용 (메시지가 한쪽에만 쌓이지 않도록)
+            Session existing = sessions.get(id);
+            if (existing != null) {
+                existing.lastAccessAt = System.currentTimeMillis();
+                return existing;
+            }
+        }
+        cache(session);
+        return session;
+    }
+
+    private void cache(Session session) {
+        synchronized (sessions) {
+            session.lastAccessAt = System.currentTimeMillis();
+            sessions.put(session.id, session);
+            Iterator<Session> it = sessions.values().iterator();
+            while (sessions.size() > maxSessions && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 메시지 하나 추가 (세션 잠금 안에서 호출, 순번 예약과 대기열 추가를 같은 잠금 안에서)
+     */
+    private void appendMessage(Session session, String role, String content) {
+        session.messages.add(new ChatDto.Message(role, content));
+        if (session.messages.size() > maxMessages) {
+            session.messages.subList(0, session.messages.size() - maxMessages / 2).clear();
+        }
+        int seq = session.nextSeq++;
+        if (session.persistent) {
+            pendingWrites.add(new PendingMessage(session.id, session.userId, seq, role, content));
+            pendingCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 일괄 INSERT
+     * 순번이 겹치면(세션이 메모리에서 밀려난 사이 진행 중이던 요청 등) 배치 전체가 롤백되므로 한 건씩 다시 넣고,
+     * 이미 저장된 순번은 먼저 저장된 메시지를 유지한 채 건너뜁니다.
+     */
+    private void write(List<PendingMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL,
+                    batch.stream().map(ChatSessionStore::insertArgs).toList()));
+            return;
+        } catch (DuplicateKeyException e) {
+            log.debug("대화 메시지 순번 충돌, 한 건씩 다시 저장합니다. ({}건)", batch.size());
+        }
+
+        int conflicts = 0;
+        List<PendingMessage> failed = new ArrayList<>();
+        for (PendingMessage message : batch) {
+            try {
+                jdbcTemplate.update(INSERT_MESSAGE_SQL, insertArgs(message));
+            } catch (DuplicateKeyException duplicate) {
+                conflicts++;
+            } catch (Exception other) {
+                failed.add(message);
+            }
+        }
+        if (conflicts > 0) {
+            writeConflicts.addAndGet(conflicts);
+            log.warn("대화 메시지 순번 충돌로 {}건을 저장하지 않았습니다. (먼저 저장된 메시지 유지)", conflicts);
+        }
+        if (!failed.isEmpty()) {
+            log.error("대화 메시지 저장 실패, 다음 주기에 재시도합니다. ({}건)", failed.size());
+            requeue(failed);
+        }
+    }
+
+    /**
+     * 저장에 실패한 메시지를 대기열로 되돌림 (대기열 한도를 넘으면 버리고 ERROR 로그 + 지표)
+     */
+    private void requeue(List<PendingMessage> messages) {
+        if (pendingCount.get() + messages.size() > maxPendingWrites) {
+            droppedWrites.addAndGet(messages.size());
+            log.error("대화 메시지 저장 대기열이 한도({})를 넘어 {}건을 버립니다.", maxPendingWrites, messages.size());
+            return;
+        }
+        pendingWrites.addAll(messages);
+        pendingCount.addAndGet(messages.size());
+    }
+
+    private long deleteExpired(String sql, int retentionHours) {
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(sql, -retentionHours, PURGE_BATCH);
+            deleted += affected;
+        } while (affected == PURGE_BATCH);
+        return deleted;
+    }
+
+    /**
+     * (세션 UUID, 사용자)의 서명 (URL-safe Base64, 비로그인은 "guest")
+     */
+    private String sign(String id, Long userId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((id + ":" + (userId == null ? "guest" : userId))
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, SIGNATURE_BYTES));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static byte[] signingKeyBytes(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("chat.session.secret 미설정: 임의 키로 세션 ID를 서명합니다. (재시작하면 이전 세션 ID는 새 세션으로 시작)");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static Object[] insertArgs(PendingMessage m) {
+        return new Object[]{m.sessionId(), m.userId(), m.seq(), m.role(), m.content()};
+    }
+
+    private record PendingMessage(String sessionId, Long userId, int seq, String role, String content) {
+    }
+}
@@ -6,14 +6,19 @@ import com.mychefai.healthytable.domain.User;
 import com.mychefai.healthytable.dto.CommunityPostDTO;
 import com.mychefai.healthytable.dto.CreatePostRequestDTO;
 import com.mychefai.healthytable.dto.UpdatePostRequestDTO;
+import com.mychefai.healthytable.event.PostChangedEvent;
+import com.mychefai.healthytable.event.PostLikeChangedEvent;
 import com.mychefai.healthytable.repository.CommunityPostRepository;
-import com.mychefai.healthytable.repository.PostCommentRepository;
 import com.mychefai.healthytable.repository.PostLikeRepository;
-import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.util.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -23,55 +28,44 @@ public class CommunityPostService {
 
     private final CommunityPostRepository postRepository;
     private final PostLikeRepository likeRepository;
-    private final PostCommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final LikeBufferService likeBufferService;
+    private final PopularPostRankingService rankingService;
+    private final PostSearchIndexService searchIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 전체 게시글 조회 (좋아요 수, 댓글 수 포함)
+     * 전체 게시글 조회 (좋아요 수, 댓글 수 포함, 커서 페이지네이션)
+     * 커서가 없으면 최신 게시글부터, 있으면 (cursorCreatedAt, cursorId) 이후 게시글을 size개 반환
      */
-    public List<CommunityPostDTO> getAllPosts(Long currentUserId) {
-        List<CommunityPost> posts = postRepository.findAllByOrderByCreatedAtDesc();
+    public List<CommunityPostDTO> getAllPosts(Long currentUserId, LocalDateTime cursorCreatedAt, Long cursorId,
+            int size) {
+        List<CommunityPost> posts = CursorPage.hasCursor(cursorCreatedAt, cursorId)
+                ? postRepository.findPageBefore(cursorCreatedAt, cursorId, CursorPage.limit(size))
+                : postRepository.findAllByOrderByCreatedAtDescIdDesc(CursorPage.limit(size));
         return convertToDTO(posts, currentUserId);
     }
 
     /**
-     * 인기 게시글 조회 (좋아요 수 기준 + 기간 필터)
+     * 인기 게시글 조회 (좋아요 수 기준 + 기간 필터, hot: 시간 감쇠 점수)
+     * 순위는 PopularPostRankingService에서 계산하고, 상위 limit개 게시글만 조회
      */
     public List<CommunityPostDTO> getPopularPosts(Long currentUserId, int limit, String timeframe) {
-        List<CommunityPost> posts;
-        java.time.LocalDateTime since;
-
-        if ("daily".equalsIgnoreCase(timeframe)) {
-            since = java.time.LocalDateTime.now().minusDays(1);
-        } else if ("weekly".equalsIgnoreCase(timeframe)) {
-            since = java.time.LocalDateTime.now().minusWeeks(1);
-        } else if ("monthly".equalsIgnoreCase(timeframe)) {
-            since = java.time.LocalDateTime.now().minusMonths(1);
-        } else {
-            // 기본값: 전체 기간 (최근 1년 정도나 전체 최신순)
-            return getPopularPosts(currentUserId, limit);
+        List<Long> rankedIds = rankingService.getTopPostIds(PopularPostRankingService.Timeframe.from(timeframe),
+                limit);
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        posts = postRepository.findByCreatedAtAfterOrderByCreatedAtDesc(since);
-
-        // 좋아요 수로 정렬
-        List<CommunityPostDTO> dtos = convertToDTO(posts, currentUserId);
-        return dtos.stream()
-                .sorted((a, b) -> Long.compare(b.getLikeCount(), a.getLikeCount()))
-                .limit(limit)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 기존 인기 게시글 조회 (전체 기간)
-     */
-    public List<CommunityPostDTO> getPopularPosts(Long currentUserId, int limit) {
-        List<CommunityPost> allPosts = postRepository.findAllByOrderByCreatedAtDesc();
-        List<CommunityPostDTO> dtos = convertToDTO(allPosts, currentUserId);
-        return dtos.stream()
-                .sorted((a, b) -> Long.compare(b.getLikeCount(), a.getLikeCount()))
-                .limit(limit)
+        // 순위 순서대로 정렬
+        Map<Long, CommunityPost> postMap = postRepository.findByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(CommunityPost::getId, p -> p));
+        List<CommunityPost> posts = rankedIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return convertToDTO(posts, currentUserId);
     }
 
     /**
@@ -99,7 +93,9 @@ public class CommunityPostService {
         post.setTags(request.getTags());
         post.setImageUrl(request.getImageUrl());
 
-        return postRepository.save(post);
+        CommunityPost saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(saved, false));
+        return saved;
     }
 
     /**
@@ -122,7 +118,9 @@ public class CommunityPostService {
         post.setTags(request.getTags());
         post.setImageUrl(request.getImageUrl());
 
-        return postRepository.save(post);
+        CommunityPost saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(saved, false));
+        return saved;
     }
 
     /**
@@ -139,13 +137,24 @@ public class CommunityPostService {
         }
 
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post, true));
     }
 
     /**
      * 좋아요 토글 (좋아요/좋아요 취소)
+     * Write-Behind 모드는 버퍼에만 기록하므로 DB 트랜잭션을 열지 않고, 그 외에는 한 트랜잭션에서 처리
      */
-    @Transactional
     public Map<String, Object> toggleLike(Long postId, Long userId) {
+        // Write-Behind 모드: 버퍼에 기록하고 예상 상태를 즉시 반환
+        if (likeBufferService.isEnabled()) {
+            Map<String, Object> result = likeBufferService.toggle(postId, userId);
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, (Long) result.get("likeCount")));
+            return result;
+        }
+        return transactionTemplate.execute(status -> toggleLikeInDb(postId, userId));
+    }
+
+    private Map<String, Object> toggleLikeInDb(Long postId, Long userId) {
         // 게시글 존재 확인
         if (!postRepository.existsById(postId)) {
             throw new RuntimeException("게시글을 찾을 수 없습니다.");
@@ -157,6 +166,7 @@ public class CommunityPostService {
         if (existingLike.isPresent()) {
             // 좋아요 취소
             likeRepository.delete(existingLike.get());
+            postRepository.addLikeCount(postId, -1);
             isLiked = false;
         } else {
             // 좋아요 추가
@@ -164,10 +174,12 @@ public class CommunityPostService {
             like.setPostId(postId);
             like.setUserId(userId);
             likeRepository.save(like);
+            postRepository.addLikeCount(postId, 1);
             isLiked = true;
         }
 
-        long likeCount = likeRepository.countByPostId(postId);
+        long likeCount = postRepository.findLikeCountById(postId);
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, likeCount));
 
         Map<String, Object> result = new HashMap<>();
         result.put("isLiked", isLiked);
@@ -188,15 +200,35 @@ public class CommunityPostService {
                 .map(CommunityPost::getUserId)
                 .distinct()
                 .collect(Collectors.toList());
-        Map<Long, User> userMap = userRepository.findByIdIn(userIds).stream()
-                .collect(Collectors.toMap(User::getId, u -> u));
+        Map<Long, User> userMap = userCacheService.getUsers(userIds);
+
+        // 현재 사용자 좋아요 여부 일괄 조회 (좋아요 수, 댓글 수는 게시글 카운터 사용)
+        List<Long> postIds = posts.stream()
+                .map(CommunityPost::getId)
+                .collect(Collectors.toList());
+        Set<Long> likedPostIds = currentUserId != null
+                ? new HashSet<>(likeRepository.findLikedPostIds(currentUserId, postIds))
+                : Collections.emptySet();
 
         return posts.stream().map(post -> {
             User user = userMap.get(post.getUserId());
-            long likeCount = likeRepository.countByPostId(post.getId());
-            long commentCount = commentRepository.countByPostId(post.getId());
-            boolean isLiked = currentUserId != null &&
-                    likeRepository.existsByPostIdAndUserId(post.getId(), currentUserId);
+            long likeCount = post.getLikeCount() != null ? post.getLikeCount() : 0L;
+            long commentCount = post.getCommentCount() != null ? post.getCommentCount() : 0L;
+            boolean isLiked = likedPostIds.contains(post.getId());
+
+            // Write-Behind 모드: 아직 flush 되지 않은 토글 반영
+            if (likeBufferService.isEnabled()) {
+                Long bufferedCount = likeBufferService.getLikeCount(post.getId());
+                Boolean bufferedLiked = currentUserId != null
+                        ? likeBufferService.isLiked(post.getId(), currentUserId)
+                        : null;
+                if (bufferedCount != null) {
+                    likeCount = bufferedCount;
+                }
+                if (bufferedLiked != null) {
+                    isLiked = bufferedLiked;
+                }
+            }
 
             return new CommunityPostDTO(
                     post.getId(),
@@ -217,14 +249,36 @@ public class CommunityPostService {
     }
 
     /**
-     * 게시글 검색 (제목, 내용)
+     * 게시글 검색 (제목, 내용, 태그, 재료)
+     * sort=relevance: 관련도 순 (page 단위), sort=latest: 최신순 (커서 페이지네이션)
+     * 검색 색인을 사용할 수 없으면 DB LIKE 검색 (제목, 내용, 최신순, 커서 또는 page 단위)
      */
-    public List<CommunityPostDTO> searchPosts(String keyword, Long currentUserId) {
+    public List<CommunityPostDTO> searchPosts(String keyword, Long currentUserId, String sort, int page,
+            LocalDateTime cursorCreatedAt, Long cursorId, int size) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllPosts(currentUserId);
+            return getAllPosts(currentUserId, cursorCreatedAt, cursorId, size);
         }
-        List<CommunityPost> posts = postRepository.findByTitleContainingOrContentContainingOrderByCreatedAtDesc(keyword,
-                keyword);
+
+        if (searchIndexService.canSearch(keyword)) {
+            List<Long> hitIds = "latest".equalsIgnoreCase(sort)
+                    ? searchIndexService.searchByLatest(keyword, cursorCreatedAt, cursorId, size)
+                    : searchIndexService.searchByRelevance(keyword, page, size);
+
+            // 검색 결과 순서대로 정렬
+            Map<Long, CommunityPost> postMap = postRepository.findByIdIn(hitIds).stream()
+                    .collect(Collectors.toMap(CommunityPost::getId, p -> p));
+            List<CommunityPost> posts = hitIds.stream()
+                    .map(postMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return convertToDTO(posts, currentUserId);
+        }
+
+        // 커서가 없으면 page 번호로 OFFSET 페이지 (관련도 순 화면은 page만 보내므로 매번 첫 페이지가 되지 않도록)
+        List<CommunityPost> posts = CursorPage.hasCursor(cursorCreatedAt, cursorId)
+                ? postRepository.searchPageBefore(keyword, cursorCreatedAt, cursorId, CursorPage.limit(size))
+                : postRepository.searchPage(keyword,
+                        PageRequest.of(Math.max(page, 0), CursorPage.limit(size).getPageSize()));
         return convertToDTO(posts, currentUserId);
     }
 }
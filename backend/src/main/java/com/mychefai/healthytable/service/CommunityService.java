@@ -6,10 +6,11 @@ import com.mychefai.healthytable.domain.User;
 import com.mychefai.healthytable.dto.CommunityFeedItemDTO;
 import com.mychefai.healthytable.repository.RecipeRepository;
 import com.mychefai.healthytable.repository.RecipeShareRepository;
-import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.util.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,11 +21,15 @@ public class CommunityService {
 
         private final RecipeShareRepository recipeShareRepository;
         private final RecipeRepository recipeRepository;
-        private final UserRepository userRepository;
+        private final UserCacheService userCacheService;
 
-        public List<CommunityFeedItemDTO> getPublicFeed() {
-                // 1. Public으로 공유된 레시피 share 가져오기
-                List<RecipeShare> shares = recipeShareRepository.findByVisibilityOrderByCreatedAtDesc("PUBLIC");
+        public List<CommunityFeedItemDTO> getPublicFeed(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+                // 1. Public으로 공유된 레시피 share 가져오기 (커서 페이지네이션)
+                List<RecipeShare> shares = CursorPage.hasCursor(cursorCreatedAt, cursorId)
+                                ? recipeShareRepository.findPageBefore("PUBLIC", cursorCreatedAt, cursorId,
+                                                CursorPage.limit(size))
+                                : recipeShareRepository.findByVisibilityOrderByCreatedAtDescIdDesc("PUBLIC",
+                                                CursorPage.limit(size));
 
                 // 2. 필요한 Recipe와 User ID 추출
                 List<Long> recipeIds = shares.stream().map(RecipeShare::getRecipeId).distinct()
@@ -35,8 +40,7 @@ public class CommunityService {
                 // 3. Batch 조회 (N+1 방지)
                 Map<Long, Recipe> recipeMap = recipeRepository.findByIdIn(recipeIds).stream()
                                 .collect(Collectors.toMap(Recipe::getId, r -> r));
-                Map<Long, User> userMap = userRepository.findByIdIn(userIds).stream()
-                                .collect(Collectors.toMap(User::getId, u -> u));
+                Map<Long, User> userMap = userCacheService.getUsers(userIds);
 
                 // 4. DTO 변환
                 return shares.stream()
@@ -0,0 +1,345 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.exception.GeminiUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 호출 보호 장치 (타임아웃 + 적응형 동시 호출 한도 + 회로 차단기)
+ *
+ * 동시 호출 한도 (AIMD): 정상 응답마다 한도를 1/limit씩 늘리고(한도만큼 성공하면 +1),
+ * 타임아웃/429/5xx/연결 실패 또는 느린 응답(latency-threshold 초과)이 오면 0.75배로 줄입니다.
+ * 한도를 넘는 호출은 대기하지 않고 즉시 거절합니다.
+ *
+ * 회로 차단기: 최근 window개 호출 중 실패 비율이 failure-rate% 이상이면 open-ms 동안 모든 호출을 즉시 거절하고,
+ * 이후 half-open 상태에서 probe 호출 half-open-probes개가 모두 성공하면 다시 닫고, 하나라도 실패하면 다시 엽니다.
+ *
+ * 백그라운드 호출 (대화 요약 등): 사용자 호출 한도와 별도인 background.max-in-flight 안에서만 실행하고,
+ * 회로가 닫혀 있지 않거나 사용자 호출이 한도까지 차 있으면 즉시 거절합니다 (사용자 호출보다 낮은 우선순위).
+ * 백그라운드 호출 결과는 한도/회로에 반영하지 않습니다.
+ *
+ * 지표: gemini.guard.limit, gemini.guard.in.flight, gemini.guard.breaker.state(0 closed, 1 half-open, 2 open),
+ * gemini.guard.background.in.flight, gemini.guard.rejected{reason}
+ */
+@Slf4j
+@Service
+public class GeminiCallGuard implements MeterBinder {
+
+    private static final double BACKOFF_RATIO = 0.75;
+    // 한 번의 과부하로 연속 실패가 몰려도 한도를 한 번만 줄이도록
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    enum Outcome {
+        SUCCESS, FAILURE, IGNORED
+    }
+
+    private final Duration timeout;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final int failureRatePercent;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final int backgroundLimit;
+
+    // 아래 상태는 모두 this로 동기화 (I/O 없이 짧게 유지)
+    private double limit;
+    private int inFlight;
+    private int backgroundInFlight;
+    private long lastDecreaseAt;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    // 최근 호출 결과 (true = 실패) 원형 버퍼
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private final AtomicLong rejectedByLimit = new AtomicLong();
+    private final AtomicLong rejectedByCircuit = new AtomicLong();
+    private final AtomicLong rejectedBackground = new AtomicLong();
+
+    public GeminiCallGuard(
+            @Value("${gemini.guard.timeout-ms:30000}") long timeoutMs,
+            @Value("${gemini.guard.limit.initial:20}") int initialLimit,
+            @Value("${gemini.guard.limit.min:2}") int minLimit,
+            @Value("${gemini.guard.limit.max:200}") int maxLimit,
+            @Value("${gemini.guard.limit.latency-threshold-ms:15000}") long latencyThresholdMs,
+            @Value("${gemini.guard.breaker.window:20}") int windowSize,
+            @Value("${gemini.guard.breaker.failure-rate:50}") int failureRatePercent,
+            @Value("${gemini.guard.breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${gemini.guard.breaker.open-ms:30000}") long openMs,
+            @Value("${gemini.guard.breaker.half-open-probes:3}") int halfOpenProbes,
+            @Value("${gemini.guard.background.max-in-flight:2}") int backgroundLimit) {
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        // 첫 실패는 바로 한도를 줄이도록 (nanoTime 기준값은 음수일 수도 있어 0으로 두지 않음)
+        this.lastDecreaseAt = System.nanoTime() - DECREASE_INTERVAL_NANOS - 1;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.window = new boolean[windowSize];
+        this.failureRatePercent = failureRatePercent;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.halfOpenProbes = halfOpenProbes;
+        this.backgroundLimit = backgroundLimit;
+    }
+
+    /**
+     * 단건 호출 보호 (거절 시 원격 호출 없이 GeminiUnavailableException)
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            long start = System.nanoTime();
+            return call.timeout(timeout)
+                    .doOnSuccess(value -> permit.release(Outcome.SUCCESS, System.nanoTime() - start))
+                    .doOnError(e -> permit.release(classify(e), System.nanoTime() - start))
+                    .doOnCancel(() -> permit.release(Outcome.IGNORED, 0));
+        });
+    }
+
+    /**
+     * 스트리밍 호출 보호 (타임아웃은 조각 사이 간격 기준, 지연은 첫 조각까지의 시간으로 판단)
+     */
+    public <T> Flux<T> protectStream(Flux<T> call) {
+        return Flux.defer(() -> {
+            Permit permit = acquire();
+            long start = System.nanoTime();
+            AtomicLong firstChunkAt = new AtomicLong();
+            return call.timeout(timeout)
+                    .doOnNext(value -> firstChunkAt.compareAndSet(0, System.nanoTime()))
+                    .doOnComplete(() -> {
+                        long first = firstChunkAt.get();
+                        permit.release(Outcome.SUCCESS, (first == 0 ? System.nanoTime() : first) - start);
+                    })
+                    .doOnError(e -> permit.release(classify(e), System.nanoTime() - start))
+                    .doOnCancel(() -> permit.release(Outcome.IGNORED, 0));
+        });
+    }
+
+    /**
+     * 백그라운드 호출 보호 (사용자 호출 허가를 쓰지 않음, 거절 시 원격 호출 없이 GeminiUnavailableException)
+     */
+    public <T> Mono<T> protectBackground(Mono<T> call) {
+        return Mono.defer(() -> {
+            acquireBackground();
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    releaseBackground();
+                }
+            };
+            return call.timeout(timeout)
+                    .doOnSuccess(value -> release.run())
+                    .doOnError(e -> release.run())
+                    .doOnCancel(release);
+        });
+    }
+
+    /**
+     * 현재 상태 (limit, inFlight, backgroundInFlight, state, rejectedByLimit, rejectedByCircuit, rejectedBackground)
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", (int) limit);
+        stats.put("inFlight", inFlight);
+        stats.put("backgroundInFlight", backgroundInFlight);
+        stats.put("state", state.name());
+        stats.put("rejectedByLimit", rejectedByLimit.get());
+        stats.put("rejectedByCircuit", rejectedByCircuit.get());
+        stats.put("rejectedBackground", rejectedBackground.get());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gemini.guard.limit", this, guard -> guard.currentLimit())
+                .description("Gemini 동시 호출 한도").register(registry);
+        Gauge.builder("gemini.guard.in.flight", this, guard -> guard.currentInFlight()).register(registry);
+        Gauge.builder("gemini.guard.background.in.flight", this, guard -> guard.currentBackgroundInFlight())
+                .register(registry);
+        Gauge.builder("gemini.guard.breaker.state", this, guard -> guard.currentState().ordinal())
+                .description("회로 상태 (0 closed, 1 half-open, 2 open)").register(registry);
+        FunctionCounter.builder("gemini.guard.rejected", rejectedByLimit, AtomicLong::get)
+                .tag("reason", GeminiUnavailableException.CONCURRENCY_LIMIT).register(registry);
+        FunctionCounter.builder("gemini.guard.rejected", rejectedByCircuit, AtomicLong::get)
+                .tag("reason", GeminiUnavailableException.CIRCUIT_OPEN).register(registry);
+        FunctionCounter.builder("gemini.guard.rejected", rejectedBackground, AtomicLong::get)
+                .tag("reason", GeminiUnavailableException.BACKGROUND_LIMIT).register(registry);
+    }
+
+    private synchronized Permit acquire() {
+        long now = System.nanoTime();
+        if (state == State.OPEN) {
+            if (now - openedAt < openNanos) {
+                rejectedByCircuit.incrementAndGet();
+                throw new GeminiUnavailableException(GeminiUnavailableException.CIRCUIT_OPEN,
+                        "Gemini 호출 실패가 많아 잠시 호출을 중단했습니다.");
+            }
+            transition(State.HALF_OPEN);
+        }
+        boolean probe = false;
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejectedByCircuit.incrementAndGet();
+                throw new GeminiUnavailableException(GeminiUnavailableException.CIRCUIT_OPEN,
+                        "Gemini 연결 상태를 확인하는 중입니다.");
+            }
+            probe = true;
+        }
+        if (inFlight >= (int) limit) {
+            rejectedByLimit.incrementAndGet();
+            throw new GeminiUnavailableException(GeminiUnavailableException.CONCURRENCY_LIMIT,
+                    "Gemini 동시 호출 한도(" + (int) limit + ")를 초과했습니다.");
+        }
+        inFlight++;
+        if (probe) {
+            probesInFlight++;
+        }
+        return new Permit(probe);
+    }
+
+    private synchronized void acquireBackground() {
+        if (state != State.CLOSED || inFlight >= (int) limit || backgroundInFlight >= backgroundLimit) {
+            rejectedBackground.incrementAndGet();
+            throw new GeminiUnavailableException(GeminiUnavailableException.BACKGROUND_LIMIT,
+                    "Gemini 백그라운드 호출을 미뤘습니다. (state=" + state + ", inFlight=" + inFlight
+                            + ", backgroundInFlight=" + backgroundInFlight + ")");
+        }
+        backgroundInFlight++;
+    }
+
+    private synchronized void releaseBackground() {
+        backgroundInFlight--;
+    }
+
+    private synchronized void release(boolean probe, Outcome outcome, long latencyNanos) {
+        inFlight--;
+
+        // 1. 동시 호출 한도 조정
+        if (outcome == Outcome.FAILURE || (outcome == Outcome.SUCCESS && latencyNanos > latencyThresholdNanos)) {
+            long now = System.nanoTime();
+            if (now - lastDecreaseAt > DECREASE_INTERVAL_NANOS) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecreaseAt = now;
+            }
+        } else if (outcome == Outcome.SUCCESS) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+
+        // 2. 회로 상태 갱신
+        if (probe) {
+            probesInFlight--;
+            if (state == State.HALF_OPEN) {
+                if (outcome == Outcome.FAILURE) {
+                    transition(State.OPEN);
+                } else if (outcome == Outcome.SUCCESS && ++probeSuccesses >= halfOpenProbes) {
+                    transition(State.CLOSED);
+                }
+            }
+        } else if (state == State.CLOSED && outcome != Outcome.IGNORED) {
+            recordOutcome(outcome == Outcome.FAILURE);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRatePercent * windowCount) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowPos]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowPos = (windowPos + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        log.warn("Gemini 회로 상태 변경: {} -> {} (limit={}, 최근 실패 {}/{})",
+                state, next, (int) limit, windowFailures, windowCount);
+        state = next;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (next == State.CLOSED) {
+            windowPos = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * 과부하/장애 신호만 실패로 집계 (요청 자체가 잘못된 4xx는 한도/회로에 반영하지 않음)
+     */
+    static Outcome classify(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500 ? Outcome.FAILURE : Outcome.IGNORED;
+        }
+        return Outcome.FAILURE;
+    }
+
+    private synchronized double currentLimit() {
+        return (int) limit;
+    }
+
+    private synchronized double currentInFlight() {
+        return inFlight;
+    }
+
+    private synchronized double currentBackgroundInFlight() {
+        return backgroundInFlight;
+    }
+
+    private synchronized State currentState() {
+        return state;
+    }
+
+    /**
+     * 호출 1건의 허가 (완료/에러/취소 중 처음 한 번만 반납)
+     */
+    private final class Permit {
+        private final boolean probe;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        void release(Outcome outcome, long latencyNanos) {
+            if (released.compareAndSet(false, true)) {
+                GeminiCallGuard.this.release(probe, outcome, latencyNanos);
+            }
+        }
+    }
+}
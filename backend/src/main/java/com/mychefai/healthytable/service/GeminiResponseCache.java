@@ -0,0 +1,234 @@
+package com.mychefai.healthytable.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 응답 캐시 (정규화된 프롬프트 키 기준, 크기/TTL 제한 LRU)
+ * 같은 재료 조합 추천처럼 반복되는 프롬프트는 원격 API를 호출하지 않고 저장된 응답을 돌려줍니다.
+ * 성공 응답만 메모리에 저장합니다 (건강 정보/대화가 담긴 응답이므로 디스크에는 쓰지 않음).
+ * 키 해시로 나눈 stripe마다 잠금과 LRU를 따로 두어 요청 스레드끼리 하나의 잠금을 두고 경쟁하지 않게 합니다.
+ * 캐시에 없는 같은 키의 동시 요청은 진행 중인 원격 호출 하나를 공유합니다 (single-flight).
+ * 적중률은 cache.gets{cache=gemini-responses}, 합류한 요청 수는 gemini.requests.coalesced 지표로 노출합니다.
+ */
+@Service
+public class GeminiResponseCache implements MeterBinder {
+
+    private static final int STRIPES = 16;
+
+    private final boolean enabled;
+    private final boolean singleFlight;
+    // stripe당 최대 항목 수 (전체 max-entries를 stripe 수로 나눔)
+    private final int maxEntriesPerStripe;
+    private final long ttlMillis;
+
+    private final ReentrantLock[] locks = createLocks();
+    // stripe별 접근 순서 LinkedHashMap (stripe 안에서 가장 오래 사용되지 않은 항목부터 제거)
+    private final List<LinkedHashMap<String, CacheEntry>> stripes = createStripes();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // 키 -> 진행 중인 원격 호출 (완료/실패 시 제거)
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public GeminiResponseCache(
+            @Value("${gemini.cache.enabled:true}") boolean enabled,
+            @Value("${gemini.cache.max-entries:10000}") int maxEntries,
+            @Value("${gemini.cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${gemini.single-flight.enabled:true}") boolean singleFlight) {
+        this.enabled = enabled;
+        this.singleFlight = singleFlight;
+        this.maxEntriesPerStripe = Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 캐시에 있으면 저장된 응답, 없으면 loader 호출 후 성공 응답을 저장
+     * 같은 키로 이미 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 받습니다 (캐시 비활성화 시에도 적용).
+     *
+     * @param key    정규화된 캐시 키
+     * @param loader 원격 호출 (에러는 그대로 전달되어 저장되지 않음)
+     */
+    public Mono<String> getOrLoad(String key, Supplier<Mono<String>> loader) {
+        return Mono.defer(() -> {
+            String cached = lookup(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            if (!singleFlight) {
+                return loader.get().doOnNext(value -> store(key, value));
+            }
+            return joinInFlight(key, loader);
+        });
+    }
+
+    /**
+     * 진행 중인 호출에 합류하거나 새 호출을 등록
+     * share()로 구독자들이 하나의 upstream 구독을 공유하며, 한 구독자가 취소해도 호출은 끝까지 진행되어 캐시에 저장됩니다.
+     */
+    private Mono<String> joinInFlight(String key, Supplier<Mono<String>> loader) {
+        Mono<String> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+        AtomicReference<Mono<String>> self = new AtomicReference<>();
+        Mono<String> shared = Mono.defer(loader)
+                .doOnNext(value -> store(key, value))
+                // 저장 후 제거하므로 제거 직후 요청은 캐시에서 응답 (다른 호출이 등록한 항목은 지우지 않음)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .share();
+        self.set(shared);
+        Mono<String> winner = inFlight.putIfAbsent(key, shared);
+        if (winner != null) {
+            coalesced.incrementAndGet();
+            return winner;
+        }
+        return shared;
+    }
+
+    /**
+     * 캐시 조회 (hit/miss 집계, 비활성화 시 항상 null)
+     */
+    public String lookup(String key) {
+        if (!enabled) {
+            return null;
+        }
+        String cached = get(key);
+        (cached != null ? hits : misses).incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * 성공 응답 저장 (스트리밍 응답은 완료 후 전체 텍스트를 저장)
+     */
+    public void store(String key, String value) {
+        if (enabled && value != null && !value.isEmpty()) {
+            put(key, value);
+        }
+    }
+
+    /**
+     * 캐시 통계 (hits, misses, evictions, size, coalesced, inFlight)
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("size", (long) size.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("inFlight", (long) inFlight.size());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tags("cache", "gemini-responses", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tags("cache", "gemini-responses", "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+                .tags("cache", "gemini-responses").register(registry);
+        Gauge.builder("cache.size", size, AtomicInteger::get)
+                .tags("cache", "gemini-responses").register(registry);
+        FunctionCounter.builder("gemini.requests.coalesced", coalesced, AtomicLong::get)
+                .description("진행 중인 동일 프롬프트 호출에 합류한 요청 수").register(registry);
+        Gauge.builder("gemini.requests.in.flight", inFlight, Map::size).register(registry);
+    }
+
+    /**
+     * 캐시 키용 SHA-256 해시 (hex)
+     */
+    public static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String get(String key) {
+        int stripe = stripeOf(key);
+        locks[stripe].lock();
+        try {
+            Map<String, CacheEntry> entries = stripes.get(stripe);
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                size.decrementAndGet();
+                return null;
+            }
+            return entry.value();
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private void put(String key, String value) {
+        int stripe = stripeOf(key);
+        locks[stripe].lock();
+        try {
+            Map<String, CacheEntry> entries = stripes.get(stripe);
+            if (entries.put(key, new CacheEntry(value, System.currentTimeMillis() + ttlMillis)) == null) {
+                size.incrementAndGet();
+            }
+            Iterator<CacheEntry> it = entries.values().iterator();
+            while (entries.size() > maxEntriesPerStripe && it.hasNext()) {
+                it.next();
+                it.remove();
+                size.decrementAndGet();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private static int stripeOf(String key) {
+        return (key.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static List<LinkedHashMap<String, CacheEntry>> createStripes() {
+        List<LinkedHashMap<String, CacheEntry>> stripes = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new LinkedHashMap<>(64, 0.75f, true));
+        }
+        return stripes;
+    }
+
+    private record CacheEntry(String value, long expiresAt) {
+    }
+}
@@ -2,29 +2,126 @@ package com.mychefai.healthytable.service;
 
 import com.mychefai.healthytable.dto.ChatDto;
 import com.mychefai.healthytable.dto.GeminiDto;
+import com.mychefai.healthytable.exception.GeminiUnavailableException;
+import com.mychefai.healthytable.metrics.GeminiMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Objects;
 
+@Slf4j
 @Service
 public class GeminiService {
 
+    // 보호 장치가 즉시 거절했을 때 사용자에게 보여줄 응답
+    private static final String BUSY_REPLY = "지금은 AI 요청이 많아 답변이 어려워요. 잠시 후 다시 시도해주세요. 🙏";
+    // 빈 응답일 때 사용자에게 보여줄 응답
+    public static final String EMPTY_REPLY = "죄송해요, 답변을 생각하는 데 문제가 생겼어요. 🍳";
+    // 호출 실패 시 사용자에게 보여줄 응답 (예외 메시지에는 요청 URI 등 내부 정보가 있어 그대로 내보내지 않음)
+    private static final String ERROR_REPLY = "AI 연결에 문제가 생겼어요. 잠시 후 다시 시도해주세요. 🙏";
+    // API 키는 쿼리 문자열 대신 헤더로 전달 (예외 메시지/접근 로그에 URI가 남아도 키가 노출되지 않도록)
+    private static final String API_KEY_HEADER = "x-goog-api-key";
+
     private final WebClient webClient;
+    private final GeminiResponseCache responseCache;
+    private final GeminiMetrics geminiMetrics;
+    private final GeminiCallGuard callGuard;
+    private final ChatHistoryCompactor historyCompactor;
 
     @Value("${gemini.api.key}")
     private String apiKey;
 
-    // Using Gemini 2.0 Flash as requested by user
-    private static final String API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
+    // Using Gemini 2.0 Flash as requested by user (로컬 스텁 서버 테스트 시 gemini.api.model-url 변경)
+    @Value("${gemini.api.model-url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash}")
+    private String modelUrl;
 
-    public GeminiService(WebClient webClient) {
+    public GeminiService(@Qualifier("geminiWebClient") WebClient webClient, GeminiResponseCache responseCache,
+            GeminiMetrics geminiMetrics, GeminiCallGuard callGuard, ChatHistoryCompactor historyCompactor) {
         this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.geminiMetrics = geminiMetrics;
+        this.callGuard = callGuard;
+        this.historyCompactor = historyCompactor;
     }
 
+    /**
+     * 채팅 응답 (실패는 에러, 빈 응답은 empty 그대로 전달)
+     * 대체 문구로 바꾸지 않으므로 호출자가 실패한 턴을 대화에 저장하지 않고 {@link #chatFailureReply}로 안내할 수 있습니다.
+     */
     public Mono<String> getChatResponse(String currentMessage, List<ChatDto.Message> history) {
+        String prompt = compactedChatPrompt(currentMessage, history);
+        return responseCache.getOrLoad(chatCacheKey(prompt), () -> requestText("generate", prompt, false));
+    }
+
+    /**
+     * 채팅 응답 스트리밍 (streamGenerateContent SSE를 부분 텍스트 Flux로 변환)
+     * 캐시에 있으면 전체 응답을 한 번에 내보내고, 스트림이 정상 완료되면 전체 텍스트를 캐시에 저장합니다 (빈 응답 제외).
+     * 실패는 대체 문구로 바꾸지 않고 에러로 전달합니다 (이미 보낸 조각이 있어도).
+     */
+    public Flux<String> streamChatResponse(String currentMessage, List<ChatDto.Message> history) {
+        String prompt = compactedChatPrompt(currentMessage, history);
+        String cacheKey = chatCacheKey(prompt);
+
+        return Flux.defer(() -> {
+            String cached = responseCache.lookup(cacheKey);
+            if (cached != null) {
+                return Flux.just(cached);
+            }
+            StringBuilder fullText = new StringBuilder();
+            GeminiDto.Request request = new GeminiDto.Request(List.of(GeminiDto.Content.user(prompt)));
+            Flux<GeminiDto.Response> chunks = callGuard.protectStream(webClient.post()
+                    .uri(modelUrl + ":streamGenerateContent?alt=sse")
+                    .header(API_KEY_HEADER, apiKey)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(GeminiDto.Response.class));
+            return geminiMetrics.timeStream("stream", chunks)
+                    .concatMap(response -> Flux.fromIterable(extractTexts(response)))
+                    .doOnNext(fullText::append)
+                    .doOnComplete(() -> {
+                        if (!fullText.isEmpty()) {
+                            responseCache.store(cacheKey, fullText.toString());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 채팅 호출 실패 시 사용자에게 보여줄 안내 문구 (로그 기록 포함)
+     */
+    public String chatFailureReply(Throwable e) {
+        return fallbackReply("Gemini 채팅 호출 실패", e);
+    }
+
+    /**
+     * 대화 기록을 토큰 예산 안으로 압축한 채팅 프롬프트 (새 요약 작업이 있으면 백그라운드로 실행)
+     */
+    private String compactedChatPrompt(String currentMessage, List<ChatDto.Message> history) {
+        ChatHistoryCompactor.Compaction compaction = historyCompactor.compact(history);
+        if (compaction.job() != null) {
+            summarizeInBackground(compaction.job());
+        }
+        return buildChatPrompt(currentMessage, compaction.summary(), compaction.recent());
+    }
+
+    /**
+     * 이전 대화 요약 요청 (응답을 기다리지 않음, 실패하면 다음 요청에서 다시 시도)
+     * 사용자 호출 허가를 쓰지 않도록 백그라운드 한도로 보호
+     */
+    private void summarizeInBackground(ChatHistoryCompactor.SummaryJob job) {
+        requestText("summary", job.prompt(), true)
+                .doFinally(signal -> historyCompactor.finishJob(job.key()))
+                .subscribe(summary -> historyCompactor.storeSummary(job.key(), summary),
+                        e -> log.warn("대화 요약 실패 (발췌문으로 계속): {}", e.getMessage()));
+    }
+
+    static String buildChatPrompt(String currentMessage, String summary, List<ChatDto.Message> history) {
         StringBuilder promptBuilder = new StringBuilder();
 
         // System Instruction (Persona)
@@ -33,6 +130,11 @@ public class GeminiService {
         promptBuilder.append("레시피를 추천하거나 음식에 대해 설명할 때는 반드시 1인분 칼로리 정보를 'XXXkcal' 형식으로 포함해주세요. ");
         promptBuilder.append("답변은 한국어로, 이모지를 적절히 사용하여 친근하게 해주세요.\n");
 
+        // 오래된 대화는 요약으로 대체
+        if (summary != null) {
+            promptBuilder.append("[이전 대화 요약]\n").append(summary).append("\n");
+        }
+
         // Append History
         if (history != null) {
             for (ChatDto.Message msg : history) {
@@ -45,40 +147,36 @@ public class GeminiService {
         promptBuilder.append("User: ").append(currentMessage).append("\n");
         promptBuilder.append("Model: ");
 
-        GeminiDto.Request request = new GeminiDto.Request(List.of(GeminiDto.Content.user(promptBuilder.toString())));
-
-        return webClient.post()
-                .uri(API_URL + "?key=" + apiKey)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(GeminiDto.Response.class)
-                .map(response -> {
-                    if (response.getCandidates() != null && !response.getCandidates().isEmpty()) {
-                        return response.getCandidates().get(0).getContent().getParts().get(0).getText();
-                    }
-                    return "죄송해요, 답변을 생각하는 데 문제가 생겼어요. 🍳";
-                })
-                .onErrorResume(e -> {
-                    e.printStackTrace();
-                    return Mono.just("AI 연결 오류: " + e.getMessage());
-                });
+        return promptBuilder.toString();
     }
 
     public Mono<String> getRecipeRecommendation(List<String> ingredients, String healthContext) {
+        // 재료 순서/공백/중복과 무관하게 같은 키가 되도록 정렬된 재료 목록으로 프롬프트 구성
+        List<String> sortedIngredients = ingredients == null ? List.of()
+                : ingredients.stream()
+                        .filter(Objects::nonNull)
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .distinct()
+                        .sorted()
+                        .toList();
+        String context = healthContext == null ? "" : canonicalize(healthContext);
         String prompt = String.format(
                 "사용자가 가진 재료: [%s]. " +
                         "건강/상황 고려: [%s]. " +
                         "이 재료들을 활용해 만들 수 있는 맛있고 건강한 요리를 하나 추천해주세요. " +
                         "요리 이름, 간단한 설명, 필요한 재료(계량 포함), 조리 순서를 알려주세요. " +
                         "**중요: 반드시 이 요리의 1인분 총 칼로리를 계산하여 응답 마지막에 '총 XXXkcal' 형식으로 명시해주세요.**",
-                String.join(", ", ingredients),
-                healthContext);
-        return getChatResponse(prompt, null);
+                String.join(", ", sortedIngredients),
+                context);
+        String cacheKey = "recipe:" + GeminiResponseCache.hash(String.join("\n", sortedIngredients))
+                + ":" + GeminiResponseCache.hash(context);
+        // 기존과 같은 페르소나/대화 형식으로 감싸서 호출 (캐시만 추가)
+        return generateText(cacheKey, buildChatPrompt(prompt, null, List.of()));
     }
 
     public Mono<String> analyzeReceipt(String base64Image) {
-        System.out.println(">>> GeminiService: analyzeReceipt 시작");
-        System.out.println(">>> 이미지 크기: " + base64Image.length() + " bytes");
+        log.debug("analyzeReceipt 시작 (이미지 {} bytes)", base64Image.length());
 
         String prompt = "이 영수증 사진을 분석하여 구매한 식재료 목록을 추출해주세요. " +
                 "결과는 반드시 JSON 배열 형식으로만 답변해주세요. " +
@@ -90,31 +188,31 @@ public class GeminiService {
         GeminiDto.Content content = new GeminiDto.Content(List.of(textPart, imagePart), "user");
         GeminiDto.Request request = new GeminiDto.Request(List.of(content));
 
-        System.out.println(">>> Gemini API 호출 중...");
-        return webClient.post()
-                .uri(API_URL + "?key=" + apiKey)
+        Mono<GeminiDto.Response> call = callGuard.protect(webClient.post()
+                .uri(modelUrl + ":generateContent")
+                .header(API_KEY_HEADER, apiKey)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(GeminiDto.Response.class)
+                .bodyToMono(GeminiDto.Response.class))
+                .doOnNext(response -> geminiMetrics.recordUsage("receipt", response.getUsageMetadata()));
+        return geminiMetrics.timeRequest("receipt", call)
                 .map(response -> {
-                    System.out.println(">>> Gemini API 응답 받음!");
                     if (response.getCandidates() != null && !response.getCandidates().isEmpty()) {
                         String rawJson = response.getCandidates().get(0).getContent().getParts().get(0).getText();
-                        System.out.println(
-                                ">>> AI 원본 응답: " + rawJson.substring(0, Math.min(100, rawJson.length())) + "...");
                         // AI output might contain markdown blocks like ```json ... ```
                         String cleaned = rawJson.replaceAll("```json", "").replaceAll("```", "").trim();
-                        System.out.println(">>> 정제된 JSON: " + cleaned);
+                        log.debug("영수증 분석 결과 ({}자)", cleaned.length());
                         return cleaned;
                     }
-                    System.out.println(">>> Gemini 응답이 비어있음, 빈 배열 반환");
+                    log.warn("영수증 분석 응답이 비어있음, 빈 배열 반환");
                     return "[]";
                 })
                 .onErrorResume(e -> {
-                    System.err.println(">>> Gemini API 에러 발생!");
-                    System.err.println(">>> 에러 타입: " + e.getClass().getName());
-                    System.err.println(">>> 에러 메시지: " + e.getMessage());
-                    e.printStackTrace();
+                    if (e instanceof GeminiUnavailableException) {
+                        log.warn("영수증 분석 요청 거절: {}", e.getMessage());
+                    } else {
+                        log.error("영수증 분석 Gemini API 호출 실패", e);
+                    }
                     return Mono.just("[]");
                 });
     }
@@ -140,7 +238,74 @@ public class GeminiService {
             prompt.append("\n");
         }
 
-        // Reuse getChatResponse logic but without history
-        return getChatResponse(prompt.toString(), null);
+        // 채팅 프롬프트 형식을 그대로 사용 (대화 기록 없이, 실패는 대체 문구로)
+        String chatPrompt = compactedChatPrompt(prompt.toString(), null);
+        return generateText(chatCacheKey(chatPrompt), chatPrompt);
+    }
+
+    /**
+     * 텍스트 프롬프트 호출 (응답 캐시 경유, 실패/빈 응답은 캐시하지 않음)
+     */
+    private Mono<String> generateText(String cacheKey, String prompt) {
+        return responseCache.getOrLoad(cacheKey, () -> requestText("generate", prompt, false))
+                .defaultIfEmpty(EMPTY_REPLY)
+                .onErrorResume(e -> Mono.just(fallbackReply("Gemini API 호출 실패", e)));
+    }
+
+    /**
+     * 호출 실패 시 대체 응답 (보호 장치의 즉시 거절은 스택 없이 기록하고 안내 문구로 응답)
+     * 상세 원인은 서버 로그에만 남기고 사용자에게는 고정 문구를 보냅니다.
+     */
+    private String fallbackReply(String logMessage, Throwable e) {
+        if (e instanceof GeminiUnavailableException) {
+            log.warn("{}: 요청 거절 ({})", logMessage, e.getMessage());
+            return BUSY_REPLY;
+        }
+        log.error(logMessage, e);
+        return ERROR_REPLY;
+    }
+
+    private Mono<String> requestText(String operation, String prompt, boolean background) {
+        GeminiDto.Request request = new GeminiDto.Request(List.of(GeminiDto.Content.user(prompt)));
+
+        Mono<GeminiDto.Response> remote = webClient.post()
+                .uri(modelUrl + ":generateContent")
+                .header(API_KEY_HEADER, apiKey)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GeminiDto.Response.class);
+        Mono<GeminiDto.Response> call = (background ? callGuard.protectBackground(remote) : callGuard.protect(remote))
+                .doOnNext(response -> geminiMetrics.recordUsage(operation, response.getUsageMetadata()));
+        return geminiMetrics.timeRequest(operation, call)
+                .flatMap(response -> {
+                    List<String> texts = extractTexts(response);
+                    return texts.isEmpty() ? Mono.empty() : Mono.just(String.join("", texts));
+                });
+    }
+
+    /**
+     * 응답 조각의 텍스트 (후보/파트가 없으면 빈 목록)
+     */
+    private List<String> extractTexts(GeminiDto.Response response) {
+        if (response.getCandidates() == null || response.getCandidates().isEmpty()
+                || response.getCandidates().get(0).getContent() == null
+                || response.getCandidates().get(0).getContent().getParts() == null) {
+            return List.of();
+        }
+        return response.getCandidates().get(0).getContent().getParts().stream()
+                .map(GeminiDto.Part::getText)
+                .filter(text -> text != null && !text.isEmpty())
+                .toList();
+    }
+
+    private static String chatCacheKey(String prompt) {
+        return "chat:" + GeminiResponseCache.hash(canonicalize(prompt));
+    }
+
+    /**
+     * 캐시 키용 프롬프트 정규화 (앞뒤 공백 제거, 연속 공백 하나로)
+     */
+    private static String canonicalize(String text) {
+        return text.trim().replaceAll("[ \\t]+", " ");
     }
 }
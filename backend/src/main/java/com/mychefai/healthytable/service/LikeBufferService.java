@@ -0,0 +1,352 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.repository.CommunityPostRepository;
+import com.mychefai.healthytable.repository.PostLikeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좋아요 Write-Behind 버퍼 (community.like.write-behind.enabled=true 일 때 사용)
+ * 좋아요 토글을 postId 기준 lock-striped 메모리 구조에 모아두고 예상 상태를 즉시 반환한 뒤,
+ * 주기적으로 post_likes에 일괄 INSERT/DELETE 합니다. 종료 시 남은 변경은 반드시 flush 됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeBufferService {
+
+    private static final int STRIPES = 64;
+
+    private static final String INSERT_LIKE_SQL =
+            "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, NOW())";
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?";
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE community_posts SET like_count = like_count + ?, updated_at = updated_at WHERE id = ?";
+
+    private final CommunityPostRepository postRepository;
+    private final PostLikeRepository likeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${community.like.write-behind.enabled:false}")
+    private boolean enabled;
+
+    private final ReentrantLock[] locks = createLocks();
+    private final List<Map<Long, PostLikeState>> stripes = createStripes();
+    // stripe별 DB 반영 완료 횟수 (해당 stripe 잠금 안에서만 접근)
+    private final long[] flushVersions = new long[STRIPES];
+
+    // 스케줄 flush와 종료 시 flush가 동시에 실행되지 않도록 보장
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 토글을 버퍼에 기록하고 예상 상태를 반환
+     *
+     * @return isLiked, likeCount
+     */
+    public Map<String, Object> toggle(Long postId, Long userId) {
+        int stripe = stripeOf(postId);
+        ReentrantLock lock = locks[stripe];
+        Map<Long, PostLikeState> states = stripes.get(stripe);
+
+        while (true) {
+            // 1. 이미 버퍼에 상태가 있으면 DB 조회 없이 처리
+            long version;
+            lock.lock();
+            try {
+                PostLikeState state = states.get(postId);
+                if (state != null) {
+                    Boolean liked = state.likedState(userId);
+                    if (liked != null) {
+                        return state.apply(userId, liked);
+                    }
+                }
+                version = flushVersions[stripe];
+            } finally {
+                lock.unlock();
+            }
+
+            // 2. 버퍼에 없으면 stripe 잠금 밖에서 DB 기준 상태 조회
+            Long likeCount = postRepository.findLikeCountById(postId);
+            if (likeCount == null) {
+                throw new RuntimeException("게시글을 찾을 수 없습니다.");
+            }
+            boolean likedInDb = likeRepository.existsByPostIdAndUserId(postId, userId);
+
+            lock.lock();
+            try {
+                PostLikeState state = states.get(postId);
+                Boolean liked = state != null ? state.likedState(userId) : null;
+                if (liked != null) {
+                    return state.apply(userId, liked);
+                }
+                // 조회 중에 이 stripe의 flush가 커밋되었으면 조회 결과가 오래되었을 수 있으므로 다시 조회
+                if (flushVersions[stripe] != version) {
+                    continue;
+                }
+                if (state == null) {
+                    state = new PostLikeState(likeCount);
+                    states.put(postId, state);
+                }
+                return state.apply(userId, likedInDb);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 반영된 예상 좋아요 수 (버퍼에 없으면 null)
+     */
+    public Long getLikeCount(Long postId) {
+        int stripe = stripeOf(postId);
+        locks[stripe].lock();
+        try {
+            PostLikeState state = stripes.get(stripe).get(postId);
+            return state != null ? state.likeCount : null;
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 반영된 사용자의 좋아요 여부 (버퍼에 없으면 null)
+     */
+    public Boolean isLiked(Long postId, Long userId) {
+        int stripe = stripeOf(postId);
+        locks[stripe].lock();
+        try {
+            PostLikeState state = stripes.get(stripe).get(postId);
+            return state != null ? state.likedState(userId) : null;
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 변경을 post_likes와 게시글 카운터에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${community.like.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                List<LikeChange> changes = drain(stripe);
+                if (changes.isEmpty()) {
+                    continue;
+                }
+                boolean written = false;
+                try {
+                    write(changes);
+                    written = true;
+                } catch (Exception e) {
+                    log.error("좋아요 버퍼 flush 실패, 다음 주기에 재시도합니다. ({}건)", changes.size(), e);
+                } finally {
+                    complete(stripe, changes, written);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * stripe의 대기 중인 변경을 꺼내 flushing 상태로 옮김 (실제로 상태가 바뀐 것만)
+     */
+    private List<LikeChange> drain(int stripe) {
+        List<LikeChange> changes = new ArrayList<>();
+        locks[stripe].lock();
+        try {
+            Iterator<Map.Entry<Long, PostLikeState>> it = stripes.get(stripe).entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, PostLikeState> entry = it.next();
+                PostLikeState state = entry.getValue();
+
+                // 이번 주기에 변경이 없던 게시글은 버퍼에서 제거 (DB에 모두 반영된 상태)
+                if (state.pending.isEmpty() && state.flushing.isEmpty()) {
+                    it.remove();
+                    continue;
+                }
+
+                for (Map.Entry<Long, PendingLike> pending : state.pending.entrySet()) {
+                    PendingLike like = pending.getValue();
+                    if (like.liked != like.initiallyLiked) {
+                        state.flushing.put(pending.getKey(), like.liked);
+                        changes.add(new LikeChange(entry.getKey(), pending.getKey(), like.liked));
+                    }
+                }
+                state.pending.clear();
+            }
+        } finally {
+            locks[stripe].unlock();
+        }
+        return changes;
+    }
+
+    /**
+     * 한 트랜잭션에서 INSERT/DELETE 배치 실행 후 실제 변경된 행 수만큼 카운터 반영
+     */
+    private void write(List<LikeChange> changes) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Long> insertPostIds = new ArrayList<>();
+        List<Long> deletePostIds = new ArrayList<>();
+        for (LikeChange change : changes) {
+            if (change.liked()) {
+                inserts.add(new Object[] { change.postId(), change.userId() });
+                insertPostIds.add(change.postId());
+            } else {
+                deletes.add(new Object[] { change.postId(), change.userId() });
+                deletePostIds.add(change.postId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            addDeltas(deltas, insertPostIds, jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts), 1);
+            addDeltas(deltas, deletePostIds, jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes), -1);
+
+            List<Object[]> counters = new ArrayList<>();
+            deltas.forEach((postId, delta) -> {
+                if (delta != 0) {
+                    counters.add(new Object[] { delta, postId });
+                }
+            });
+            jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, counters);
+        });
+    }
+
+    private void addDeltas(Map<Long, Long> deltas, List<Long> postIds, int[] affected, int sign) {
+        for (int i = 0; i < affected.length; i++) {
+            if (affected[i] > 0) {
+                deltas.merge(postIds.get(i), (long) sign, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * flush 완료 처리: 성공하면 flushing 상태 제거, 실패하면 대기 목록으로 되돌려 재시도
+     */
+    private void complete(int stripe, List<LikeChange> changes, boolean written) {
+        locks[stripe].lock();
+        try {
+            Map<Long, PostLikeState> states = stripes.get(stripe);
+            if (written) {
+                flushVersions[stripe]++;
+            }
+            for (LikeChange change : changes) {
+                PostLikeState state = states.get(change.postId());
+                if (state == null) {
+                    continue;
+                }
+                state.flushing.remove(change.userId());
+                if (!written) {
+                    // DB는 변경 전 상태 그대로이므로, 이후 토글이 있었다면 그 기준 상태를 되돌림
+                    PendingLike pending = state.pending.get(change.userId());
+                    if (pending == null) {
+                        state.pending.put(change.userId(), new PendingLike(!change.liked(), change.liked()));
+                    } else {
+                        pending.initiallyLiked = !change.liked();
+                    }
+                }
+            }
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private int stripeOf(Long postId) {
+        return (Long.hashCode(postId) & 0x7fffffff) % STRIPES;
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static List<Map<Long, PostLikeState>> createStripes() {
+        List<Map<Long, PostLikeState>> stripes = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new HashMap<>());
+        }
+        return stripes;
+    }
+
+    /**
+     * 게시글 단위 버퍼 상태 (해당 stripe 잠금 안에서만 접근)
+     */
+    private static class PostLikeState {
+        private long likeCount;
+        // 아직 flush 되지 않은 토글 (userId -> 상태)
+        private final Map<Long, PendingLike> pending = new HashMap<>();
+        // DB에 쓰는 중인 상태 (userId -> 좋아요 여부)
+        private final Map<Long, Boolean> flushing = new HashMap<>();
+
+        private PostLikeState(long likeCount) {
+            this.likeCount = likeCount;
+        }
+
+        private Boolean likedState(Long userId) {
+            PendingLike like = pending.get(userId);
+            if (like != null) {
+                return like.liked;
+            }
+            return flushing.get(userId);
+        }
+
+        private Map<String, Object> apply(Long userId, boolean currentlyLiked) {
+            boolean liked = !currentlyLiked;
+            PendingLike like = pending.get(userId);
+            if (like == null) {
+                pending.put(userId, new PendingLike(currentlyLiked, liked));
+            } else {
+                like.liked = liked;
+            }
+            likeCount += liked ? 1 : -1;
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("isLiked", liked);
+            result.put("likeCount", likeCount);
+            return result;
+        }
+    }
+
+    private static class PendingLike {
+        private boolean initiallyLiked;
+        private boolean liked;
+
+        private PendingLike(boolean initiallyLiked, boolean liked) {
+            this.initiallyLiked = initiallyLiked;
+            this.liked = liked;
+        }
+    }
+
+    private record LikeChange(Long postId, Long userId, boolean liked) {
+    }
+}
@@ -1,12 +1,13 @@
 package com.mychefai.healthytable.service;
 
 import com.mychefai.healthytable.domain.MealLog;
-import com.mychefai.healthytable.domain.User;
 import com.mychefai.healthytable.dto.MealLogDTO;
 import com.mychefai.healthytable.repository.MealLogRepository;
+import com.mychefai.healthytable.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,22 +20,29 @@ import com.fasterxml.jackson.core.type.TypeReference;
 @RequiredArgsConstructor
 public class MealLogService {
 
+    // ObjectMapper는 스레드 안전하므로 요청마다 만들지 않고 공유
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MEAL_DETAILS_TYPE = new TypeReference<>() {
+    };
+
     private final MealLogRepository mealLogRepository;
+    private final UserRepository userRepository;
 
-    public List<MealLog> getMealLogs(User user) {
-        return mealLogRepository.findByUser(user);
+    public List<MealLog> getMealLogs(Long userId) {
+        return mealLogRepository.findByUserId(userId);
     }
 
     @Transactional
-    public MealLog saveOrUpdateMealLog(User user, MealLogDTO dto) {
-        Optional<MealLog> existingLog = mealLogRepository.findByUserAndRecordDate(user, dto.getRecordDate());
+    public MealLog saveOrUpdateMealLog(Long userId, MealLogDTO dto) {
+        Optional<MealLog> existingLog = mealLogRepository.findByUserIdAndRecordDate(userId, dto.getRecordDate());
 
         MealLog mealLog;
         if (existingLog.isPresent()) {
             mealLog = existingLog.get();
         } else {
             mealLog = new MealLog();
-            mealLog.setUser(user);
+            // 외래키만 필요하므로 SELECT 없이 프록시 참조 사용
+            mealLog.setUser(userRepository.getReferenceById(userId));
             mealLog.setRecordDate(dto.getRecordDate());
         }
 
@@ -59,26 +67,7 @@ public class MealLogService {
         // Update JSON fields for details and stats
         if (dto.getMealDetails() != null) {
             // Merge existing details with new details to prevent overwriting
-            try {
-                ObjectMapper mapper = new ObjectMapper();
-                Map<String, Object> currentDetails = new HashMap<>();
-
-                if (mealLog.getMealDetails() != null && !mealLog.getMealDetails().isEmpty()) {
-                    currentDetails = mapper.readValue(mealLog.getMealDetails(),
-                            new TypeReference<Map<String, Object>>() {
-                            });
-                }
-
-                Map<String, Object> newDetails = mapper.readValue(dto.getMealDetails(),
-                        new TypeReference<Map<String, Object>>() {
-                        });
-                currentDetails.putAll(newDetails);
-
-                mealLog.setMealDetails(mapper.writeValueAsString(currentDetails));
-            } catch (Exception e) {
-                // Fallback: just set the new value if parsing fails
-                mealLog.setMealDetails(dto.getMealDetails());
-            }
+            mealLog.setMealDetails(mergeMealDetails(mealLog.getMealDetails(), dto.getMealDetails()));
         }
 
         if (dto.getDailyStats() != null) {
@@ -92,7 +81,28 @@ public class MealLogService {
 
     private final com.mychefai.healthytable.service.GeminiService geminiService;
 
-    public String getMonthlyAnalysis(User user, int year, int month) {
+    /**
+     * 기존 mealDetails JSON에 새 값을 덮어써 병합 (파싱 실패 시 새 값 그대로 사용)
+     */
+    static String mergeMealDetails(String currentJson, String newJson) {
+        try {
+            Map<String, Object> currentDetails = new HashMap<>();
+
+            if (currentJson != null && !currentJson.isEmpty()) {
+                currentDetails = MAPPER.readValue(currentJson, MEAL_DETAILS_TYPE);
+            }
+
+            Map<String, Object> newDetails = MAPPER.readValue(newJson, MEAL_DETAILS_TYPE);
+            currentDetails.putAll(newDetails);
+
+            return MAPPER.writeValueAsString(currentDetails);
+        } catch (Exception e) {
+            // Fallback: just set the new value if parsing fails
+            return newJson;
+        }
+    }
+
+    public Mono<String> getMonthlyAnalysis(Long userId, int year, int month) {
         // Fetch all logs for the month
         java.time.YearMonth yearMonth = java.time.YearMonth.of(year, month);
         java.time.LocalDate startDate = yearMonth.atDay(1);
@@ -107,9 +117,9 @@ public class MealLogService {
         // OR better, let's add the method to the repository interface in the next step
         // if it doesn't exist.
         // I'll assume we can add it.
-        List<MealLog> monthlyLogs = mealLogRepository.findByUserAndRecordDateBetween(user, startDate, endDate);
+        List<MealLog> monthlyLogs = mealLogRepository.findByUserIdAndRecordDateBetween(userId, startDate, endDate);
 
-        // Block the Mono to get the result synchronously
-        return geminiService.analyzeMonthlyMealPlan(monthlyLogs).block();
+        // Gemini 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 Mono 그대로 반환
+        return geminiService.analyzeMonthlyMealPlan(monthlyLogs);
     }
 }
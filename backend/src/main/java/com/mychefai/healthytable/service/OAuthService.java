@@ -1,37 +1,53 @@
 package com.mychefai.healthytable.service;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class OAuthService {
 
-    private final WebClient.Builder webClientBuilder;
+    // 호스트별 연결 풀을 쓰는 클라이언트 (로그인마다 새로 build하지 않음)
+    private final WebClient googleWebClient;
+    private final WebClient kakaoWebClient;
+
+    // 사용자 정보 조회 URL (부하 테스트에서는 로컬 스텁 서버로 교체)
+    private final String googleUserInfoUrl;
+    private final String kakaoUserInfoUrl;
+
+    public OAuthService(@Qualifier("googleWebClient") WebClient googleWebClient,
+            @Qualifier("kakaoWebClient") WebClient kakaoWebClient,
+            @Value("${oauth.google.userinfo-url:https://www.googleapis.com/oauth2/v3/userinfo}") String googleUserInfoUrl,
+            @Value("${oauth.kakao.userinfo-url:https://kapi.kakao.com/v2/user/me}") String kakaoUserInfoUrl) {
+        this.googleWebClient = googleWebClient;
+        this.kakaoWebClient = kakaoWebClient;
+        this.googleUserInfoUrl = googleUserInfoUrl;
+        this.kakaoUserInfoUrl = kakaoUserInfoUrl;
+    }
 
-    // Google Token Verification
+    // Google Token Verification (요청 스레드를 막지 않도록 Mono 반환)
     @SuppressWarnings("unchecked")
-    public Map<String, Object> verifyGoogleToken(String accessToken) {
-        return webClientBuilder.build()
-                .get()
-                .uri("https://www.googleapis.com/oauth2/v3/userinfo")
+    public Mono<Map<String, Object>> verifyGoogleToken(String accessToken) {
+        return googleWebClient.get()
+                .uri(googleUserInfoUrl)
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(Map.class)
-                .block();
+                .map(body -> (Map<String, Object>) body);
     }
 
-    // Kakao Token Verification
+    // Kakao Token Verification (요청 스레드를 막지 않도록 Mono 반환)
     @SuppressWarnings("unchecked")
-    public Map<String, Object> verifyKakaoToken(String accessToken) {
-        return webClientBuilder.build()
-                .get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+    public Mono<Map<String, Object>> verifyKakaoToken(String accessToken) {
+        return kakaoWebClient.get()
+                .uri(kakaoUserInfoUrl)
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(Map.class)
-                .block();
+                .map(body -> (Map<String, Object>) body);
     }
 }
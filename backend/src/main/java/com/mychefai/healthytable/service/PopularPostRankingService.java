@@ -0,0 +1,272 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.event.PostChangedEvent;
+import com.mychefai.healthytable.event.PostLikeChangedEvent;
+import com.mychefai.healthytable.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 게시글 랭킹 엔진
+ * 기간별(일간/주간/월간/전체) 좋아요 순위와 시간 감쇠(hot) 순위를 메모리에 정렬된 상태로 유지합니다.
+ * 좋아요/게시글 변경은 트랜잭션 커밋 후 O(log N)으로 갱신되고, 인기 게시글 조회는 게시글 테이블 없이 O(K)로 응답합니다.
+ * 재구성은 최근 한 달 게시글과 좋아요 상위 all-time-size개만 읽으며(전체 기간 순위는 이 안에서 계산),
+ * 다중 인스턴스 간 차이나 목록 밖 오래된 게시글의 순위 진입은 주기적인 재구성으로 보정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PopularPostRankingService {
+
+    /**
+     * 인기 게시글 조회 기간
+     */
+    public enum Timeframe {
+        DAILY, WEEKLY, MONTHLY, ALL, HOT;
+
+        public static Timeframe from(String timeframe) {
+            if (timeframe == null) {
+                return ALL;
+            }
+            for (Timeframe value : values()) {
+                if (value.name().equalsIgnoreCase(timeframe)) {
+                    return value;
+                }
+            }
+            return ALL;
+        }
+
+        private LocalDateTime since(LocalDateTime now) {
+            return switch (this) {
+                case DAILY -> now.minusDays(1);
+                case WEEKLY -> now.minusWeeks(1);
+                case MONTHLY -> now.minusMonths(1);
+                default -> null;
+            };
+        }
+    }
+
+    // 좋아요 수 내림차순, 동점이면 최신순
+    private static final Comparator<RankedPost> LIKE_ORDER = Comparator
+            .comparingLong(RankedPost::likeCount).reversed()
+            .thenComparing(RankedPost::createdAt, Comparator.reverseOrder())
+            .thenComparing(RankedPost::id, Comparator.reverseOrder());
+
+    // 작성 시간 오름차순 (기간 만료 처리용)
+    private static final Comparator<RankedPost> CREATED_ORDER = Comparator
+            .comparing(RankedPost::createdAt)
+            .thenComparing(RankedPost::id);
+
+    private static final Comparator<RankedPost> HOT_ORDER = Comparator
+            .comparingDouble(RankedPost::hotScore).reversed()
+            .thenComparing(RankedPost::id, Comparator.reverseOrder());
+
+    private static final List<Timeframe> WINDOWED = List.of(Timeframe.DAILY, Timeframe.WEEKLY, Timeframe.MONTHLY);
+
+    private final CommunityPostRepository postRepository;
+
+    // 좋아요 1 -> 10 차이가 이 시간(초)만큼 최신 글과 같은 점수 (Reddit hot 방식, 시간이 지나도 순서 불변)
+    @Value("${community.ranking.hot-decay-seconds:45000}")
+    private double hotDecaySeconds;
+
+    // 재구성 시 읽는 전체 기간 좋아요 상위 게시글 수
+    @Value("${community.ranking.all-time-size:1000}")
+    private int allTimeSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RankedPost> posts = new HashMap<>();
+    private final Map<Timeframe, TreeSet<RankedPost>> byLikes = new EnumMap<>(Timeframe.class);
+    private final Map<Timeframe, TreeSet<RankedPost>> byCreated = new EnumMap<>(Timeframe.class);
+    private final TreeSet<RankedPost> byHot = new TreeSet<>(HOT_ORDER);
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded = false;
+
+    {
+        byLikes.put(Timeframe.ALL, new TreeSet<>(LIKE_ORDER));
+        for (Timeframe timeframe : WINDOWED) {
+            byLikes.put(timeframe, new TreeSet<>(LIKE_ORDER));
+            byCreated.put(timeframe, new TreeSet<>(CREATED_ORDER));
+        }
+    }
+
+    /**
+     * 기간별 인기 게시글 ID 상위 limit개 (순위 순)
+     */
+    public List<Long> getTopPostIds(Timeframe timeframe, int limit) {
+        ensureLoaded();
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            if (WINDOWED.contains(timeframe) && hasExpired(timeframe, now)) {
+                // 기간이 지난 게시글이 남아 있을 때만 쓰기 잠금으로 제거 (평소 조회는 읽기 잠금만 사용)
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    evictExpired(now);
+                } finally {
+                    // 쓰기 잠금을 놓기 전에 읽기 잠금을 다시 잡음 (잠금 하향)
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+            TreeSet<RankedPost> ranking = timeframe == Timeframe.HOT ? byHot : byLikes.get(timeframe);
+            List<Long> ids = new ArrayList<>(Math.min(limit, ranking.size()));
+            for (RankedPost post : ranking) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                ids.add(post.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/삭제 반영 (커밋 후, 수정은 순위에 영향 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!loaded) {
+            return; // 최초 로딩 시 DB 값으로 반영됨
+        }
+        CommunityPost post = event.post();
+        lock.writeLock().lock();
+        try {
+            if (event.deleted()) {
+                remove(post.getId());
+            } else if (!posts.containsKey(post.getId())) {
+                long likeCount = post.getLikeCount() != null ? post.getLikeCount() : 0L;
+                add(new RankedPost(post.getId(), post.getCreatedAt(), likeCount,
+                        hotScore(post.getCreatedAt(), likeCount)), LocalDateTime.now());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좋아요 수 변경 반영 (커밋 후, 랭킹에 없는 게시글은 다음 재구성 때 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeCountChanged(PostLikeChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            RankedPost old = posts.get(event.postId());
+            if (old == null || old.likeCount() == event.likeCount()) {
+                return;
+            }
+            remove(event.postId());
+            add(new RankedPost(event.postId(), old.createdAt(), event.likeCount(),
+                    hotScore(old.createdAt(), event.likeCount())), LocalDateTime.now());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 카운터 기준으로 랭킹 재구성 (최근 한 달 게시글 + 좋아요 상위 게시글)
+     * 한 달이 지난 게시글은 기간별 순위에 들지 않고, hot 점수도 최근 게시글을 넘지 못하므로 전체 기간 순위에만 필요
+     */
+    @Scheduled(fixedDelayString = "${community.ranking.rebuild-interval-ms:600000}",
+            initialDelayString = "${community.ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(postRepository.findRankingRowsSince(Timeframe.MONTHLY.since(now)));
+        rows.addAll(postRepository.findTopRankingRows(PageRequest.of(0, allTimeSize)));
+
+        lock.writeLock().lock();
+        try {
+            posts.clear();
+            byHot.clear();
+            byLikes.values().forEach(TreeSet::clear);
+            byCreated.values().forEach(TreeSet::clear);
+
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                if (posts.containsKey(id)) {
+                    continue; // 최근 게시글이면서 좋아요 상위인 경우
+                }
+                LocalDateTime createdAt = (LocalDateTime) row[1];
+                long likeCount = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+                add(new RankedPost(id, createdAt, likeCount, hotScore(createdAt, likeCount)), now);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            // synchronized 대신 ReentrantLock (가상 스레드가 DB 조회 중 캐리어 스레드를 점유하지 않도록)
+            loadLock.lock();
+            try {
+                if (!loaded) {
+                    rebuild();
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+
+    private void add(RankedPost post, LocalDateTime now) {
+        posts.put(post.id(), post);
+        byLikes.get(Timeframe.ALL).add(post);
+        byHot.add(post);
+        for (Timeframe timeframe : WINDOWED) {
+            if (!post.createdAt().isBefore(timeframe.since(now))) {
+                byLikes.get(timeframe).add(post);
+                byCreated.get(timeframe).add(post);
+            }
+        }
+    }
+
+    private void remove(Long postId) {
+        RankedPost old = posts.remove(postId);
+        if (old == null) {
+            return;
+        }
+        byLikes.values().forEach(set -> set.remove(old));
+        byCreated.values().forEach(set -> set.remove(old));
+        byHot.remove(old);
+    }
+
+    private boolean hasExpired(Timeframe timeframe, LocalDateTime now) {
+        TreeSet<RankedPost> created = byCreated.get(timeframe);
+        return !created.isEmpty() && created.first().createdAt().isBefore(timeframe.since(now));
+    }
+
+    private void evictExpired(LocalDateTime now) {
+        for (Timeframe timeframe : WINDOWED) {
+            LocalDateTime since = timeframe.since(now);
+            TreeSet<RankedPost> created = byCreated.get(timeframe);
+            while (!created.isEmpty() && created.first().createdAt().isBefore(since)) {
+                byLikes.get(timeframe).remove(created.pollFirst());
+            }
+        }
+    }
+
+    private double hotScore(LocalDateTime createdAt, long likeCount) {
+        long epochSeconds = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return Math.log10(Math.max(likeCount, 1)) + epochSeconds / hotDecaySeconds;
+    }
+
+    private record RankedPost(Long id, LocalDateTime createdAt, long likeCount, double hotScore) {
+    }
+}
@@ -6,7 +6,6 @@ import com.mychefai.healthytable.dto.CreateCommentRequestDTO;
 import com.mychefai.healthytable.dto.PostCommentDTO;
 import com.mychefai.healthytable.repository.CommunityPostRepository;
 import com.mychefai.healthytable.repository.PostCommentRepository;
-import com.mychefai.healthytable.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +21,7 @@ public class PostCommentService {
 
     private final PostCommentRepository commentRepository;
     private final CommunityPostRepository postRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     /**
      * 특정 게시글의 댓글 조회
@@ -39,8 +38,7 @@ public class PostCommentService {
                 .map(PostComment::getUserId)
                 .distinct()
                 .collect(Collectors.toList());
-        Map<Long, User> userMap = userRepository.findByIdIn(userIds).stream()
-                .collect(Collectors.toMap(User::getId, u -> u));
+        Map<Long, User> userMap = userCacheService.getUsers(userIds);
 
         return comments.stream().map(comment -> {
             User user = userMap.get(comment.getUserId());
@@ -72,7 +70,9 @@ public class PostCommentService {
         comment.setParentId(request.getParentId());
         comment.setContent(request.getContent());
 
-        return commentRepository.save(comment);
+        PostComment saved = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1);
+        return saved;
     }
 
     /**
@@ -105,6 +105,9 @@ public class PostCommentService {
             throw new RuntimeException("본인의 댓글만 삭제할 수 있습니다.");
         }
 
+        // 하위 댓글은 DB에서 ON DELETE CASCADE로 함께 삭제되므로 삭제 전에 지워질 개수를 세어 원자적으로 차감
+        long removed = commentRepository.countThread(commentId);
         commentRepository.delete(comment);
+        postRepository.addCommentCount(comment.getPostId(), -removed);
     }
 }
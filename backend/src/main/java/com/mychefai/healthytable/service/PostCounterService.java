@@ -0,0 +1,48 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 좋아요/댓글 카운터 보정 서비스
+ * 토글/댓글 작성 시 원자적으로 증감되는 카운터가 실제 post_likes, post_comments 개수와
+ * 어긋난 경우(직접 DB 수정, 장애 등)를 주기적으로 바로잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private final CommunityPostRepository postRepository;
+
+    // 한 트랜잭션에서 보정할 게시글 ID 범위 크기 (긴 잠금 방지)
+    @Value("${community.counter.reconcile-batch-size:1000}")
+    private long batchSize;
+
+    /**
+     * 전체 게시글 카운터 보정 (ID 범위 단위 배치)
+     *
+     * @return 값이 변경된 게시글 수
+     */
+    @Scheduled(cron = "${community.counter.reconcile-cron:0 30 4 * * *}")
+    public int reconcileCounters() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            repaired += postRepository.reconcileCounters(fromId, fromId + batchSize - 1);
+        }
+
+        if (repaired > 0) {
+            log.warn("게시글 카운터 보정: {}개 게시글의 좋아요/댓글 수가 수정되었습니다.", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,560 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.event.PostChangedEvent;
+import com.mychefai.healthytable.repository.CommunityPostRepository;
+import com.mychefai.healthytable.util.CursorPage;
+import com.mychefai.healthytable.util.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 커뮤니티 게시글 전문 검색용 메모리 역색인
+ * 제목/내용/태그/재료를 bigram + 글자(unigram)로 색인하고, 게시글 작성/수정/삭제가 커밋되면 증분 갱신합니다.
+ * 검색어의 모든 용어를 포함하는 게시글을 TF-IDF(필드 가중치 적용) 점수 순으로 반환합니다.
+ * posting은 내부 문서 번호(int) 오름차순 배열로 보관하고(게시글당 객체 없음), 수정/삭제된 문서는 삭제 표시 후
+ * 주기적인 재구축 때 정리합니다. 재구축은 다중 인스턴스 간 차이도 함께 보정합니다.
+ * 색인 구축이 끝나기 전에는 DB LIKE 검색으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int INGREDIENT_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final CommunityPostRepository postRepository;
+    // 시작 시 구축을 @Scheduled 작업과 같은 스케줄러에서 실행 (실패는 스케줄러 오류 처리기가 기록)
+    private final TaskScheduler taskScheduler;
+
+    @Value("${community.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${community.search.index.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private volatile boolean ready = false;
+
+    // 시작 시 구축과 주기적 재구축이 동시에 실행되지 않도록 보장
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재구축 중 들어온 변경 (재구축 완료 후 새 색인에 다시 반영)
+    private List<Runnable> changesDuringBuild;
+
+    /**
+     * 색인 검색 가능 여부 (색인 준비 완료 + 검색어에 용어 존재)
+     */
+    public boolean canSearch(String keyword) {
+        return enabled && ready && !NgramTokenizer.queryTerms(keyword).isEmpty();
+    }
+
+    /**
+     * 관련도 순 검색
+     *
+     * @return 게시글 ID (점수 내림차순, 동점이면 최신순)
+     */
+    public List<Long> searchByRelevance(String keyword, int page, int size) {
+        int limit = Math.max(1, Math.min(size, CursorPage.MAX_SIZE));
+        int offset = Math.max(page, 0) * limit;
+
+        lock.readLock().lock();
+        try {
+            Matches matches = match(keyword);
+            Comparator<Integer> bestFirst = (a, b) -> {
+                int byScore = Double.compare(matches.scores[b], matches.scores[a]);
+                return byScore != 0 ? byScore : index.compareLatestFirst(matches.docs[a], matches.docs[b]);
+            };
+            List<Integer> top = top(matches.count, offset + limit, bestFirst, i -> true);
+            return top.subList(Math.min(offset, top.size()), top.size()).stream()
+                    .map(i -> index.postIds[matches.docs[i]])
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최신순 검색 (커서 페이지네이션)
+     *
+     * @return 게시글 ID ((createdAt, id) 내림차순)
+     */
+    public List<Long> searchByLatest(String keyword, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int limit = Math.max(1, Math.min(size, CursorPage.MAX_SIZE));
+        boolean hasCursor = CursorPage.hasCursor(cursorCreatedAt, cursorId);
+        long cursorTime = hasCursor ? epochNanos(cursorCreatedAt) : 0L;
+
+        lock.readLock().lock();
+        try {
+            Matches matches = match(keyword);
+            IntPredicate beforeCursor = i -> {
+                if (!hasCursor) {
+                    return true;
+                }
+                int doc = matches.docs[i];
+                long createdAt = index.createdAts[doc];
+                return createdAt < cursorTime || (createdAt == cursorTime && index.postIds[doc] < cursorId);
+            };
+            return top(matches.count, limit, (a, b) -> index.compareLatestFirst(matches.docs[a], matches.docs[b]),
+                    beforeCursor).stream()
+                    .map(i -> index.postIds[matches.docs[i]])
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 반영 (커밋 후, 롤백된 변경은 색인에 들어가지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.post().getId());
+        } else {
+            index(event.post());
+        }
+    }
+
+    /**
+     * 게시글 색인 추가/갱신
+     */
+    public void index(CommunityPost post) {
+        if (!enabled) {
+            return;
+        }
+        Doc doc = toDoc(post);
+        long postId = post.getId();
+        lock.writeLock().lock();
+        try {
+            index.put(postId, doc);
+            if (changesDuringBuild != null) {
+                changesDuringBuild.add(() -> index.put(postId, doc));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(postId);
+            if (changesDuringBuild != null) {
+                changesDuringBuild.add(() -> index.remove(postId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 시작 시 색인 구축 (JDBC 전체 조회이므로 공용 ForkJoinPool이 아닌 스케줄러 스레드에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            taskScheduler.schedule(this::rebuild, Instant.now());
+        }
+    }
+
+    /**
+     * 주기적 재구축 (삭제 표시된 문서 정리, 다른 인스턴스에서 일어난 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${community.search.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${community.search.index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 게시글을 ID 순 배치로 읽어 새 색인 구축 후 교체 (이미 구축 중이면 건너뜀)
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 색인 통계 (docs, deletedDocs, terms, postings)
+     */
+    public Map<String, Long> getStats() {
+        lock.readLock().lock();
+        try {
+            return index.stats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        lock.writeLock().lock();
+        try {
+            changesDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index built = new Index();
+        try {
+            long lastId = 0L;
+            List<CommunityPost> batch;
+            do {
+                batch = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, CursorPage.limit(loadBatchSize));
+                for (CommunityPost post : batch) {
+                    built.put(post.getId(), toDoc(post));
+                    lastId = post.getId();
+                }
+            } while (!batch.isEmpty());
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 구축 실패, 기존 색인(없으면 DB 검색)을 계속 사용합니다.", e);
+            lock.writeLock().lock();
+            try {
+                changesDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = built;
+            changesDuringBuild.forEach(Runnable::run);
+            changesDuringBuild = null;
+            index.trim();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 구축 완료: {}", built.stats());
+    }
+
+    /**
+     * 검색어의 모든 용어를 포함하는 (삭제되지 않은) 문서와 점수 (읽기 잠금 안에서 호출)
+     */
+    private Matches match(String keyword) {
+        Set<String> terms = NgramTokenizer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return Matches.EMPTY;
+        }
+        Postings[] lists = new Postings[terms.size()];
+        int n = 0;
+        for (String term : terms) {
+            Postings postings = index.postings.get(term);
+            if (postings == null) {
+                return Matches.EMPTY;
+            }
+            lists[n++] = postings;
+        }
+
+        // 가장 짧은 posting list를 기준으로 나머지는 오름차순 탐색(galloping)으로 교집합
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int totalDocs = Math.max(index.liveDocs, 1);
+        double[] idfs = new double[lists.length];
+        for (int k = 0; k < lists.length; k++) {
+            idfs[k] = Math.log(1.0 + (double) totalDocs / lists[k].size);
+        }
+        int[] positions = new int[lists.length];
+
+        Postings first = lists[0];
+        int[] docs = new int[Math.min(first.size, 1024)];
+        double[] scores = new double[docs.length];
+        int count = 0;
+        candidates:
+        for (int i = 0; i < first.size; i++) {
+            int doc = first.docs[i];
+            if (index.deleted.get(doc)) {
+                continue;
+            }
+            double score = (1 + Math.log(first.tf(i))) * idfs[0];
+            for (int k = 1; k < lists.length; k++) {
+                int position = lists[k].seek(doc, positions[k]);
+                positions[k] = position;
+                if (position >= lists[k].size) {
+                    break candidates;
+                }
+                if (lists[k].docs[position] != doc) {
+                    continue candidates;
+                }
+                score += (1 + Math.log(lists[k].tf(position))) * idfs[k];
+            }
+            if (count == docs.length) {
+                docs = Arrays.copyOf(docs, count * 2);
+                scores = Arrays.copyOf(scores, count * 2);
+            }
+            docs[count] = doc;
+            scores[count] = score;
+            count++;
+        }
+        return new Matches(count, docs, scores);
+    }
+
+    /**
+     * 조건을 만족하는 매칭 중 order 기준 상위 k개 (크기 k 힙, 결과는 order 순)
+     */
+    private static List<Integer> top(int count, int k, Comparator<Integer> order, IntPredicate filter) {
+        PriorityQueue<Integer> worstFirst = new PriorityQueue<>(Math.min(k, Math.max(count, 1)) + 1,
+                order.reversed());
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(i)) {
+                continue;
+            }
+            if (worstFirst.size() < k) {
+                worstFirst.add(i);
+            } else if (order.compare(i, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(i);
+            }
+        }
+        List<Integer> result = new ArrayList<>(worstFirst);
+        result.sort(order);
+        return result;
+    }
+
+    private Doc toDoc(CommunityPost post) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        addTerms(termFreqs, post.getTitle(), TITLE_WEIGHT);
+        addTerms(termFreqs, post.getContent(), CONTENT_WEIGHT);
+        if (post.getTags() != null) {
+            post.getTags().forEach(tag -> addTerms(termFreqs, tag, TAG_WEIGHT));
+        }
+        if (post.getIngredients() != null) {
+            post.getIngredients().forEach(ingredient -> addTerms(termFreqs, ingredient, INGREDIENT_WEIGHT));
+        }
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        return new Doc(epochNanos(createdAt), termFreqs);
+    }
+
+    private void addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+        for (String term : NgramTokenizer.indexTerms(text)) {
+            termFreqs.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private static long epochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    /**
+     * 색인할 문서 (가중치 적용 용어 빈도, 색인에 넣은 뒤에는 보관하지 않음)
+     */
+    private record Doc(long createdAt, Map<String, Integer> termFreqs) {
+    }
+
+    /**
+     * 검색 매칭 결과 (docs[0..count)와 점수)
+     */
+    private record Matches(int count, int[] docs, double[] scores) {
+        private static final Matches EMPTY = new Matches(0, new int[0], new double[0]);
+    }
+
+    /**
+     * 한 용어의 posting list (내부 문서 번호 오름차순, 가중치 적용 빈도는 최대 255)
+     * 문서 번호는 추가될 때마다 증가하므로 항상 끝에 덧붙이기만 합니다.
+     */
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private byte[] tfs = new byte[2];
+        private int size;
+
+        private void add(int doc, int tf) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                tfs = Arrays.copyOf(tfs, capacity);
+            }
+            docs[size] = doc;
+            tfs[size] = (byte) Math.min(tf, 255);
+            size++;
+        }
+
+        private int tf(int position) {
+            return tfs[position] & 0xFF;
+        }
+
+        /**
+         * from 이후에서 doc 이상인 첫 위치 (없으면 size)
+         */
+        private int seek(int doc, int from) {
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < doc) {
+                bound <<= 1;
+            }
+            int position = Arrays.binarySearch(docs, from + (bound >> 1), Math.min(from + bound + 1, size), doc);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private void trim() {
+            docs = Arrays.copyOf(docs, size);
+            tfs = Arrays.copyOf(tfs, size);
+        }
+    }
+
+    /**
+     * 역색인 (용어 -> posting list, 내부 문서 번호 -> 게시글 ID/작성 시각)
+     * 수정/삭제 시 기존 문서 번호는 삭제 표시만 하고 재구축 때 제거됩니다.
+     */
+    private static final class Index {
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final DocIdMap docByPostId = new DocIdMap();
+        private final BitSet deleted = new BitSet();
+        private long[] postIds = new long[1024];
+        private long[] createdAts = new long[1024];
+        private int docCount;
+        private int liveDocs;
+
+        private void put(long postId, Doc doc) {
+            remove(postId);
+            int docId = docCount++;
+            if (docId == postIds.length) {
+                postIds = Arrays.copyOf(postIds, docId * 2);
+                createdAts = Arrays.copyOf(createdAts, docId * 2);
+            }
+            postIds[docId] = postId;
+            createdAts[docId] = doc.createdAt();
+            docByPostId.put(postId, docId);
+            doc.termFreqs().forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(docId, tf));
+            liveDocs++;
+        }
+
+        private void remove(long postId) {
+            int docId = docByPostId.remove(postId);
+            if (docId >= 0) {
+                deleted.set(docId);
+                liveDocs--;
+            }
+        }
+
+        // 작성 시각 내림차순, 같으면 게시글 ID 내림차순
+        private int compareLatestFirst(int a, int b) {
+            int byTime = Long.compare(createdAts[b], createdAts[a]);
+            return byTime != 0 ? byTime : Long.compare(postIds[b], postIds[a]);
+        }
+
+        private void trim() {
+            postings.values().forEach(Postings::trim);
+            postIds = Arrays.copyOf(postIds, Math.max(docCount, 1));
+            createdAts = Arrays.copyOf(createdAts, Math.max(docCount, 1));
+        }
+
+        private Map<String, Long> stats() {
+            long entries = 0;
+            for (Postings list : postings.values()) {
+                entries += list.size;
+            }
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("docs", (long) liveDocs);
+            stats.put("deletedDocs", (long) (docCount - liveDocs));
+            stats.put("terms", (long) postings.size());
+            stats.put("postings", entries);
+            return stats;
+        }
+    }
+
+    /**
+     * 게시글 ID -> 내부 문서 번호 (선형 탐사 해시, 박싱 없이 보관, 게시글 ID 0은 빈 칸 표시로 사용)
+     */
+    private static final class DocIdMap {
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        private void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int slot = slot(key, keys.length);
+            while (keys[slot] != 0L && keys[slot] != key) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            if (keys[slot] == 0L) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        /**
+         * 제거 후 값 반환 (없으면 -1, 뒤따르는 항목을 당겨 탐사 순서 유지)
+         */
+        private int remove(long key) {
+            int mask = keys.length - 1;
+            int slot = slot(key, keys.length);
+            while (keys[slot] != key) {
+                if (keys[slot] == 0L) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int value = values[slot];
+            int hole = slot;
+            int next = hole;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == 0L) {
+                    break;
+                }
+                int home = slot(keys[next], keys.length);
+                boolean homeBetween = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+                if (!homeBetween) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = 0L;
+            size--;
+            return value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0L) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int capacity) {
+            return Long.hashCode(key * 0x9E3779B97F4A7C15L) & (capacity - 1);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.Recipe;
+import com.mychefai.healthytable.event.RecipesChangedEvent;
+import com.mychefai.healthytable.repository.RecipeRepository;
+import com.mychefai.healthytable.util.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 레시피 재료 색인 (추천 점수 계산용)
+ * 정규화된 재료 이름을 용어로 모으고(용어 -> 레시피 순번 posting), 용어의 토큰(1글자/2글자) 색인으로
+ * 냉장고 재료와 부분 문자열 관계일 수 있는 용어만 골라 용어당 한 번만 비교합니다.
+ * 매칭된 용어의 posting을 따라 레시피 점수를 합산하므로 비교 횟수는 레시피 수가 아니라 재료 종류 수에 비례합니다.
+ * 알러지 재료를 포함하는 용어를 가진 레시피는 제외합니다.
+ * 레시피 변경 이벤트는 표시만 해 두고 change-debounce-ms 주기로 한 번에 재구축합니다 (이벤트 발행 스레드에서 전체 조회하지 않음).
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientIndexService {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 재료 1개 매칭당 점수
+    private static final double MATCH_SCORE = 10;
+
+    private final RecipeRepository recipeRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile IngredientIndex index;
+    // 마지막 재구축 이후 레시피 변경 여부
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    /**
+     * 레시피별 재료 매칭 점수 계산 (알러지 유발 레시피 제외, 점수 0 초과 상위 limit개만 반환)
+     *
+     * @param userIngredients 냉장고 재료 이름
+     * @param allergies       알러지 재료
+     * @param limit           최대 반환 개수
+     * @return 레시피 -> 점수 (점수 내림차순)
+     */
+    public Map<Recipe, Double> score(List<String> userIngredients, List<String> allergies, int limit) {
+        IngredientIndex current = getIndex();
+
+        // 1. 냉장고 재료별로 부분 문자열 관계인 재료 용어 찾기 (후보 용어만 용어당 한 번 비교)
+        List<String> normalizedUser = userIngredients.stream()
+                .map(NgramTokenizer::normalize)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        int[] termMatches = new int[current.terms.length];
+        BitSet matchedTerms = new BitSet(current.terms.length);
+        for (String userIng : normalizedUser) {
+            BitSet candidates = current.candidateTerms(userIng);
+            for (int t = candidates.nextSetBit(0); t >= 0; t = candidates.nextSetBit(t + 1)) {
+                if (matches(current.terms[t], userIng)) {
+                    termMatches[t]++;
+                    matchedTerms.set(t);
+                }
+            }
+        }
+
+        // 2. 알러지 재료를 포함하는 용어
+        BitSet allergenTerms = new BitSet(current.terms.length);
+        for (String allergy : allergies) {
+            String normalized = NgramTokenizer.normalize(allergy);
+            if (!normalized.isEmpty()) {
+                allergenTerms.or(current.termsContaining(normalized));
+            }
+        }
+
+        // 3. 매칭된 용어의 posting을 따라 레시피별 매칭 수 합산
+        int[] recipeMatches = new int[current.recipes.length];
+        BitSet touched = new BitSet(current.recipes.length);
+        for (int t = matchedTerms.nextSetBit(0); t >= 0; t = matchedTerms.nextSetBit(t + 1)) {
+            for (int recipe : current.termRecipes[t]) {
+                recipeMatches[recipe] += termMatches[t];
+                touched.set(recipe);
+            }
+        }
+
+        // 4. 알러지 레시피를 빼고 크기 limit의 최소 힙으로 상위 K개 유지
+        PriorityQueue<ScoredRecipe> topK = new PriorityQueue<>(
+                Comparator.comparingDouble(ScoredRecipe::score).thenComparing(ScoredRecipe::ordinal,
+                        Comparator.reverseOrder()));
+        for (int i = touched.nextSetBit(0); i >= 0; i = touched.nextSetBit(i + 1)) {
+            if (!allergenTerms.isEmpty() && current.hasAnyTerm(i, allergenTerms)) {
+                continue;
+            }
+            topK.offer(new ScoredRecipe(i, recipeMatches[i] * MATCH_SCORE));
+            if (topK.size() > limit) {
+                topK.poll();
+            }
+        }
+
+        List<ScoredRecipe> ranked = new ArrayList<>(topK);
+        ranked.sort(topK.comparator().reversed());
+        Map<Recipe, Double> scores = new LinkedHashMap<>();
+        for (ScoredRecipe scored : ranked) {
+            scores.put(current.recipes[scored.ordinal()], scored.score());
+        }
+        return scores;
+    }
+
+    /**
+     * 레시피 재료 중 냉장고 재료와 매칭되는 냉장고 재료 이름 (점수 계산과 같은 정규화/비교 기준, 추천 이유용)
+     *
+     * @param recipe          레시피
+     * @param userIngredients 냉장고 재료 이름
+     * @return 매칭된 냉장고 재료 이름 (레시피 재료 순서, 레시피 재료마다 첫 매칭 하나)
+     */
+    public List<String> matchedIngredients(Recipe recipe, List<String> userIngredients) {
+        List<String> matched = new ArrayList<>();
+        if (recipe.getIngredients() == null) {
+            return matched;
+        }
+        List<String> normalizedUser = userIngredients.stream()
+                .map(NgramTokenizer::normalize)
+                .toList();
+        for (String recipeIng : recipe.getIngredients()) {
+            String normalized = NgramTokenizer.normalize(recipeIng);
+            for (int i = 0; i < normalizedUser.size(); i++) {
+                if (!normalizedUser.get(i).isEmpty() && matches(normalized, normalizedUser.get(i))) {
+                    matched.add(userIngredients.get(i));
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 전체 레시피로 색인 재구축
+     */
+    @Scheduled(fixedDelayString = "${recommendation.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${recommendation.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        changed.set(false);
+        index = new IngredientIndex(recipeRepository.findAll());
+    }
+
+    /**
+     * 레시피 변경 표시 (재구축은 {@link #rebuildIfChanged}에서)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipesChanged(RecipesChangedEvent event) {
+        changed.set(true);
+    }
+
+    /**
+     * 마지막 재구축 이후 레시피가 바뀌었으면 재구축 (연속된 변경은 한 번으로 합침)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.index.change-debounce-ms:2000}")
+    public void rebuildIfChanged() {
+        if (changed.get() && index != null) {
+            rebuild();
+        }
+    }
+
+    private IngredientIndex getIndex() {
+        IngredientIndex current = index;
+        if (current == null) {
+            // synchronized 대신 ReentrantLock (가상 스레드가 DB 조회 중 캐리어 스레드를 점유하지 않도록)
+            loadLock.lock();
+            try {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 정규화된 레시피 재료와 냉장고 재료가 서로 포함 관계인지
+     */
+    private static boolean matches(String recipeIng, String userIng) {
+        return recipeIng.contains(userIng) || userIng.contains(recipeIng);
+    }
+
+    private record ScoredRecipe(int ordinal, double score) {
+    }
+
+    /**
+     * 불변 색인 스냅샷 (재구축 시 통째로 교체)
+     */
+    private static class IngredientIndex {
+        private final Recipe[] recipes;
+        // 용어 번호 -> 정규화된 재료 이름 (서로 다른 재료 이름마다 하나)
+        private final String[] terms;
+        // 용어 번호 -> 그 재료를 가진 레시피 순번 (한 레시피에 같은 재료가 여러 번 있으면 그 횟수만큼)
+        private final int[][] termRecipes;
+        // 레시피 순번 -> 용어 번호 (알러지 확인용)
+        private final int[][] recipeTerms;
+        // 재료 토큰(글자, bigram) -> 해당 토큰을 포함하는 용어 번호
+        private final Map<String, BitSet> tokenTerms = new HashMap<>();
+        // 정규화된 재료 이름 -> 용어 번호 (냉장고 재료가 재료 이름 전체를 포함하는 경우)
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final BitSet allTerms;
+
+        private IngredientIndex(List<Recipe> allRecipes) {
+            List<Recipe> withIngredients = allRecipes.stream()
+                    .filter(recipe -> recipe.getIngredients() != null && !recipe.getIngredients().isEmpty())
+                    .toList();
+            recipes = withIngredients.toArray(new Recipe[0]);
+            recipeTerms = new int[recipes.length][];
+
+            List<String> termList = new ArrayList<>();
+            List<int[]> postings = new ArrayList<>();
+            int[] postingSizes = new int[16];
+            for (int i = 0; i < recipes.length; i++) {
+                List<String> ingredients = recipes[i].getIngredients();
+                recipeTerms[i] = new int[ingredients.size()];
+                for (int k = 0; k < ingredients.size(); k++) {
+                    String ingredient = NgramTokenizer.normalize(ingredients.get(k));
+                    Integer id = termIds.get(ingredient);
+                    if (id == null) {
+                        id = termList.size();
+                        termIds.put(ingredient, id);
+                        termList.add(ingredient);
+                        postings.add(new int[2]);
+                        if (id == postingSizes.length) {
+                            postingSizes = Arrays.copyOf(postingSizes, id * 2);
+                        }
+                        indexTokens(ingredient, id);
+                    }
+                    recipeTerms[i][k] = id;
+                    int[] recipesOfTerm = postings.get(id);
+                    int size = postingSizes[id];
+                    if (size == recipesOfTerm.length) {
+                        recipesOfTerm = Arrays.copyOf(recipesOfTerm, size + (size >> 1) + 1);
+                        postings.set(id, recipesOfTerm);
+                    }
+                    recipesOfTerm[size] = i;
+                    postingSizes[id] = size + 1;
+                }
+            }
+
+            terms = termList.toArray(new String[0]);
+            termRecipes = new int[terms.length][];
+            for (int t = 0; t < terms.length; t++) {
+                termRecipes[t] = Arrays.copyOf(postings.get(t), postingSizes[t]);
+            }
+            allTerms = new BitSet(terms.length);
+            allTerms.set(0, terms.length);
+        }
+
+        private void indexTokens(String term, int id) {
+            for (String word : WORD_SEPARATOR.split(term)) {
+                for (int c = 0; c < word.length(); c++) {
+                    tokenTerms.computeIfAbsent(word.substring(c, c + 1), k -> new BitSet()).set(id);
+                    if (c + 2 <= word.length()) {
+                        tokenTerms.computeIfAbsent(word.substring(c, c + 2), k -> new BitSet()).set(id);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 냉장고 재료 이름과 부분 문자열 관계에 있을 수 있는 용어 후보
+         * (용어가 이름을 포함 + 이름이 용어 전체를 포함)
+         */
+        private BitSet candidateTerms(String name) {
+            BitSet result = containingTokens(name);
+            for (int start = 0; start < name.length(); start++) {
+                for (int end = start + 1; end <= name.length(); end++) {
+                    Integer id = termIds.get(name.substring(start, end));
+                    if (id != null) {
+                        result.set(id);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 알러지 재료를 실제로 포함하는 용어
+         */
+        private BitSet termsContaining(String allergy) {
+            BitSet possible = containingTokens(allergy);
+            BitSet result = new BitSet(terms.length);
+            for (int t = possible.nextSetBit(0); t >= 0; t = possible.nextSetBit(t + 1)) {
+                if (terms[t].contains(allergy)) {
+                    result.set(t);
+                }
+            }
+            return result;
+        }
+
+        private boolean hasAnyTerm(int recipe, BitSet termSet) {
+            for (int term : recipeTerms[recipe]) {
+                if (termSet.get(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 텍스트를 포함할 수 있는 용어 후보 (모든 토큰을 가진 용어, 토큰이 없으면 전체)
+         */
+        private BitSet containingTokens(String text) {
+            BitSet result = (BitSet) allTerms.clone();
+            for (String token : NgramTokenizer.queryTerms(text)) {
+                BitSet postings = tokenTerms.get(token);
+                if (postings == null) {
+                    return new BitSet();
+                }
+                result.and(postings);
+            }
+            return result;
+        }
+    }
+}
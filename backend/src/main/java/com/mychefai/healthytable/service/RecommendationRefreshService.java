@@ -0,0 +1,111 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.event.FridgeChangedEvent;
+import com.mychefai.healthytable.event.HealthProfileChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 추천 결과 비동기 갱신 서비스
+ * 냉장고/건강 정보 변경 이벤트를 사용자별로 모아(coalesce) 일정 시간 추가 변경이 없을 때(debounce)
+ * 제한된 크기의 작업 스레드 풀에서 추천을 다시 계산합니다. 요청 스레드에서는 큐에 넣기만 합니다.
+ */
+@Slf4j
+@Service
+public class RecommendationRefreshService {
+
+    private final RecommendationService recommendationService;
+    private final long debounceNanos;
+
+    // 사용자 ID -> 갱신 예정 시각 (같은 사용자의 이벤트는 하나로 합쳐짐)
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    // 현재 갱신 중인 사용자 (같은 사용자를 동시에 갱신하지 않음)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor workers;
+
+    public RecommendationRefreshService(RecommendationService recommendationService,
+            @Value("${recommendation.refresh.debounce-ms:2000}") long debounceMs,
+            @Value("${recommendation.refresh.workers:2}") int workerCount,
+            @Value("${recommendation.refresh.queue-capacity:1000}") int queueCapacity) {
+        this.recommendationService = recommendationService;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "recommendation-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFridgeChanged(FridgeChangedEvent event) {
+        if (event.ingredientsChanged()) {
+            requestRefresh(event.userId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHealthProfileChanged(HealthProfileChangedEvent event) {
+        requestRefresh(event.userId());
+    }
+
+    /**
+     * 사용자 추천 갱신 예약 (마지막 요청 후 debounce 시간이 지나면 실행)
+     */
+    public void requestRefresh(Long userId) {
+        if (userId != null) {
+            pending.put(userId, System.nanoTime() + debounceNanos);
+        }
+    }
+
+    /**
+     * 예정 시각이 지난 사용자를 작업 스레드 풀에 전달
+     */
+    @Scheduled(fixedDelayString = "${recommendation.refresh.poll-interval-ms:200}")
+    public void dispatchDue() {
+        long now = System.nanoTime();
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            Long userId = entry.getKey();
+            Long dueAt = entry.getValue();
+            if (now - dueAt < 0 || inFlight.contains(userId)) {
+                continue;
+            }
+            // 그 사이 새 이벤트로 예정 시각이 바뀌었으면 다음 주기에 처리
+            if (!pending.remove(userId, dueAt)) {
+                continue;
+            }
+            inFlight.add(userId);
+            try {
+                workers.execute(() -> refresh(userId));
+            } catch (RejectedExecutionException e) {
+                // 작업 큐가 가득 차면 다음 주기에 재시도
+                inFlight.remove(userId);
+                pending.putIfAbsent(userId, dueAt);
+                return;
+            }
+        }
+    }
+
+    private void refresh(Long userId) {
+        try {
+            recommendationService.refreshRecommendations(userId);
+        } catch (Exception e) {
+            log.error("추천 갱신 실패 (userId={})", userId, e);
+        } finally {
+            inFlight.remove(userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
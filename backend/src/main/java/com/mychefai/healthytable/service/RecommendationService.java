@@ -3,11 +3,14 @@ package com.mychefai.healthytable.service;
 import com.mychefai.healthytable.domain.*;
 import com.mychefai.healthytable.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mychefai.healthytable.dto.RecommendationDTO;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,18 +19,60 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecommendationService {
 
+    // 다중 행 INSERT 한 번에 넣을 최대 행 수
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final RecipeRepository recipeRepository;
     private final FridgeItemRepository fridgeItemRepository;
     private final HealthProfileRepository healthProfileRepository;
     private final RecommendationRepository recommendationRepository;
+    private final RecipeIngredientIndexService ingredientIndexService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사용자별로 저장할 최대 추천 개수
+    @Value("${recommendation.max-results:50}")
+    private int maxResults;
+
+    /**
+     * 사용자의 냉장고와 건강 정보를 기반으로 추천 생성 (점수 상위 maxResults개만 저장)
+     *
+     * @return 저장된 추천 수
+     */
+    @Transactional
+    public int generateRecommendations(Long userId) {
+        List<Object[]> rows = computeRecommendationRows(userId);
+        replaceRecommendations(userId, rows);
+        return rows.size();
+    }
 
     /**
-     * 사용자의 냉장고와 건강 정보를 기반으로 추천 생성
+     * 추천 재계산 후 기존 결과와 달라진 경우에만 저장 (냉장고/건강 정보 변경 이벤트용)
+     *
+     * @return 결과가 바뀌어 다시 저장했으면 true
      */
     @Transactional
-    public List<Recommendation> generateRecommendations(Long userId) {
+    public boolean refreshRecommendations(Long userId) {
+        List<Object[]> rows = computeRecommendationRows(userId);
+
+        // 레시피, 점수, 추천 이유가 모두 같을 때만 저장 생략 (재료 이름만 바뀌어도 이유 문구는 달라짐)
+        Map<Long, List<Object>> existing = recommendationRepository.findByUserIdOrderByScoreDesc(userId).stream()
+                .collect(Collectors.toMap(Recommendation::getRecipeId,
+                        reco -> Arrays.asList(reco.getScore(), reco.getReason()), (a, b) -> a));
+        Map<Long, List<Object>> computed = rows.stream()
+                .collect(Collectors.toMap(row -> (Long) row[1], row -> Arrays.asList(row[2], row[3]), (a, b) -> a));
+        if (existing.equals(computed)) {
+            return false;
+        }
+
+        replaceRecommendations(userId, rows);
+        return true;
+    }
+
+    /**
+     * 추천 행 계산 (userId, recipeId, score, reason)
+     */
+    private List<Object[]> computeRecommendationRows(Long userId) {
         // 1. 데이터 준비
-        List<Recipe> allRecipes = recipeRepository.findAll();
         List<FridgeItem> fridgeItems = fridgeItemRepository.findByUserId(userId);
         HealthProfile healthProfile = healthProfileRepository.findByUserId(userId).orElse(null);
 
@@ -39,69 +84,42 @@ public class RecommendationService {
                 ? healthProfile.getAllergies()
                 : new ArrayList<>();
 
-        // 기존 추천 삭제
-        recommendationRepository.deleteByUserId(userId);
-
-        List<Recommendation> recommendations = new ArrayList<>();
-
-        for (Recipe recipe : allRecipes) {
-            double score = calculateScore(recipe, fridgeItemNames, allergies);
+        // 2. 재료 색인으로 냉장고 재료를 공유하는 레시피만 점수 계산 (알러지 레시피 제외, 상위 K개)
+        Map<Recipe, Double> scores = ingredientIndexService.score(fridgeItemNames, allergies, maxResults);
 
-            if (score > 0) {
-                Recommendation recommendation = new Recommendation();
-                recommendation.setUserId(userId);
-                recommendation.setRecipeId(recipe.getId());
-                recommendation.setScore(score);
-                recommendation.setReason(generateReason(recipe, fridgeItemNames));
-                recommendations.add(recommendationRepository.save(recommendation));
-            }
+        List<Object[]> rows = new ArrayList<>(scores.size());
+        for (Map.Entry<Recipe, Double> entry : scores.entrySet()) {
+            Recipe recipe = entry.getKey();
+            rows.add(new Object[] { userId, recipe.getId(), entry.getValue(),
+                    generateReason(recipe, fridgeItemNames) });
         }
-
-        return recommendations;
+        return rows;
     }
 
-    private double calculateScore(Recipe recipe, List<String> userIngredients, List<String> allergies) {
-        double score = 0;
-        List<String> recipeIngredients = recipe.getIngredients();
-
-        if (recipeIngredients == null)
-            return 0;
-
-        // 알러지 필터링
-        for (String allergy : allergies) {
-            for (String ri : recipeIngredients) {
-                if (ri.contains(allergy)) {
-                    return -100; // 알러지 유발 음시는 배제
-                }
-            }
+    /**
+     * 기존 추천 삭제 (DELETE 한 번) 후 다중 행 INSERT로 일괄 저장
+     * (IDENTITY 전략은 Hibernate 배치 INSERT가 불가능)
+     */
+    private void replaceRecommendations(Long userId, List<Object[]> rows) {
+        recommendationRepository.bulkDeleteByUserId(userId);
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            insertRecommendations(rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
         }
+    }
 
-        // 재료 매칭 점수 (개당 10점)
-        for (String recipeIng : recipeIngredients) {
-            for (String userIng : userIngredients) {
-                if (recipeIng.contains(userIng) || userIng.contains(recipeIng)) {
-                    score += 10;
-                }
-            }
+    private void insertRecommendations(List<Object[]> rows) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO recommendations (user_id, recipe_id, score, reason, created_at) VALUES ");
+        List<Object> params = new ArrayList<>(rows.size() * 4);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, NOW())");
+            params.addAll(Arrays.asList(rows.get(i)));
         }
-
-        return score;
+        jdbcTemplate.update(sql.toString(), params.toArray());
     }
 
     private String generateReason(Recipe recipe, List<String> userIngredients) {
-        List<String> matched = new ArrayList<>();
-        List<String> recipeIngredients = recipe.getIngredients();
-
-        if (recipeIngredients != null) {
-            for (String recipeIng : recipeIngredients) {
-                for (String userIng : userIngredients) {
-                    if (recipeIng.contains(userIng) || userIng.contains(recipeIng)) {
-                        matched.add(userIng);
-                        break;
-                    }
-                }
-            }
-        }
+        List<String> matched = ingredientIndexService.matchedIngredients(recipe, userIngredients);
 
         if (matched.isEmpty()) {
             return "건강 정보를 고려한 추천입니다.";
@@ -110,6 +128,7 @@ public class RecommendationService {
         return "냉장고 속 " + String.join(", ", matched.stream().limit(2).collect(Collectors.toList())) + "을(를) 활용한 레시피예요!";
     }
 
+    @Transactional
     public List<RecommendationDTO> getRecommendations(Long userId) {
         List<Recommendation> results = recommendationRepository.findByUserIdOrderByScoreDesc(userId);
         if (results.isEmpty()) {
@@ -0,0 +1,121 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.event.UserChangedEvent;
+import com.mychefai.healthytable.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 조회 캐시 (크기/TTL 제한 LRU)
+ * 게시글/댓글 작성자 이름처럼 자주 읽고 거의 바뀌지 않는 사용자 정보를 요청마다 조회하지 않도록 보관합니다.
+ * 캐시에는 영속성 컨텍스트와 분리된 복사본을 저장하며, UserChangedEvent 발생 시 해당 사용자를 제거합니다.
+ */
+@Service
+public class UserCacheService implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // 접근 순서 LinkedHashMap (가장 오래 사용되지 않은 항목부터 제거)
+    private final LinkedHashMap<Long, CachedUser> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public UserCacheService(UserRepository userRepository,
+            @Value("${user.cache.max-entries:10000}") int maxEntries,
+            @Value("${user.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 사용자 일괄 조회 (캐시에 없는 사용자만 한 번의 쿼리로 조회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID -> 사용자 (존재하지 않는 ID는 제외)
+     */
+    public Map<Long, User> getUsers(Collection<Long> userIds) {
+        Map<Long, User> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            for (Long userId : new HashSet<>(userIds)) {
+                if (userId == null) {
+                    continue;
+                }
+                CachedUser cached = entries.get(userId);
+                if (cached != null && cached.expiresAt() >= now) {
+                    result.put(userId, cached.user());
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+        hits.addAndGet(result.size());
+        misses.addAndGet(missing.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<User> loaded = userRepository.findByIdIn(missing);
+        synchronized (entries) {
+            for (User user : loaded) {
+                User copy = copyOf(user);
+                entries.put(user.getId(), new CachedUser(copy, now + ttlMillis));
+                result.put(user.getId(), copy);
+            }
+            Iterator<CachedUser> it = entries.values().iterator();
+            while (entries.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 캐시 제거 (사용자 정보 변경 시 호출)
+     */
+    public void evict(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tags("cache", "users", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tags("cache", "users", "result", "miss").register(registry);
+        Gauge.builder("cache.size", entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).tags("cache", "users").register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private User copyOf(User user) {
+        return new User(user.getId(), user.getEmail(), user.getPassword(), user.getName(), user.getCreatedAt());
+    }
+
+    private record CachedUser(User user, long expiresAt) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.mychefai.healthytable.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+/**
+ * (created_at, id) 커서 기반 페이지네이션 공통 유틸리티
+ */
+public class CursorPage {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청된 페이지 크기를 1 ~ MAX_SIZE 범위로 제한한 Pageable 반환
+     * (커서 조건으로 위치를 정하므로 항상 0번 페이지만 사용)
+     *
+     * @param size 요청 페이지 크기
+     * @return LIMIT 용 Pageable
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * 커서가 지정되었는지 여부 (두 값 모두 있어야 유효)
+     *
+     * @param createdAt 마지막으로 받은 항목의 작성 시간
+     * @param id        마지막으로 받은 항목의 ID
+     * @return 커서 사용 여부
+     */
+    public static boolean hasCursor(LocalDateTime createdAt, Long id) {
+        return createdAt != null && id != null;
+    }
+}
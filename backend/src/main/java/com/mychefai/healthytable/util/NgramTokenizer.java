@@ -0,0 +1,71 @@
+package com.mychefai.healthytable.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 검색용 bigram(2-gram) 토크나이저
+ * 형태소 분석 없이도 "김치찌개" 검색 시 "돼지김치찌개"가 매칭되도록 단어를 2글자 단위로 분해합니다.
+ * 1글자 검색어("김 치즈"의 "김")도 찾을 수 있도록 색인에는 글자 단위(unigram) 용어를 함께 넣습니다.
+ */
+public class NgramTokenizer {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * 텍스트 정규화 (NFKC, 소문자)
+     *
+     * @param text 원본 텍스트
+     * @return 정규화된 텍스트 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 용어 목록 (bigram + 단어의 각 글자, 중복 포함)
+     *
+     * @param text 원본 텍스트
+     * @return 색인 용어 목록
+     */
+    public static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(normalize(text))) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 용어 집합 (2글자 이상 단어는 bigram, 1글자 단어는 그 글자)
+     *
+     * @param text 검색어
+     * @return 용어 집합 (입력 순서 유지, 모두 포함하는 게시글만 매칭)
+     */
+    public static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(normalize(text))) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+}
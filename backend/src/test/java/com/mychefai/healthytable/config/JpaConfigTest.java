@@ -0,0 +1,24 @@
+package com.mychefai.healthytable.config;
+
+import com.mychefai.healthytable.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open Session In View가 꺼져 있어야 합니다 (비동기 요청이 응답 대기 중 DB 연결을 붙잡지 않도록).
+ */
+@IntegrationTest
+class JpaConfigTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void openSessionInViewIsDisabled() {
+        assertThat(context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mychefai.healthytable.config;
+
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.service.CommunityPostService;
+import com.mychefai.healthytable.service.GeminiService;
+import com.mychefai.healthytable.support.GeminiStubServer;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 지표 수집 통합 테스트
+ * 실제 요청/호출 후 요청 시간(handler 태그), 요청당 SQL 수, 캐시 적중, Gemini 호출 지표가 태그와 함께 기록되어야 합니다.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class MetricsConfigTest {
+
+    private static final GeminiStubServer STUB = GeminiStubServer.start();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private GeminiService geminiService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.model-url", STUB::modelUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void requestRecordsTimerQueriesAndCacheMeters() throws Exception {
+        User user = TestUsers.create(userRepository, "지표");
+        postService.createPost(new CreatePostRequestDTO(user.getId(), "지표 테스트", "내용",
+                List.of(), List.of(), List.of(), null));
+        double usersMissBefore = cacheGets("users", "miss");
+
+        mockMvc.perform(get("/api/community/posts")).andExpect(status().isOk());
+
+        Timer timer = registry.get("http.server.requests")
+                .tag("method", "GET")
+                .tag("uri", "/api/community/posts")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .tag("handler", "CommunityController.getAllPosts")
+                .timer();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+
+        DistributionSummary queries = registry.get("http.server.requests.queries")
+                .tag("handler", "CommunityController.getAllPosts")
+                .summary();
+        assertThat(queries.count()).isGreaterThanOrEqualTo(1);
+        assertThat(queries.totalAmount()).isGreaterThan(0);
+
+        assertThat(cacheGets("users", "miss")).isGreaterThan(usersMissBefore);
+        assertThat(registry.get("cache.size").tag("cache", "users").gauge().value()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void geminiCallRecordsLatencyTokensAndCacheMeters() {
+        STUB.replyText("두부조림은 약 250kcal예요.");
+        double missBefore = cacheGets("gemini-responses", "miss");
+        double hitBefore = cacheGets("gemini-responses", "hit");
+        String message = "두부조림 칼로리 " + UUID.randomUUID();
+
+        String first = geminiService.getChatResponse(message, List.of()).block(Duration.ofSeconds(10));
+        String second = geminiService.getChatResponse(message, List.of()).block(Duration.ofSeconds(10));
+
+        assertThat(first).isEqualTo("두부조림은 약 250kcal예요.");
+        assertThat(second).isEqualTo(first);
+        assertThat(registry.get("gemini.requests")
+                .tag("operation", "generate")
+                .tag("outcome", "success")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+        assertThat(registry.get("gemini.tokens")
+                .tag("operation", "generate")
+                .tag("type", "prompt")
+                .summary().totalAmount()).isGreaterThanOrEqualTo(10);
+        assertThat(registry.get("gemini.tokens")
+                .tag("operation", "generate")
+                .tag("type", "candidates")
+                .summary().count()).isGreaterThanOrEqualTo(1);
+        assertThat(cacheGets("gemini-responses", "miss")).isEqualTo(missBefore + 1);
+        assertThat(cacheGets("gemini-responses", "hit")).isEqualTo(hitBefore + 1);
+    }
+
+    @Test
+    void asyncHandlerRecordsQueriesOnce() throws Exception {
+        STUB.replyText("연어는 오메가3가 풍부해요.");
+        long before = queryCount("ChatController.chat");
+
+        MvcResult started = mockMvc.perform(post("/api/chat/message")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"message\":\"연어 영양 " + UUID.randomUUID() + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        // 비동기 시작 시 한 번만 기록 (ASYNC 재디스패치에서 0건으로 다시 기록하지 않음)
+        assertThat(queryCount("ChatController.chat")).isEqualTo(before + 1);
+    }
+
+    private long queryCount(String handler) {
+        DistributionSummary summary = registry.find("http.server.requests.queries").tag("handler", handler).summary();
+        return summary != null ? summary.count() : 0;
+    }
+
+    private double cacheGets(String cache, String result) {
+        return registry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,26 @@
+package com.mychefai.healthytable.config;
+
+import com.mychefai.healthytable.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄러 스레드가 2개여야 합니다 (검색 색인 구축 중에도 다른 @Scheduled 작업이 실행되도록).
+ */
+@IntegrationTest
+class SchedulingConfigTest {
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    void schedulerHasTwoThreads() {
+        assertThat(taskScheduler).isInstanceOf(ThreadPoolTaskScheduler.class);
+        assertThat(((ThreadPoolTaskScheduler) taskScheduler).getScheduledThreadPoolExecutor().getCorePoolSize())
+                .isEqualTo(2);
+    }
+}
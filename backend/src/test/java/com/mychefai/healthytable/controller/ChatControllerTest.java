@@ -0,0 +1,106 @@
+package com.mychefai.healthytable.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychefai.healthytable.service.ChatSessionStore;
+import com.mychefai.healthytable.support.GeminiStubServer;
+import com.mychefai.healthytable.support.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 채팅 실패 처리 테스트
+ * AI 호출이 실패하면 error 표시와 안내 문구로 응답하고, 실패한 턴은 대화에 저장하지 않아야 합니다.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class ChatControllerTest {
+
+    private static final GeminiStubServer STUB = GeminiStubServer.start();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ChatSessionStore chatSessionStore;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.model-url", STUB::modelUrl);
+    }
+
+    @AfterEach
+    void recover() {
+        STUB.failWith(0);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void failedReplyIsFlaggedAndNotSaved() throws Exception {
+        STUB.replyText("두부는 단백질이 풍부해요.");
+        JsonNode first = chat("{\"message\":\"두부 영양 " + UUID.randomUUID() + "\"}");
+        String sessionId = first.get("sessionId").asText();
+        assertThat(first.has("error")).isFalse();
+
+        STUB.failWith(500);
+        JsonNode failed = chat("{\"message\":\"두부 요리 " + UUID.randomUUID() + "\",\"sessionId\":\"" + sessionId
+                + "\"}");
+
+        assertThat(failed.get("error").asBoolean()).isTrue();
+        // API 키는 헤더로만 전달하고, 응답 문구에 요청 URI 등 예외 상세를 싣지 않음
+        assertThat(STUB.lastApiKey()).isEqualTo("test");
+        assertThat(STUB.lastQuery()).isNull();
+        assertThat(failed.get("reply").asText()).doesNotContain("127.0.0.1").doesNotContain("key=");
+        assertThat(failed.get("sessionId").asText()).isEqualTo(sessionId);
+        assertThat(chatSessionStore.open(sessionId, null, null).history()).hasSize(2);
+    }
+
+    @Test
+    void failedStreamSendsErrorEventAndIsNotSaved() throws Exception {
+        STUB.failWith(503);
+        MvcResult started = mockMvc.perform(post("/api/chat/message/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content("{\"message\":\"연어 요리 " + UUID.randomUUID() + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("event:error").doesNotContain("event:done").contains("\"error\":true");
+        JsonNode data = objectMapper.readTree(body.substring(body.indexOf("data:") + "data:".length()).trim());
+        assertThat(chatSessionStore.open(data.get("sessionId").asText(), null, null).history()).isEmpty();
+    }
+
+    private JsonNode chat(String json) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/chat/message")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mychefai.healthytable.controller;
+
+import com.mychefai.healthytable.domain.FridgeItem;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.repository.FridgeItemRepository;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.security.JwtTokenProvider;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 냉장고 재료 삭제 권한 테스트
+ * 다른 사용자의 재료는 삭제하지 않고, 본인 재료만 삭제해야 합니다.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class FridgeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private FridgeItemRepository fridgeItemRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void deleteOnlyRemovesOwnItems() throws Exception {
+        User owner = TestUsers.create(userRepository, "fridge");
+        User other = TestUsers.create(userRepository, "fridge");
+        FridgeItem item = new FridgeItem();
+        item.setUserId(owner.getId());
+        item.setName("두부");
+        item = fridgeItemRepository.save(item);
+
+        mockMvc.perform(delete("/api/fridge/" + item.getId())
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createToken(other.getId().toString())))
+                .andExpect(status().isOk());
+        assertThat(fridgeItemRepository.findById(item.getId())).isPresent();
+
+        mockMvc.perform(delete("/api/fridge/" + item.getId())
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createToken(owner.getId().toString())))
+                .andExpect(status().isOk());
+        assertThat(fridgeItemRepository.findById(item.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mychefai.healthytable.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 토큰 캐시 테스트
+ * 같은 토큰은 만료 전까지 캐시된 claims를 쓰고, 서명이 틀리거나 만료된 토큰은 캐시와 무관하게 거절되어야 합니다.
+ */
+class JwtTokenProviderTest {
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(10);
+        String token = provider.createToken("42");
+
+        Claims first = provider.parseClaims(token);
+
+        assertThat(first.getSubject()).isEqualTo("42");
+        assertThat(provider.parseClaims(token)).isSameAs(first);
+        assertThat(provider.parseClaims(token.substring(0, token.length() - 2))).isNull();
+    }
+
+    @Test
+    void fullCacheStillVerifiesTokens() {
+        JwtTokenProvider provider = new JwtTokenProvider(1);
+        String cached = provider.createToken("1");
+        String other = provider.createToken("2");
+        Claims cachedClaims = provider.parseClaims(cached);
+
+        // 가득 차면 새 토큰은 저장하지 않고 매번 검증
+        Claims otherClaims = provider.parseClaims(other);
+        assertThat(otherClaims.getSubject()).isEqualTo("2");
+        assertThat(provider.parseClaims(other)).isNotSameAs(otherClaims);
+        assertThat(provider.parseClaims(cached)).isSameAs(cachedClaims);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtTokenProvider provider = new JwtTokenProvider(10);
+        String expired = Jwts.builder()
+                .setSubject("42")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor("mychefaisecretkeymychefaisecretkeymychefaisecretkey".getBytes()),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(provider.parseClaims(expired)).isNull();
+        assertThat(provider.validateToken(expired)).isFalse();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.dto.ChatDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화 기록 압축 경계 테스트
+ * 요약 경계는 chunk 단위로 내림해야 하며, 최근 메시지 예산 안에 든 메시지를 요약으로 넘기면 안 됩니다.
+ */
+class ChatHistoryCompactorTest {
+
+    // window 예산은 넉넉히, 최근 메시지 12개, chunk 6개
+    private final ChatHistoryCompactor compactor = new ChatHistoryCompactor(true, 100000, 12, 6, 300, 4000, 100);
+
+    @Test
+    void boundaryIsRoundedDownToChunk() {
+        List<ChatDto.Message> history = history(20);
+
+        ChatHistoryCompactor.Compaction compaction = compactor.compact(history);
+
+        // 최근 12개(8~19) + 경계 내림으로 남는 6~7
+        assertThat(compaction.recent()).hasSize(14);
+        assertThat(compaction.recent().get(0).getContent()).isEqualTo("메시지 6");
+        assertThat(compaction.summary()).contains("메시지 5").doesNotContain("메시지 6");
+        assertThat(compaction.job()).isNotNull();
+    }
+
+    @Test
+    void boundaryFallsBackToCutBeforeFirstChunk() {
+        List<ChatDto.Message> history = history(16);
+
+        ChatHistoryCompactor.Compaction compaction = compactor.compact(history);
+
+        assertThat(compaction.recent()).hasSize(12);
+        assertThat(compaction.recent().get(0).getContent()).isEqualTo("메시지 4");
+        assertThat(compaction.summary()).contains("메시지 3");
+    }
+
+    @Test
+    void shortHistoryIsNotCompacted() {
+        ChatHistoryCompactor.Compaction compaction = compactor.compact(history(12));
+
+        assertThat(compaction.summary()).isNull();
+        assertThat(compaction.recent()).hasSize(12);
+        assertThat(compaction.job()).isNull();
+    }
+
+    private static List<ChatDto.Message> history(int size) {
+        List<ChatDto.Message> history = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            history.add(new ChatDto.Message(i % 2 == 0 ? "user" : "model", "메시지 " + i));
+        }
+        return history;
+    }
+}
@@ -0,0 +1,139 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.ChatDto;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화 세션 저장소 테스트
+ * 서명이 맞지 않는 세션 ID 거절, 메모리에서 밀려난 세션 복원, 순번 충돌 처리, 보관 기간 정리를 확인합니다.
+ */
+@IntegrationTest
+class ChatSessionStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void sessionIdOfAnotherUserOrTamperedIsRejected() {
+        ChatSessionStore store = store(10, 60);
+        ChatSessionStore.Session session = store.open(null, 1L, null);
+        store.append(session, "안녕", "안녕하세요");
+
+        ChatSessionStore.Session other = store.open(session.getId(), 2L, null);
+        ChatSessionStore.Session guest = store.open(session.getId(), null, null);
+        ChatSessionStore.Session tampered = store.open(session.getId().substring(0, 36) + ".AAAAAAAAAAAAAAAAAAAAAA", 1L,
+                null);
+
+        assertThat(other.getId()).isNotEqualTo(session.getId());
+        assertThat(other.history()).isEmpty();
+        assertThat(guest.history()).isEmpty();
+        assertThat(tampered.history()).isEmpty();
+        assertThat(store.getStats()).containsEntry("rejected", 3L);
+        assertThat(store.open(session.getId(), 1L, null)).isSameAs(session);
+    }
+
+    @Test
+    void evictedSessionIsRestoredWithUnflushedMessages() {
+        ChatSessionStore store = store(1, 60);
+        ChatSessionStore.Session session = store.open(null, null, null);
+        store.append(session, "김치찌개 레시피", "돼지고기와 김치를 볶고...");
+        store.flush();
+        store.append(session, "칼로리는?", "약 450kcal예요.");
+
+        // 세션 하나만 메모리에 두므로 새 세션을 열면 밀려남 (두 번째 턴은 아직 DB에 없음)
+        store.open(null, null, null);
+        ChatSessionStore.Session restored = store.open(session.getId(), null, null);
+
+        assertThat(restored).isNotSameAs(session);
+        assertThat(restored.history()).extracting(ChatDto.Message::getContent)
+                .containsExactly("김치찌개 레시피", "돼지고기와 김치를 볶고...", "칼로리는?", "약 450kcal예요.");
+        store.append(restored, "고마워", "맛있게 드세요!");
+        store.flush();
+        assertThat(seqs(session)).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void duplicateSeqKeepsFirstMessageAndWritesTheRest() {
+        ChatSessionStore store = store(1, 60);
+        ChatSessionStore.Session session = store.open(null, null, null);
+        store.append(session, "첫 질문", "첫 답변");
+        store.flush();
+        store.open(null, null, null);
+        ChatSessionStore.Session restored = store.open(session.getId(), null, null);
+
+        // 밀려나기 전 세션 객체로 진행 중이던 요청과 복원된 세션이 같은 순번(2, 3)을 사용
+        store.append(restored, "복원된 세션 질문", "복원된 세션 답변");
+        store.append(session, "이전 세션 질문", "이전 세션 답변");
+        ChatSessionStore.Session another = store.open(null, null, null);
+        store.append(another, "다른 세션 질문", "다른 세션 답변");
+        store.flush();
+
+        assertThat(seqs(session)).containsExactly(0, 1, 2, 3);
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM chat_messages WHERE session_id = ? AND seq >= 2"
+                + " ORDER BY seq", String.class, sessionUuid(session)))
+                .containsExactly("복원된 세션 질문", "복원된 세션 답변");
+        assertThat(seqs(another)).containsExactly(0, 1);
+        assertThat(store.getStats()).containsEntry("writeConflicts", 2L).containsEntry("pendingWrites", 0L);
+    }
+
+    @Test
+    void purgeRemovesExpiredRowsAndIdleSessions() {
+        ChatSessionStore store = store(10, 0);
+        User user = TestUsers.create(userRepository, "대화정리");
+        String guestOld = insertMessage(null, 2);
+        String guestRecent = insertMessage(null, 0);
+        String userRecent = insertMessage(user.getId(), 2);
+        String userOld = insertMessage(user.getId(), 40);
+        store.open(null, null, null);
+
+        store.purgeExpired();
+
+        assertThat(count(guestOld)).isZero();
+        assertThat(count(guestRecent)).isEqualTo(1);
+        assertThat(count(userRecent)).isEqualTo(1);
+        assertThat(count(userOld)).isZero();
+        assertThat(store.getStats()).containsEntry("sessions", 0L);
+    }
+
+    private ChatSessionStore store(int maxSessions, long idleTtlMinutes) {
+        return new ChatSessionStore(jdbcTemplate, transactionTemplate, true, maxSessions, 200, 1000,
+                idleTtlMinutes, 30, 24, "test-secret");
+    }
+
+    private List<Integer> seqs(ChatSessionStore.Session session) {
+        return jdbcTemplate.queryForList("SELECT seq FROM chat_messages WHERE session_id = ? ORDER BY seq",
+                Integer.class, sessionUuid(session));
+    }
+
+    private static String sessionUuid(ChatSessionStore.Session session) {
+        return session.getId().substring(0, 36);
+    }
+
+    private String insertMessage(Long userId, int daysAgo) {
+        String sessionId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO chat_messages (session_id, user_id, seq, role, content, created_at)"
+                + " VALUES (?, ?, 0, 'user', '안녕', TIMESTAMPADD(DAY, ?, NOW()))", sessionId, userId, -daysAgo);
+        return sessionId;
+    }
+
+    private int count(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages WHERE session_id = ?",
+                Integer.class, sessionId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CommunityPostDTO;
+import com.mychefai.healthytable.dto.CreateCommentRequestDTO;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.metrics.QueryCountInspector;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class CommunityPostServiceTest {
+
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private PostCommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostSearchIndexService searchIndexService;
+
+    private User alice;
+    private User bob;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        alice = TestUsers.create(userRepository, "alice");
+        bob = TestUsers.create(userRepository, "bob");
+        User carol = TestUsers.create(userRepository, "carol");
+        User[] authors = { alice, bob, carol };
+        for (int i = 0; i < 10; i++) {
+            CommunityPost post = postService.createPost(new CreatePostRequestDTO(authors[i % 3].getId(),
+                    "게시글 " + i, "내용 " + i, List.of("두부"), List.of("끓인다"), List.of(), null));
+            postIds.add(post.getId());
+        }
+    }
+
+    @Test
+    void convertsPageWithCountsAndLikedFlags() {
+        postService.toggleLike(postIds.get(0), alice.getId());
+        postService.toggleLike(postIds.get(0), bob.getId());
+        postService.toggleLike(postIds.get(2), alice.getId());
+        postService.toggleLike(postIds.get(4), alice.getId());
+        postService.toggleLike(postIds.get(4), alice.getId()); // 취소
+        commentService.createComment(postIds.get(1), new CreateCommentRequestDTO(bob.getId(), null, "맛있어요"));
+        commentService.createComment(postIds.get(1), new CreateCommentRequestDTO(alice.getId(), null, "감사해요"));
+
+        Map<Long, CommunityPostDTO> page = byId(postService.getAllPosts(alice.getId(), null, null, 10));
+
+        assertThat(page).containsKeys(postIds.toArray(Long[]::new));
+        assertThat(page.get(postIds.get(0)).getLikeCount()).isEqualTo(2);
+        assertThat(page.get(postIds.get(0)).getIsLikedByCurrentUser()).isTrue();
+        assertThat(page.get(postIds.get(2)).getLikeCount()).isEqualTo(1);
+        assertThat(page.get(postIds.get(2)).getIsLikedByCurrentUser()).isTrue();
+        assertThat(page.get(postIds.get(4)).getLikeCount()).isZero();
+        assertThat(page.get(postIds.get(4)).getIsLikedByCurrentUser()).isFalse();
+        assertThat(page.get(postIds.get(1)).getCommentCount()).isEqualTo(2);
+        assertThat(page.get(postIds.get(1)).getUserName()).isEqualTo(bob.getName());
+        assertThat(page.get(postIds.get(3)).getIsLikedByCurrentUser()).isFalse();
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithPageSize() {
+        postService.getAllPosts(alice.getId(), null, null, 10); // 작성자 캐시 적재
+
+        int smallPage = countQueries(() -> postService.getAllPosts(alice.getId(), null, null, 2));
+        int fullPage = countQueries(() -> postService.getAllPosts(alice.getId(), null, null, 10));
+
+        // 게시글 페이지 + 현재 사용자 좋아요 여부 (게시글 수와 무관)
+        assertThat(fullPage).isEqualTo(smallPage).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void likeFallbackSearchHonoursPage() {
+        String keyword = "검색" + UUID.randomUUID();
+        List<Long> matched = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            matched.add(postService.createPost(new CreatePostRequestDTO(alice.getId(), keyword + " " + i, "내용",
+                    List.of(), List.of(), List.of(), null)).getId());
+        }
+
+        // 색인을 사용할 수 없는 동안(비활성화 또는 구축 전)의 LIKE 검색
+        ReflectionTestUtils.setField(searchIndexService, "enabled", false);
+        try {
+            List<Long> first = ids(postService.searchPosts(keyword, alice.getId(), "relevance", 0, null, null, 2));
+            List<Long> second = ids(postService.searchPosts(keyword, alice.getId(), "relevance", 1, null, null, 2));
+            List<Long> third = ids(postService.searchPosts(keyword, alice.getId(), "relevance", 2, null, null, 2));
+
+            assertThat(first).containsExactly(matched.get(4), matched.get(3));
+            assertThat(second).containsExactly(matched.get(2), matched.get(1));
+            assertThat(third).containsExactly(matched.get(0));
+        } finally {
+            ReflectionTestUtils.setField(searchIndexService, "enabled", true);
+        }
+    }
+
+    private static List<Long> ids(List<CommunityPostDTO> posts) {
+        return posts.stream().map(CommunityPostDTO::getId).collect(Collectors.toList());
+    }
+
+    private int countQueries(Runnable action) {
+        QueryCountInspector.start();
+        action.run();
+        return QueryCountInspector.finish();
+    }
+
+    private static Map<Long, CommunityPostDTO> byId(List<CommunityPostDTO> posts) {
+        return posts.stream().collect(Collectors.toMap(CommunityPostDTO::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,219 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.exception.GeminiUnavailableException;
+import com.mychefai.healthytable.support.GeminiStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gemini 호출 보호 장치 테스트
+ * 동시 호출 한도와 회로 차단기는 Gemini 스텁 서버(지연/실패 주입)로 실제 HTTP 호출 결과에 반응해야 하고,
+ * 백그라운드 호출은 사용자 호출 허가를 쓰지 않고, 사용자 호출이 한도까지 차 있으면 먼저 거절되어야 합니다.
+ */
+class GeminiCallGuardTest {
+
+    private static final GeminiStubServer STUB = GeminiStubServer.start();
+    private static final WebClient WEB_CLIENT = WebClient.create();
+
+    // 사용자 호출 한도 2 (고정), 백그라운드 한도 1
+    private final GeminiCallGuard guard = new GeminiCallGuard(30000, 2, 2, 2, 15000, 20, 50, 10, 30000, 3, 1);
+
+    @AfterEach
+    void recover() {
+        STUB.failWith(0);
+        STUB.delay(0);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void timeoutDecreasesLimit() {
+        GeminiCallGuard limiter = limiter(200, 15000);
+        STUB.delay(1000);
+
+        call(limiter);
+
+        assertThat(limiter.getStats()).containsEntry("limit", 6).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void serverErrorDecreasesLimit() {
+        GeminiCallGuard limiter = limiter(30000, 15000);
+        STUB.failWith(503);
+
+        call(limiter);
+
+        assertThat(limiter.getStats()).containsEntry("limit", 6);
+    }
+
+    @Test
+    void slowSuccessDecreasesLimit() {
+        GeminiCallGuard limiter = limiter(30000, 50);
+        STUB.delay(150);
+
+        assertThat(call(limiter)).isNotNull();
+
+        assertThat(limiter.getStats()).containsEntry("limit", 6);
+    }
+
+    @Test
+    void successesIncreaseLimit() {
+        GeminiCallGuard limiter = limiter(30000, 15000);
+
+        // 한도만큼 성공하면 +1 (8 -> 9에는 1/8 + 1/8.125 + ... 8번 이상 필요)
+        for (int i = 0; i < 8; i++) {
+            call(limiter);
+        }
+        assertThat(limiter.getStats()).containsEntry("limit", 8);
+        call(limiter);
+        assertThat(limiter.getStats()).containsEntry("limit", 9);
+    }
+
+    @Test
+    void failureRateOpensCircuit() {
+        // 최근 4건 중 50% 이상 실패하면 열림
+        GeminiCallGuard breaker = new GeminiCallGuard(30000, 20, 2, 200, 15000, 4, 50, 4, 30000, 1, 2);
+        call(breaker);
+        call(breaker);
+        STUB.failWith(500);
+        call(breaker);
+        assertThat(breaker.getStats()).containsEntry("state", "CLOSED");
+
+        call(breaker);
+        assertThat(breaker.getStats()).containsEntry("state", "OPEN");
+
+        // 열린 동안은 원격 호출 없이 거절
+        STUB.failWith(0);
+        int calls = STUB.generateCalls();
+        assertThat(reason(remote(breaker))).isEqualTo(GeminiUnavailableException.CIRCUIT_OPEN);
+        assertThat(STUB.generateCalls()).isEqualTo(calls);
+        assertThat(breaker.getStats()).containsEntry("rejectedByCircuit", 1L);
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws InterruptedException {
+        GeminiCallGuard breaker = openBreaker();
+        Thread.sleep(150);
+
+        assertThat(call(breaker)).isNotNull();
+
+        assertThat(breaker.getStats()).containsEntry("state", "CLOSED");
+    }
+
+    @Test
+    void failedProbeReopensCircuit() throws InterruptedException {
+        GeminiCallGuard breaker = openBreaker();
+        Thread.sleep(150);
+
+        STUB.failWith(502);
+        call(breaker);
+
+        assertThat(breaker.getStats()).containsEntry("state", "OPEN");
+        assertThat(reason(remote(breaker))).isEqualTo(GeminiUnavailableException.CIRCUIT_OPEN);
+    }
+
+    @Test
+    void clientErrorsAreIgnored() {
+        GeminiCallGuard breaker = new GeminiCallGuard(30000, 8, 2, 20, 15000, 4, 50, 4, 30000, 1, 2);
+        STUB.failWith(400);
+
+        for (int i = 0; i < 6; i++) {
+            call(breaker);
+        }
+
+        // 요청 자체의 오류는 한도/회로에 반영하지 않음 (429는 과부하 신호)
+        assertThat(breaker.getStats()).containsEntry("state", "CLOSED").containsEntry("limit", 8);
+        assertThat(GeminiCallGuard.classify(WebClientResponseException.create(404, "Not Found", null, null, null)))
+                .isEqualTo(GeminiCallGuard.Outcome.IGNORED);
+        assertThat(GeminiCallGuard.classify(
+                WebClientResponseException.create(429, "Too Many Requests", null, null, null)))
+                .isEqualTo(GeminiCallGuard.Outcome.FAILURE);
+    }
+
+    @Test
+    void backgroundCallsDoNotUseUserPermits() {
+        Disposable background = guard.protectBackground(Mono.never()).subscribe();
+
+        // 백그라운드 한도를 넘는 백그라운드 호출은 거절
+        assertThat(reason(guard.protectBackground(Mono.just("요약")))).isEqualTo(
+                GeminiUnavailableException.BACKGROUND_LIMIT);
+        // 사용자 호출은 한도 2개를 모두 쓸 수 있음
+        Disposable first = guard.protect(Mono.never()).subscribe();
+        Disposable second = guard.protect(Mono.never()).subscribe();
+        assertThat(guard.getStats()).containsEntry("inFlight", 2).containsEntry("backgroundInFlight", 1);
+
+        background.dispose();
+        first.dispose();
+        second.dispose();
+        assertThat(guard.getStats()).containsEntry("inFlight", 0).containsEntry("backgroundInFlight", 0);
+    }
+
+    @Test
+    void backgroundYieldsWhenUserCallsAreAtLimit() {
+        Disposable first = guard.protect(Mono.never()).subscribe();
+        Disposable second = guard.protect(Mono.never()).subscribe();
+
+        assertThat(reason(guard.protectBackground(Mono.just("요약")))).isEqualTo(
+                GeminiUnavailableException.BACKGROUND_LIMIT);
+
+        first.dispose();
+        assertThat(guard.protectBackground(Mono.just("요약")).block()).isEqualTo("요약");
+        second.dispose();
+        assertThat(guard.getStats()).containsEntry("rejectedBackground", 1L).containsEntry("rejectedByLimit", 0L);
+    }
+
+    /**
+     * 한도 8 (2~20), 회로는 열리지 않도록 최소 호출 수를 창 크기로
+     */
+    private static GeminiCallGuard limiter(long timeoutMs, long latencyThresholdMs) {
+        return new GeminiCallGuard(timeoutMs, 8, 2, 20, latencyThresholdMs, 20, 100, 20, 30000, 1, 2);
+    }
+
+    /**
+     * 2건 연속 5xx로 연 회로 (100ms 후 probe 1건 허용)
+     */
+    private static GeminiCallGuard openBreaker() {
+        GeminiCallGuard breaker = new GeminiCallGuard(30000, 20, 2, 200, 15000, 2, 50, 2, 100, 1, 2);
+        STUB.failWith(500);
+        call(breaker);
+        call(breaker);
+        STUB.failWith(0);
+        assertThat(breaker.getStats()).containsEntry("state", "OPEN");
+        return breaker;
+    }
+
+    private static Mono<String> remote(GeminiCallGuard guard) {
+        return guard.protect(WEB_CLIENT.post()
+                .uri(STUB.modelUrl() + ":generateContent")
+                .bodyValue("{}")
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    /**
+     * 스텁 호출 1건 (실패는 null)
+     */
+    private static String call(GeminiCallGuard guard) {
+        return remote(guard).onErrorResume(e -> Mono.empty()).block(Duration.ofSeconds(10));
+    }
+
+    private static String reason(Mono<?> call) {
+        AtomicReference<String> reason = new AtomicReference<>();
+        call.subscribe(value -> {
+        }, e -> reason.set(((GeminiUnavailableException) e).getReason()));
+        return reason.get();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mychefai.healthytable.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiResponseCacheTest {
+
+    @Test
+    void boundsSizeAcrossStripes() {
+        GeminiResponseCache cache = new GeminiResponseCache(true, 160, 3600, true);
+        for (int i = 0; i < 10_000; i++) {
+            cache.store("chat:" + i, "reply " + i);
+        }
+
+        assertThat(cache.getStats().get("size")).isLessThanOrEqualTo(160L);
+        assertThat(cache.getStats().get("evictions")).isEqualTo(10_000 - cache.getStats().get("size"));
+        assertThat(cache.lookup("chat:9999")).isEqualTo("reply 9999");
+    }
+
+    @Test
+    void concurrentLoadsOfSameKeyShareOneCall() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(true, 1000, 3600, true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] results = new Future<?>[8];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = pool.submit(() -> cache.getOrLoad("recipe:kimchi", () -> Mono.fromCallable(() -> {
+                    calls.incrementAndGet();
+                    release.await();
+                    return "김치찌개";
+                })).block());
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<?> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("김치찌개");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.lookup("recipe:kimchi")).isEqualTo("김치찌개");
+    }
+
+    @Test
+    void expiredEntriesAreNotReturned() throws InterruptedException {
+        GeminiResponseCache cache = new GeminiResponseCache(true, 100, 0, true);
+        cache.store("chat:a", "reply");
+        Thread.sleep(5);
+
+        assertThat(cache.lookup("chat:a")).isNull();
+        assertThat(cache.getStats().get("size")).isZero();
+    }
+}
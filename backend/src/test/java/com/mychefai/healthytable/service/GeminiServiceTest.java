@@ -0,0 +1,89 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.support.GeminiStubServer;
+import com.mychefai.healthytable.support.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 스트리밍 SSE 파싱 테스트
+ * 스텁 서버가 내려주는 SSE 이벤트를 순서대로 텍스트 조각으로 바꾸고,
+ * 텍스트가 없는 이벤트는 건너뛰며, 정상 완료된 전체 응답은 캐시에 저장해야 합니다.
+ * 레시피 추천은 채팅과 같은 페르소나 형식으로 요청해야 합니다.
+ */
+@IntegrationTest
+class GeminiServiceTest {
+
+    private static final GeminiStubServer STUB = GeminiStubServer.start();
+
+    @Autowired
+    private GeminiService geminiService;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.model-url", STUB::modelUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void streamEmitsTextChunksInOrder() {
+        STUB.replyStream("data: " + GeminiStubServer.response("안녕하세요, ") + "\r\n\r\n"
+                // 텍스트가 없는 이벤트 (종료 사유만 있는 마지막 조각 등)
+                + "data: {\"candidates\":[{\"finishReason\":\"STOP\"}]}\r\n\r\n"
+                + "data: " + GeminiStubServer.response("김치찌개는 ") + "\n\n"
+                // 여러 data 줄로 나뉜 이벤트
+                + "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"450kcal\"},\n"
+                + "data: {\"text\":\"입니다.\"}]}}]}\n\n");
+
+        List<String> chunks = geminiService.streamChatResponse("김치찌개 칼로리 알려줘", List.of())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(chunks).containsExactly("안녕하세요, ", "김치찌개는 ", "450kcal", "입니다.");
+    }
+
+    @Test
+    void completedStreamIsServedFromCache() {
+        STUB.replyStream("data: " + GeminiStubServer.response("연어는 ") + "\n\n"
+                + "data: " + GeminiStubServer.response("오메가3가 풍부해요.") + "\n\n");
+        String message = "연어 영양소 알려줘";
+
+        List<String> first = geminiService.streamChatResponse(message, List.of())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        int callsAfterFirst = STUB.streamCalls();
+        List<String> second = geminiService.streamChatResponse(message, List.of())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(first).containsExactly("연어는 ", "오메가3가 풍부해요.");
+        assertThat(second).containsExactly("연어는 오메가3가 풍부해요.");
+        assertThat(STUB.streamCalls()).isEqualTo(callsAfterFirst);
+    }
+
+    @Test
+    void recipeRecommendationKeepsChefPersona() {
+        STUB.replyText("두부조림 350kcal");
+
+        String reply = geminiService.getRecipeRecommendation(List.of("두부", "간장"), "저염식")
+                .block(Duration.ofSeconds(10));
+
+        assertThat(reply).isEqualTo("두부조림 350kcal");
+        assertThat(STUB.lastRequestBody())
+                .contains("System: 당신은 'MyChef AI'입니다.")
+                .contains("User: 사용자가 가진 재료: [간장, 두부].")
+                .contains("Model: ");
+    }
+}
@@ -0,0 +1,134 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Write-Behind 좋아요 버퍼 동시성 테스트
+ * 같은 (사용자, 게시글) 쌍을 여러 스레드가 동시에 토글하고 중간중간 flush 해도
+ * 최종 post_likes 행과 like_count가 토글 횟수의 홀짝과 일치해야 합니다.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "community.like.write-behind.enabled=true",
+        "community.like.write-behind.flush-interval-ms=20"
+})
+class LikeBufferServiceTest {
+
+    private static final int USERS = 6;
+    private static final int POSTS = 4;
+    private static final int THREADS = 12;
+    private static final int TOGGLES_PER_THREAD = 500;
+
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private LikeBufferService likeBufferService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentTogglesAreNotLost() throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(TestUsers.create(userRepository, "liker" + i).getId());
+        }
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            CommunityPost post = postService.createPost(new CreatePostRequestDTO(userIds.get(0),
+                    "좋아요 테스트 " + i, "내용", List.of(), List.of(), List.of(), null));
+            postIds.add(post.getId());
+        }
+
+        // 일부 쌍은 이미 좋아요 상태에서 시작 (DB 반영 후)
+        AtomicIntegerArray toggles = new AtomicIntegerArray(USERS * POSTS);
+        for (int u = 0; u < USERS; u += 2) {
+            postService.toggleLike(postIds.get(0), userIds.get(u));
+            toggles.incrementAndGet(index(u, 0));
+        }
+        likeBufferService.flush();
+
+        // 스레드 두 개씩 같은 사용자를 맡아 같은 쌍을 경쟁적으로 토글, 별도 스레드는 계속 flush
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int user = t % USERS;
+            long seed = t;
+            workers.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                    // 절반은 모두가 누르는 게시글, 나머지는 무작위 게시글
+                    int post = random.nextBoolean() ? 0 : random.nextInt(POSTS);
+                    postService.toggleLike(postIds.get(post), userIds.get(user));
+                    toggles.incrementAndGet(index(user, post));
+                }
+                return null;
+            }));
+        }
+        Future<?> flusher = pool.submit(() -> {
+            start.await();
+            while (running.get()) {
+                likeBufferService.flush();
+                Thread.sleep(1);
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+        likeBufferService.flush();
+
+        for (int p = 0; p < POSTS; p++) {
+            Long postId = postIds.get(p);
+            Set<Long> expectedLikers = new HashSet<>();
+            for (int u = 0; u < USERS; u++) {
+                if (toggles.get(index(u, p)) % 2 == 1) {
+                    expectedLikers.add(userIds.get(u));
+                }
+            }
+
+            List<Long> likers = jdbcTemplate.queryForList(
+                    "SELECT user_id FROM post_likes WHERE post_id = ?", Long.class, postId);
+            Long likeCount = jdbcTemplate.queryForObject(
+                    "SELECT like_count FROM community_posts WHERE id = ?", Long.class, postId);
+
+            assertThat(likers).as("post %d likers", p).containsExactlyInAnyOrderElementsOf(expectedLikers);
+            assertThat(likeCount).as("post %d like_count", p).isEqualTo(expectedLikers.size());
+            for (int u = 0; u < USERS; u++) {
+                Boolean buffered = likeBufferService.isLiked(postId, userIds.get(u));
+                if (buffered != null) {
+                    assertThat(buffered).isEqualTo(expectedLikers.contains(userIds.get(u)));
+                }
+            }
+        }
+    }
+
+    private static int index(int user, int post) {
+        return user * POSTS + post;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class PopularPostRankingServiceTest {
+
+    @Autowired
+    private PopularPostRankingService rankingService;
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void appliesChangesOnlyAfterCommit() {
+        User author = TestUsers.create(userRepository, "ranking");
+        rankingService.getTopPostIds(PopularPostRankingService.Timeframe.ALL, 1); // 최초 로딩
+
+        CommunityPost committed = postService.createPost(request(author, "커밋된 글"));
+        CommunityPost rolledBack = transactionTemplate.execute(status -> {
+            CommunityPost post = postService.createPost(request(author, "롤백된 글"));
+            postService.toggleLike(post.getId(), author.getId());
+            status.setRollbackOnly();
+            return post;
+        });
+
+        List<Long> daily = rankingService.getTopPostIds(PopularPostRankingService.Timeframe.DAILY, 10_000);
+        assertThat(daily).contains(committed.getId()).doesNotContain(rolledBack.getId());
+
+        // 좋아요도 커밋 후 반영: 좋아요 1개인 글이 나중에 쓴 좋아요 0개 글보다 앞
+        CommunityPost newer = postService.createPost(request(author, "나중에 쓴 글"));
+        postService.toggleLike(committed.getId(), author.getId());
+        daily = rankingService.getTopPostIds(PopularPostRankingService.Timeframe.DAILY, 10_000);
+        assertThat(daily.indexOf(committed.getId())).isLessThan(daily.indexOf(newer.getId()));
+    }
+
+    private static CreatePostRequestDTO request(User author, String title) {
+        return new CreatePostRequestDTO(author.getId(), title, "내용", List.of(), List.of(), List.of(), null);
+    }
+}
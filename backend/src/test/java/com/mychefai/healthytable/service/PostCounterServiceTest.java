@@ -0,0 +1,86 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.PostComment;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CreateCommentRequestDTO;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 카운터 보정 배치 테스트
+ * 실제 좋아요/댓글 수와 다른 게시글만 수정하고 그 개수만 반환해야 합니다 (일치하는 행은 건드리지 않음).
+ * 댓글 삭제는 함께 지워지는 하위 댓글까지 댓글 수에서 차감해야 합니다.
+ */
+@IntegrationTest
+class PostCounterServiceTest {
+
+    @Autowired
+    private PostCounterService counterService;
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private PostCommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyDriftedPostsAreRepairedAndCounted() {
+        User user = TestUsers.create(userRepository, "counter");
+        CommunityPost liked = createPost(user, "좋아요 보정");
+        CommunityPost commented = createPost(user, "댓글 보정");
+        createPost(user, "정상");
+        postService.toggleLike(liked.getId(), user.getId());
+        commentService.createComment(commented.getId(), new CreateCommentRequestDTO(user.getId(), null, "맛있어요"));
+        // 이전 실행이나 다른 테스트에서 남은 차이를 먼저 정리
+        counterService.reconcileCounters();
+
+        jdbcTemplate.update("UPDATE community_posts SET like_count = 5 WHERE id = ?", liked.getId());
+        jdbcTemplate.update("UPDATE community_posts SET comment_count = 0 WHERE id = ?", commented.getId());
+
+        assertThat(counterService.reconcileCounters()).isEqualTo(2);
+        assertThat(counts(liked)).containsExactly(1L, 0L);
+        assertThat(counts(commented)).containsExactly(0L, 1L);
+        assertThat(counterService.reconcileCounters()).isZero();
+    }
+
+    @Test
+    void deletingCommentSubtractsCascadedReplies() {
+        User user = TestUsers.create(userRepository, "thread");
+        CommunityPost post = createPost(user, "답글 삭제");
+        PostComment root = commentService.createComment(post.getId(),
+                new CreateCommentRequestDTO(user.getId(), null, "원댓글"));
+        PostComment reply = commentService.createComment(post.getId(),
+                new CreateCommentRequestDTO(user.getId(), root.getId(), "답글"));
+        commentService.createComment(post.getId(), new CreateCommentRequestDTO(user.getId(), reply.getId(), "답글의 답글"));
+        commentService.createComment(post.getId(), new CreateCommentRequestDTO(user.getId(), null, "다른 댓글"));
+        assertThat(counts(post)).containsExactly(0L, 4L);
+
+        commentService.deleteComment(root.getId(), user.getId());
+
+        assertThat(counts(post)).containsExactly(0L, 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_comments WHERE post_id = ?", Long.class,
+                post.getId())).isEqualTo(1L);
+    }
+
+    private List<Long> counts(CommunityPost post) {
+        return jdbcTemplate.queryForObject("SELECT like_count, comment_count FROM community_posts WHERE id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)), post.getId());
+    }
+
+    private CommunityPost createPost(User user, String title) {
+        return postService.createPost(new CreatePostRequestDTO(user.getId(), title, "내용", List.of(), List.of(),
+                List.of(), null));
+    }
+}
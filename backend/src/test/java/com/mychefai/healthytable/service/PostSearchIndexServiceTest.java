@@ -0,0 +1,79 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.CommunityPost;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.dto.CreatePostRequestDTO;
+import com.mychefai.healthytable.dto.UpdatePostRequestDTO;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class PostSearchIndexServiceTest {
+
+    @Autowired
+    private PostSearchIndexService searchIndexService;
+    @Autowired
+    private CommunityPostService postService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void indexesCommittedChangesOnly() {
+        User author = TestUsers.create(userRepository, "search");
+        searchIndexService.rebuild();
+        String marker = "색인" + UUID.randomUUID().toString().substring(0, 8);
+
+        CommunityPost committed = postService.createPost(request(author, marker + " 김치찌개", List.of("김치")));
+        CommunityPost rolledBack = transactionTemplate.execute(status -> {
+            CommunityPost post = postService.createPost(request(author, marker + " 김치찌개", List.of("김치")));
+            status.setRollbackOnly();
+            return post;
+        });
+
+        assertThat(search(marker + " 김치찌개")).containsExactly(committed.getId()).doesNotContain(rolledBack.getId());
+
+        postService.updatePost(committed.getId(), author.getId(),
+                new UpdatePostRequestDTO(marker + " 된장국", "내용", List.of("된장"), List.of(), List.of(), null));
+        assertThat(search(marker + " 김치찌개")).isEmpty();
+        assertThat(search(marker + " 된장국")).containsExactly(committed.getId());
+
+        postService.deletePost(committed.getId(), author.getId());
+        assertThat(search(marker)).isEmpty();
+    }
+
+    @Test
+    void matchesSingleCharacterWordsInMultiWordQuery() {
+        User author = TestUsers.create(userRepository, "search");
+        searchIndexService.rebuild();
+        String marker = "한글자" + UUID.randomUUID().toString().substring(0, 8);
+
+        CommunityPost withSeaweed = postService.createPost(request(author, marker + " 김 치즈 주먹밥", List.of("김")));
+        CommunityPost cheeseOnly = postService.createPost(request(author, marker + " 치즈 주먹밥", List.of("치즈")));
+
+        assertThat(searchIndexService.canSearch("김")).isTrue();
+        assertThat(search(marker + " 김 치즈")).containsExactly(withSeaweed.getId());
+        assertThat(search(marker + " 치즈")).containsExactlyInAnyOrder(withSeaweed.getId(), cheeseOnly.getId());
+        // 재구축 후에도 같은 결과
+        searchIndexService.rebuild();
+        assertThat(search(marker + " 김 치즈")).containsExactly(withSeaweed.getId());
+    }
+
+    private List<Long> search(String keyword) {
+        return searchIndexService.searchByRelevance(keyword, 0, 20);
+    }
+
+    private static CreatePostRequestDTO request(User author, String title, List<String> ingredients) {
+        return new CreatePostRequestDTO(author.getId(), title, "내용", ingredients, List.of(), List.of(), null);
+    }
+}
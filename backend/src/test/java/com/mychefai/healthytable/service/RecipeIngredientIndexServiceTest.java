@@ -0,0 +1,138 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.Recipe;
+import com.mychefai.healthytable.event.RecipesChangedEvent;
+import com.mychefai.healthytable.repository.RecipeRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RecipeIngredientIndexServiceTest {
+
+    private static final String[] NAMES = {
+            "김치", "돼지고기", "두부", "대파", "파", "양파", "마늘", "간장", "계란", "달걀", "감자", "치즈",
+            "김", "밥", "새우", "땅콩", "우유", "ＭＩＬＫ", "milk", "버터"
+    };
+
+    private final RecipeRepository recipeRepository = mock(RecipeRepository.class);
+    private final RecipeIngredientIndexService indexService = new RecipeIngredientIndexService(recipeRepository);
+
+    @Test
+    void scoresOnlyRecipesSharingIngredientsAndExcludesAllergens() {
+        Recipe kimchiStew = recipe(1L, "김치 200g", "돼지고기", "대파");
+        Recipe tofu = recipe(2L, "두부", "간장");
+        Recipe shrimpRice = recipe(3L, "새우", "김치", "밥");
+        Recipe cheeseToast = recipe(4L, "치즈", "버터");
+        when(recipeRepository.findAll()).thenReturn(List.of(kimchiStew, tofu, shrimpRice, cheeseToast));
+
+        Map<Recipe, Double> scores = indexService.score(List.of("김치", "파"), List.of("새우"), 10);
+
+        // 김치 200g ⊃ 김치, 대파 ⊃ 파 / 새우 알러지 레시피 제외 / 재료를 공유하지 않는 레시피 제외
+        assertThat(scores).containsExactly(Map.entry(kimchiStew, 20.0));
+    }
+
+    @Test
+    void matchesBruteForceSubstringScoring() {
+        Random random = new Random(7);
+        List<Recipe> recipes = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            String[] ingredients = new String[1 + random.nextInt(6)];
+            for (int i = 0; i < ingredients.length; i++) {
+                String name = NAMES[random.nextInt(NAMES.length)];
+                ingredients[i] = random.nextBoolean() ? name : name + " " + (1 + random.nextInt(300)) + "g";
+            }
+            recipes.add(recipe(id, ingredients));
+        }
+        when(recipeRepository.findAll()).thenReturn(recipes);
+
+        for (int round = 0; round < 50; round++) {
+            List<String> fridge = pick(random, 1 + random.nextInt(8));
+            List<String> allergies = pick(random, random.nextInt(3));
+
+            Map<Recipe, Double> scores = indexService.score(fridge, allergies, 1000);
+
+            assertThat(scores).as("fridge=%s allergies=%s", fridge, allergies)
+                    .containsExactlyInAnyOrderEntriesOf(bruteForce(recipes, fridge, allergies));
+            List<Double> ordered = new ArrayList<>(scores.values());
+            assertThat(ordered).isSortedAccordingTo(Comparator.reverseOrder());
+        }
+    }
+
+    @Test
+    void matchedIngredientsUseSameNormalizationAsScoring() {
+        Recipe latte = recipe(1L, "ＭＩＬＫ 200ml", "Espresso");
+        when(recipeRepository.findAll()).thenReturn(List.of(latte));
+
+        List<String> fridge = List.of("milk", "ESPRESSO", "설탕");
+        assertThat(indexService.score(fridge, List.of(), 10)).containsEntry(latte, 20.0);
+        assertThat(indexService.matchedIngredients(latte, fridge)).containsExactly("milk", "ESPRESSO");
+    }
+
+    @Test
+    void rebuildsOnceForBurstOfRecipeChanges() {
+        when(recipeRepository.findAll()).thenReturn(List.of(recipe(1L, "두부")));
+        indexService.score(List.of("두부"), List.of(), 10);
+        verify(recipeRepository, times(1)).findAll();
+
+        for (int i = 0; i < 5; i++) {
+            indexService.onRecipesChanged(new RecipesChangedEvent());
+        }
+        verify(recipeRepository, times(1)).findAll(); // 이벤트 발행 스레드에서는 조회하지 않음
+
+        indexService.rebuildIfChanged();
+        indexService.rebuildIfChanged();
+        verify(recipeRepository, times(2)).findAll();
+    }
+
+    /**
+     * 색인 없이 모든 레시피를 정규화 후 부분 문자열로 비교한 점수
+     */
+    private static Map<Recipe, Double> bruteForce(List<Recipe> recipes, List<String> fridge, List<String> allergies) {
+        Map<Recipe, Double> expected = new HashMap<>();
+        for (Recipe recipe : recipes) {
+            List<String> ingredients = recipe.getIngredients().stream().map(RecipeIngredientIndexServiceTest::normalize)
+                    .toList();
+            boolean allergen = allergies.stream().map(RecipeIngredientIndexServiceTest::normalize)
+                    .anyMatch(allergy -> ingredients.stream().anyMatch(ing -> ing.contains(allergy)));
+            if (allergen) {
+                continue;
+            }
+            double score = 0;
+            for (String ing : ingredients) {
+                for (String name : fridge) {
+                    String user = normalize(name);
+                    if (ing.contains(user) || user.contains(ing)) {
+                        score += 10;
+                    }
+                }
+            }
+            if (score > 0) {
+                expected.put(recipe, score);
+            }
+        }
+        return expected;
+    }
+
+    private static String normalize(String text) {
+        return java.text.Normalizer.normalize(text, java.text.Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> pick(Random random, int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add(NAMES[random.nextInt(NAMES.length)]);
+        }
+        return names;
+    }
+
+    private static Recipe recipe(Long id, String... ingredients) {
+        Recipe recipe = new Recipe();
+        recipe.setId(id);
+        recipe.setTitle("레시피 " + id);
+        recipe.setIngredients(List.of(ingredients));
+        return recipe;
+    }
+}
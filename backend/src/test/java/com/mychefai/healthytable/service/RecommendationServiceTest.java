@@ -0,0 +1,65 @@
+package com.mychefai.healthytable.service;
+
+import com.mychefai.healthytable.domain.FridgeItem;
+import com.mychefai.healthytable.domain.Recipe;
+import com.mychefai.healthytable.domain.Recommendation;
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.repository.FridgeItemRepository;
+import com.mychefai.healthytable.repository.RecipeRepository;
+import com.mychefai.healthytable.repository.RecommendationRepository;
+import com.mychefai.healthytable.repository.UserRepository;
+import com.mychefai.healthytable.support.IntegrationTest;
+import com.mychefai.healthytable.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class RecommendationServiceTest {
+
+    @Autowired
+    private RecommendationService recommendationService;
+    @Autowired
+    private RecipeIngredientIndexService ingredientIndexService;
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+    @Autowired
+    private FridgeItemRepository fridgeItemRepository;
+    @Autowired
+    private RecipeRepository recipeRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void refreshRewritesWhenOnlyReasonChanges() {
+        User user = TestUsers.create(userRepository, "reco");
+        Recipe recipe = new Recipe();
+        recipe.setTitle("연두부 샐러드");
+        recipe.setIngredients(List.of("연두부", "간장"));
+        recipe.setSteps(List.of("담는다"));
+        recipe.setAverageRating(0.0);
+        recipe.setCreatedAt(LocalDateTime.now());
+        recipeRepository.save(recipe);
+        ingredientIndexService.rebuild();
+
+        FridgeItem item = new FridgeItem();
+        item.setUserId(user.getId());
+        item.setName("연두부");
+        fridgeItemRepository.save(item);
+        recommendationService.generateRecommendations(user.getId());
+        assertThat(recommendationService.refreshRecommendations(user.getId())).isFalse();
+
+        // 같은 재료 매칭(점수 동일)이지만 이유 문구에 쓰이는 냉장고 재료 이름이 바뀜
+        item.setName("간장");
+        fridgeItemRepository.save(item);
+
+        assertThat(recommendationService.refreshRecommendations(user.getId())).isTrue();
+        assertThat(recommendationRepository.findByUserIdOrderByScoreDesc(user.getId()))
+                .extracting(Recommendation::getReason)
+                .containsExactly("냉장고 속 간장을(를) 활용한 레시피예요!");
+    }
+}
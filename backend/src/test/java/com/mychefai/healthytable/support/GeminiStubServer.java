@@ -0,0 +1,161 @@
+package com.mychefai.healthytable.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 Gemini API 스텁 (JDK HttpServer)
+ * :generateContent 는 JSON 한 건, :streamGenerateContent 는 지정한 SSE 본문을 그대로 응답합니다.
+ * {@link #failWith}로 상태 코드를 지정하면 두 호출 모두 그 상태 코드로 실패하고,
+ * {@link #delay}로 응답 전 지연을 주입할 수 있습니다.
+ */
+public class GeminiStubServer {
+
+    private final HttpServer server;
+    private final AtomicInteger generateCalls = new AtomicInteger();
+    private final AtomicInteger streamCalls = new AtomicInteger();
+
+    private volatile String generateText = "스텁 응답";
+    private volatile String streamBody = "";
+    private volatile int failureStatus;
+    private volatile long delayMs;
+    private volatile String lastApiKey;
+    private volatile String lastQuery;
+    private volatile String lastRequestBody;
+
+    private GeminiStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static GeminiStubServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            GeminiStubServer stub = new GeminiStubServer(server);
+            server.createContext("/models", stub::handle);
+            // 지연 주입 중에도 다른 요청이 기다리지 않도록 요청마다 스레드 사용
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Gemini 스텁 서버 시작 실패", e);
+        }
+    }
+
+    /**
+     * gemini.api.model-url 값
+     */
+    public String modelUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/models/test-model";
+    }
+
+    public void stop() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    public void replyText(String text) {
+        this.generateText = text;
+    }
+
+    /**
+     * 스트리밍 응답 본문 (SSE 이벤트 그대로)
+     */
+    public void replyStream(String body) {
+        this.streamBody = body;
+    }
+
+    /**
+     * 이후 호출을 지정한 상태 코드로 실패 (0이면 정상 응답)
+     */
+    public void failWith(int status) {
+        this.failureStatus = status;
+    }
+
+    /**
+     * 이후 호출의 응답 전 지연 (0이면 즉시 응답)
+     */
+    public void delay(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public int generateCalls() {
+        return generateCalls.get();
+    }
+
+    public int streamCalls() {
+        return streamCalls.get();
+    }
+
+    /**
+     * 마지막 요청의 x-goog-api-key 헤더
+     */
+    public String lastApiKey() {
+        return lastApiKey;
+    }
+
+    /**
+     * 마지막 요청의 쿼리 문자열 (없으면 null)
+     */
+    public String lastQuery() {
+        return lastQuery;
+    }
+
+    /**
+     * 마지막 요청 본문 (JSON 그대로)
+     */
+    public String lastRequestBody() {
+        return lastRequestBody;
+    }
+
+    /**
+     * 텍스트 조각 하나를 담은 Gemini 응답 JSON
+     */
+    public static String response(String text) {
+        String escaped = text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + escaped + "\"}],\"role\":\"model\"}}],"
+                + "\"usageMetadata\":{\"promptTokenCount\":10,\"candidatesTokenCount\":5,\"totalTokenCount\":15}}";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        lastApiKey = exchange.getRequestHeaders().getFirst("x-goog-api-key");
+        lastQuery = exchange.getRequestURI().getQuery();
+        boolean stream = exchange.getRequestURI().getPath().endsWith(":streamGenerateContent");
+        String contentType = stream ? "text/event-stream" : "application/json";
+        String body;
+        if (stream) {
+            streamCalls.incrementAndGet();
+            body = streamBody;
+        } else {
+            generateCalls.incrementAndGet();
+            body = response(generateText);
+        }
+        long delay = delayMs;
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int status = failureStatus;
+        if (status != 0) {
+            contentType = "application/json";
+            body = "{\"error\":{\"code\":" + status + "}}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status != 0 ? status : 200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
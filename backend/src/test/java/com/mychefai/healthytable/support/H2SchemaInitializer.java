@@ -0,0 +1,39 @@
+package com.mychefai.healthytable.support;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 테스트 컨텍스트 시작 전 H2(MySQL 모드) DB에 schema.sql, add_columns.sql 실행
+ * 시작 시 DB를 읽는 빈(검색 색인, 인기 순위 등)이 있으므로 컨텍스트 생성 전에 스키마를 만듭니다.
+ * 같은 URL은 JVM당 한 번만 생성합니다 (캐시된 컨텍스트끼리 공유).
+ */
+public class H2SchemaInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Path SQL_DIR = Paths.get("..");
+    private static final Set<String> CREATED = new HashSet<>();
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        String url = context.getEnvironment().getRequiredProperty("spring.datasource.url");
+        synchronized (CREATED) {
+            if (!CREATED.add(url)) {
+                return;
+            }
+            try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+                MySqlScripts.run(connection, SQL_DIR.resolve("schema.sql"));
+                MySqlScripts.run(connection, SQL_DIR.resolve("add_columns.sql"));
+            } catch (Exception e) {
+                CREATED.remove(url);
+                throw new IllegalStateException("테스트 DB 스키마 생성 실패: " + url, e);
+            }
+        }
+    }
+}
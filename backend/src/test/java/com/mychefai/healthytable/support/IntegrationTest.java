@@ -0,0 +1,22 @@
+package com.mychefai.healthytable.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 내장 H2 DB(schema.sql)로 전체 애플리케이션 컨텍스트를 띄우는 통합 테스트
+ * 설정은 src/test/resources/application-test.properties
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = H2SchemaInitializer.class)
+public @interface IntegrationTest {
+}
@@ -0,0 +1,72 @@
+package com.mychefai.healthytable.support;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * MySQL 스크립트(schema.sql 등)를 H2 MySQL 호환 모드에서 실행하기 위한 변환
+ * 테스트와 부하 테스트 내장 DB가 같은 스키마를 사용하도록 공유합니다.
+ */
+public final class MySqlScripts {
+
+    // H2의 JSON 타입은 문자열을 JSON 문자열 값으로 감싸 저장하므로 텍스트 컬럼으로 대체
+    private static final Pattern JSON_TYPE = Pattern.compile("\\bJSON\\b");
+    private static final Pattern DATE_SUB = Pattern.compile("DATE_SUB\\(NOW\\(\\), INTERVAL (\\d+) (\\w+)\\)");
+    // ALTER TABLE t ADD COLUMN a ..., ADD COLUMN b ... -> 컬럼별 ALTER TABLE
+    private static final Pattern ADD_COLUMNS = Pattern.compile("(?is)^ALTER TABLE (\\w+)\\s+(ADD COLUMN .+)$");
+
+    private MySqlScripts() {
+    }
+
+    /**
+     * 스크립트 파일의 모든 문장 실행
+     */
+    public static void run(Connection connection, Path script) throws IOException, SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements(Files.readString(script, StandardCharsets.UTF_8))) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * MySQL 스크립트 -> H2에서 실행 가능한 문장 목록 (주석/USE/DESCRIBE/SHOW 제외)
+     */
+    public static List<String> statements(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+        List<String> statements = new ArrayList<>();
+        for (String raw : withoutComments.toString().split(";")) {
+            String sql = raw.trim();
+            String upper = sql.toUpperCase(Locale.ROOT);
+            if (sql.isEmpty() || upper.startsWith("USE ") || upper.startsWith("DESCRIBE ")
+                    || upper.startsWith("SHOW ")) {
+                continue;
+            }
+            sql = JSON_TYPE.matcher(sql).replaceAll("LONGTEXT");
+            sql = DATE_SUB.matcher(sql).replaceAll("DATEADD($2, -$1, NOW())");
+            var addColumns = ADD_COLUMNS.matcher(sql);
+            if (addColumns.matches()) {
+                for (String column : addColumns.group(2).split(",\\s*(?=ADD COLUMN)")) {
+                    statements.add("ALTER TABLE " + addColumns.group(1) + " " + column.trim());
+                }
+            } else {
+                statements.add(sql);
+            }
+        }
+        return statements;
+    }
+}
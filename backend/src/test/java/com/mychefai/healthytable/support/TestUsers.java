@@ -0,0 +1,28 @@
+package com.mychefai.healthytable.support;
+
+import com.mychefai.healthytable.domain.User;
+import com.mychefai.healthytable.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 통합 테스트용 사용자 생성 (테스트 간 충돌하지 않도록 이메일에 UUID 사용)
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * 이름이 name인 사용자 저장
+     */
+    public static User create(UserRepository userRepository, String name) {
+        User user = new User();
+        user.setEmail(name + "-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("");
+        user.setName(name);
+        user.setCreatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
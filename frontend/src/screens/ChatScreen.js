@@ -43,6 +43,8 @@ export default function ChatScreen({ messages, setMessages, healthProfile, setMe
     const [loading, setLoading] = useState(false);
     const [useFridge, setUseFridge] = useState(true); // Default ON
     const flatListRef = useRef(null);
+    // 서버 대화 세션 ID (첫 응답에서 받아 이후에는 새 메시지만 전송)
+    const sessionIdRef = useRef(null);
 
     // Meal Plan Modal
     const [modalVisible, setModalVisible] = useState(false);
@@ -166,21 +168,26 @@ export default function ChatScreen({ messages, setMessages, healthProfile, setMe
         }
 
         try {
-            // Prepare History for Context
-            const history = messages.slice(-10).map(msg => ({
-                role: msg.sender === 'user' ? 'user' : 'model',
-                content: msg.text
-            }));
+            // 세션이 있으면 서버가 이전 대화를 가지고 있으므로 새 메시지만 전송
+            // (세션이 없을 때만 화면의 최근 대화를 보내 새 세션을 시작)
+            const payload = { message: messageText, useFridge: useFridge };
+            if (sessionIdRef.current) {
+                payload.sessionId = sessionIdRef.current;
+            } else {
+                payload.history = messages.slice(-10).map(msg => ({
+                    role: msg.sender === 'user' ? 'user' : 'model',
+                    content: msg.text
+                }));
+            }
 
             console.log('🔍 [DEBUG] Sending to AI:', { useFridge, messageText });
 
-            const response = await axios.post(`${config.API_BASE_URL}/chat/message`, {
-                message: messageText,
-                history: history,
-                useFridge: useFridge
-            });
+            const response = await axios.post(`${config.API_BASE_URL}/chat/message`, payload);
 
             console.log('✅ [DEBUG] AI Response received');
+            if (response.data.sessionId) {
+                sessionIdRef.current = response.data.sessionId;
+            }
 
             const rawAiText = response.data.reply;
             const cleanedText = cleanAiResponse(rawAiText);
@@ -219,6 +226,17 @@ export default function ChatScreen({ messages, setMessages, healthProfile, setMe
         flatListRef.current?.scrollToEnd({ animated: true });
     }, [messages]);
 
+    // 로그인 상태가 바뀌거나 대화가 초기화되면 새 세션으로 시작 (세션은 사용자별로 저장됨)
+    useEffect(() => {
+        sessionIdRef.current = null;
+    }, [isLoggedIn]);
+
+    useEffect(() => {
+        if (messages.length <= 1) {
+            sessionIdRef.current = null;
+        }
+    }, [messages.length]);
+
     const handleStreamingComplete = (messageId) => {
         setMessages(prev => prev.map(msg =>
             msg.id === messageId ? { ...msg, isTyping: false } : msg
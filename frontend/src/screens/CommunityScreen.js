@@ -6,6 +6,9 @@ import { colors } from '../theme/colors';
 import config from '../config';
 import { useSafeAreaInsets } from 'react-native-safe-area-context';
 
+// 게시글 목록 페이지 크기 (서버 기본값과 동일, 이보다 적게 오면 마지막 페이지)
+const FEED_PAGE_SIZE = 20;
+
 export default function CommunityScreen({ onToggleSidebar, onNavigate, user }) {
     const insets = useSafeAreaInsets();
     const [activeTab, setActiveTab] = useState('recommendation'); // 'recommendation' or 'feed'
@@ -13,6 +16,8 @@ export default function CommunityScreen({ onToggleSidebar, onNavigate, user }) {
     const [popularPosts, setPopularPosts] = useState([]);
     const [popularTimeframe, setPopularTimeframe] = useState('weekly');
     const [feedPosts, setFeedPosts] = useState([]);
+    const [feedHasMore, setFeedHasMore] = useState(false);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [loading, setLoading] = useState(true);
     const [refreshing, setRefreshing] = useState(false);
 
@@ -59,13 +64,14 @@ export default function CommunityScreen({ onToggleSidebar, onNavigate, user }) {
         }
     };
 
-    // Fetch Community Feed (User Posts)
+    // Fetch Community Feed (User Posts, 첫 페이지)
     const fetchFeed = async () => {
         try {
             const response = await axios.get(
-                `${config.API_BASE_URL}/community/posts?currentUserId=${user?.id || ''}`
+                `${config.API_BASE_URL}/community/posts?currentUserId=${user?.id || ''}&size=${FEED_PAGE_SIZE}`
             );
             setFeedPosts(response.data);
+            setFeedHasMore(response.data.length === FEED_PAGE_SIZE);
         } catch (error) {
             console.error('피드 로딩 실패:', error);
         } finally {
@@ -74,6 +80,29 @@ export default function CommunityScreen({ onToggleSidebar, onNavigate, user }) {
         }
     };
 
+    // 다음 페이지 (마지막 게시글의 createdAt, id를 커서로 전달)
+    const fetchMoreFeed = async () => {
+        if (loadingMore || !feedHasMore || feedPosts.length === 0) return;
+        const last = feedPosts[feedPosts.length - 1];
+        setLoadingMore(true);
+        try {
+            const response = await axios.get(`${config.API_BASE_URL}/community/posts`, {
+                params: {
+                    currentUserId: user?.id || '',
+                    cursorCreatedAt: last.createdAt,
+                    cursorId: last.id,
+                    size: FEED_PAGE_SIZE,
+                },
+            });
+            setFeedPosts(prev => [...prev, ...response.data]);
+            setFeedHasMore(response.data.length === FEED_PAGE_SIZE);
+        } catch (error) {
+            console.error('피드 추가 로딩 실패:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const fetchAll = async () => {
         setLoading(true);
         await Promise.all([fetchAIRecommendations(), fetchPopularPosts(), fetchFeed()]);
@@ -345,6 +374,15 @@ export default function CommunityScreen({ onToggleSidebar, onNavigate, user }) {
                         ) : (
                             <View style={styles.postsContainer}>
                                 {feedPosts.map(post => renderUserPostCard(post))}
+                                {feedHasMore && (
+                                    <TouchableOpacity style={styles.loadMoreButton} onPress={fetchMoreFeed} disabled={loadingMore}>
+                                        {loadingMore ? (
+                                            <ActivityIndicator size="small" color={colors.primary} />
+                                        ) : (
+                                            <Text style={styles.loadMoreText}>더 보기</Text>
+                                        )}
+                                    </TouchableOpacity>
+                                )}
                             </View>
                         )}
                     </View>
@@ -674,6 +712,20 @@ const styles = StyleSheet.create({
         paddingHorizontal: 16,
         paddingTop: 8,
     },
+    loadMoreButton: {
+        alignItems: 'center',
+        paddingVertical: 14,
+        marginBottom: 16,
+        borderRadius: 12,
+        backgroundColor: colors.surface,
+        borderWidth: 1,
+        borderColor: colors.border,
+    },
+    loadMoreText: {
+        fontSize: 14,
+        fontWeight: '600',
+        color: colors.primary,
+    },
     postCard: {
         backgroundColor: colors.surface,
         borderRadius: 12,
@@ -16,12 +16,29 @@ import axios from 'axios';
 import { colors } from '../theme/colors';
 import config from '../config';
 
+// 검색 결과 페이지 크기 (서버 기본값과 동일, 이보다 적게 오면 마지막 페이지)
+const SEARCH_PAGE_SIZE = 20;
+
 export default function SearchScreen({ onBack, onNavigate, user }) {
     const insets = useSafeAreaInsets();
     const [searchQuery, setSearchQuery] = useState('');
     const [results, setResults] = useState([]);
     const [loading, setLoading] = useState(false);
     const [hasSearched, setHasSearched] = useState(false);
+    const [keyword, setKeyword] = useState('');
+    const [page, setPage] = useState(0);
+    const [hasMore, setHasMore] = useState(false);
+    const [loadingMore, setLoadingMore] = useState(false);
+
+    // 관련도 순 검색 결과 한 페이지
+    const fetchPage = (query, pageNumber) => axios.get(`${config.API_BASE_URL}/community/posts/search`, {
+        params: {
+            keyword: query,
+            currentUserId: user?.id || '',
+            page: pageNumber,
+            size: SEARCH_PAGE_SIZE,
+        },
+    });
 
     const handleSearch = async () => {
         if (!searchQuery.trim()) return;
@@ -29,10 +46,11 @@ export default function SearchScreen({ onBack, onNavigate, user }) {
         setLoading(true);
         setHasSearched(true);
         try {
-            const response = await axios.get(
-                `${config.API_BASE_URL}/community/posts/search?keyword=${encodeURIComponent(searchQuery)}&currentUserId=${user?.id || ''}`
-            );
+            const response = await fetchPage(searchQuery, 0);
+            setKeyword(searchQuery);
+            setPage(0);
             setResults(response.data);
+            setHasMore(response.data.length === SEARCH_PAGE_SIZE);
         } catch (error) {
             console.error('검색 실패:', error);
         } finally {
@@ -40,6 +58,23 @@ export default function SearchScreen({ onBack, onNavigate, user }) {
         }
     };
 
+    // 목록 끝에 도달하면 다음 페이지 추가
+    const handleLoadMore = async () => {
+        if (loadingMore || !hasMore) return;
+
+        setLoadingMore(true);
+        try {
+            const response = await fetchPage(keyword, page + 1);
+            setPage(page + 1);
+            setResults(prev => [...prev, ...response.data]);
+            setHasMore(response.data.length === SEARCH_PAGE_SIZE);
+        } catch (error) {
+            console.error('검색 결과 추가 로딩 실패:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const renderPostCard = ({ item }) => (
         <TouchableOpacity
             style={styles.postCard}
@@ -98,7 +133,7 @@ export default function SearchScreen({ onBack, onNavigate, user }) {
                         autoFocus
                     />
                     {searchQuery.length > 0 && (
-                        <TouchableOpacity onPress={() => { setSearchQuery(''); setResults([]); setHasSearched(false); }}>
+                        <TouchableOpacity onPress={() => { setSearchQuery(''); setResults([]); setHasSearched(false); setHasMore(false); }}>
                             <Ionicons name="close-circle" size={20} color={colors.textSecondary} />
                         </TouchableOpacity>
                     )}
@@ -132,6 +167,11 @@ export default function SearchScreen({ onBack, onNavigate, user }) {
                     keyExtractor={(item) => item.id.toString()}
                     contentContainerStyle={styles.listContent}
                     showsVerticalScrollIndicator={false}
+                    onEndReached={handleLoadMore}
+                    onEndReachedThreshold={0.5}
+                    ListFooterComponent={loadingMore ? (
+                        <ActivityIndicator size="small" color={colors.primary} style={styles.listFooter} />
+                    ) : null}
                 />
             )}
         </View>
@@ -199,6 +239,9 @@ const styles = StyleSheet.create({
     listContent: {
         padding: 16,
     },
+    listFooter: {
+        paddingVertical: 16,
+    },
     postCard: {
         backgroundColor: colors.surface,
         borderRadius: 16,
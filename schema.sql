@@ -128,7 +128,8 @@ CREATE TABLE recipe_shares (
     FOREIGN KEY (recipe_id) REFERENCES recipes(id)
     ON DELETE CASCADE,
   INDEX idx_share_recipe (recipe_id),
-  INDEX idx_share_user (user_id)
+  INDEX idx_share_user (user_id),
+  INDEX idx_share_visibility_created (visibility, created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 
@@ -175,13 +176,16 @@ CREATE TABLE community_posts (
   steps       JSON NULL,
   tags        JSON NULL,
   image_url   VARCHAR(500) NULL,
+  like_count    BIGINT NOT NULL DEFAULT 0,
+  comment_count BIGINT NOT NULL DEFAULT 0,
   created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   CONSTRAINT fk_post_user
     FOREIGN KEY (user_id) REFERENCES users(id)
     ON DELETE CASCADE,
   INDEX idx_post_user (user_id),
-  INDEX idx_post_created (created_at)
+  INDEX idx_post_created (created_at),
+  INDEX idx_post_like_created (like_count, created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 
@@ -225,3 +229,22 @@ CREATE TABLE post_likes (
   INDEX idx_like_post (post_id),
   INDEX idx_like_user (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+
+-- 13) CHAT_MESSAGES (AI 채팅 대화 기록, 세션별 append-only, 비로그인 대화는 user_id NULL)
+-- 보관 기간이 지난 행은 created_at 기준으로 주기적으로 삭제 (chat.session.retention-days, guest-retention-hours)
+CREATE TABLE chat_messages (
+  id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+  session_id CHAR(36) NOT NULL,
+  user_id    BIGINT NULL,
+  seq        INT NOT NULL,
+  role       VARCHAR(10) NOT NULL,
+  content    TEXT NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_chat_user
+    FOREIGN KEY (user_id) REFERENCES users(id)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_chat_session_seq (session_id, seq),
+  INDEX idx_chat_user (user_id),
+  INDEX idx_chat_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;